@@ -0,0 +1,46 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.dto.board.EmotionFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * 공유게시판 목록(BoardService.getBoardImages)의 emo 파라미터 파싱 비용
+ * - splitParallelStream : 기존 방식, split 후 parallel stream 으로 Long 목록 생성
+ * - emotionFilter : EmotionFilter 비트마스크 파싱, 전체 선택이 아닐 때만 IN 절용 id 목록 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmotionFilterBenchmark {
+
+    @Param({"1", "1,3,5", "1,2,3,4,5,6"})
+    private String emo;
+
+    @Benchmark
+    public List<Long> splitParallelStream() {
+        return Arrays.stream(emo.split(",")).parallel().mapToLong(Long::parseLong).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object emotionFilter() {
+        EmotionFilter emotionFilter = EmotionFilter.parse(emo);
+        return emotionFilter.isAll() ? emotionFilter : emotionFilter.getIds();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.dto.graph.GraphResponseDto;
+import com.example.emotrak.entity.Emotion;
+import com.example.emotrak.entity.EmotionStat;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.repository.EmotionRepository;
+import com.example.emotrak.repository.EmotionStatRepository;
+import com.example.emotrak.service.GraphService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 감정 그래프(GraphService.graph) 응답 조립 비용 (DB 조회 제외)
+ * 12개월 x 감정 6종이 모두 채워진 emotion_stat 행으로 월별 평균 별점/비율 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+    static final int YEAR = 2023;
+
+    private GraphService graphService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        graphService = graphService();
+        user = new User("encodedPassword", "user12312@gmail.com", "비둘기", UserRoleEnum.USER);
+        user.setId(1L);
+    }
+
+    @Benchmark
+    public List<GraphResponseDto> graph() {
+        return graphService.graph(YEAR, user);
+    }
+
+    // 통계 조회만 가짜 저장소로 응답하는 GraphService (ResponseMessageBenchmark 에서도 사용)
+    static GraphService graphService() {
+        List<Emotion> emotions = new ArrayList<>();
+        List<EmotionStat> stats = new ArrayList<>();
+        for (long emotionId = 1; emotionId <= 6; emotionId++) {
+            emotions.add(new Emotion(emotionId, "emotion" + emotionId, emotionId <= 3 ? 1 : -1));
+            for (int month = 1; month <= 12; month++) {
+                int dailyCount = (int) (month + emotionId) % 5 + 1;
+                stats.add(new EmotionStat(null, 1L, YEAR, month, emotionId, dailyCount, dailyCount * 3L));
+            }
+        }
+        EmotionStatRepository emotionStatRepository = Stubs.of(EmotionStatRepository.class,
+                (method, args) -> method.equals("findAllByUserIdAndDailyYear") ? stats : null);
+        EmotionRepository emotionRepository = Stubs.of(EmotionRepository.class,
+                (method, args) -> method.equals("findAll") ? emotions : null);
+        return new GraphService(emotionStatRepository, emotionRepository, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.jwt.JwtAuthFilter;
+import com.example.emotrak.jwt.TokenProvider;
+import com.example.emotrak.repository.UserRepository;
+import com.example.emotrak.security.PrincipalCache;
+import com.example.emotrak.security.UserDetailsServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 인증이 필요한 요청마다 실행되는 JwtAuthFilter 비용
+ * Authorization 헤더에서 토큰 추출 -> 서명/만료 검증과 claims 파싱 -> 권한 목록 생성 -> 사용자 캐시 조회(캐시 적중)
+ * 요청/응답은 헤더와 속성만 다루는 가짜 구현, 사용자 조회는 첫 호출 이후 PrincipalCache 에서 응답
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+    // application.properties 의 jwt.secret.key 와 같은 길이의 테스트용 키
+    static final String SECRET_KEY = "7ZWt7ZW0OTntmZTsnbTtjIXtlZzqta3snYTrhIjrqLjshLjqs4TroZzrgpjslYTqsIDsnpDtm4zrpa3tlZzqsJzrsJzsnpDrpbzrp4zrk6TslrTqsIDsnpA=";
+    private static final String EMAIL = "user12312@gmail.com";
+
+    private JwtAuthFilter jwtAuthFilter;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private final FilterChain filterChain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        User user = new User("encodedPassword", EMAIL, "비둘기", UserRoleEnum.USER);
+        user.setId(1L);
+        UserRepository userRepository = Stubs.of(UserRepository.class,
+                (method, args) -> method.equals("findByEmail") ? Optional.of(user) : null);
+        PrincipalCache principalCache = new PrincipalCache(new UserDetailsServiceImpl(userRepository), 10000, 60);
+        TokenProvider tokenProvider = new TokenProvider(SECRET_KEY, null, principalCache);
+        jwtAuthFilter = new JwtAuthFilter(tokenProvider, principalCache);
+
+        String authorization = JwtAuthFilter.BEARER_PREFIX
+                + tokenProvider.generateAccessTokenDto(EMAIL, UserRoleEnum.USER, null).getAccessToken();
+        Map<String, Object> attributes = new HashMap<>();
+        request = Stubs.of(HttpServletRequest.class, (method, args) -> {
+            switch (method) {
+                case "getHeader":
+                    return JwtAuthFilter.AUTHORIZATION_HEADER.equals(args[0]) ? authorization : null;
+                case "getAttribute":
+                    return attributes.get((String) args[0]);
+                case "setAttribute":
+                    return attributes.put((String) args[0], args[1]);
+                case "removeAttribute":
+                    return attributes.remove((String) args[0]);
+                default:
+                    return null;
+            }
+        });
+        response = Stubs.of(HttpServletResponse.class, (method, args) -> null);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        jwtAuthFilter.doFilter(request, response, filterChain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
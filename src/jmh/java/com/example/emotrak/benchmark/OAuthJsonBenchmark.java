@@ -0,0 +1,69 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.dto.oauth.KakaoUserInfoResponseDto;
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import com.example.emotrak.util.JsonMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 소셜 로그인 1회의 응답 파싱 비용 (토큰 응답 + 사용자 정보 응답)
+ * - perCallTree : 기존 방식, 호출마다 new ObjectMapper() 후 readTree 로 JsonNode 트리 생성
+ * - sharedTypedReader : 공용 ObjectReader 로 타입 DTO 에 바로 읽음
+ * op 당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (bytes/op) 으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OAuthJsonBenchmark {
+    private static final String TOKEN_RESPONSE = "{\"token_type\":\"bearer\",\"access_token\":\"sJ8yVq0mYjQh3kF2e1ZbNwXcTl9oRaPu\","
+            + "\"expires_in\":21599,\"refresh_token\":\"Yk2Lq8vNwP3sH7dF0gJcXm5RtAe9BzUi\",\"refresh_token_expires_in\":5183999,"
+            + "\"scope\":\"account_email profile_nickname\"}";
+    private static final String USER_INFO_RESPONSE = "{\"id\":2793840123,\"connected_at\":\"2023-04-20T08:15:31Z\","
+            + "\"properties\":{\"nickname\":\"비둘기\",\"profile_image\":\"http://k.kakaocdn.net/img_640x640.jpg\"},"
+            + "\"kakao_account\":{\"profile_nickname_needs_agreement\":false,\"profile\":{\"nickname\":\"비둘기\"},"
+            + "\"has_email\":true,\"email_needs_agreement\":false,\"is_email_valid\":true,\"is_email_verified\":true,"
+            + "\"email\":\"user12312@gmail.com\"}}";
+
+    private static final ObjectReader TOKEN_READER = JsonMappers.readerFor(OAuthTokenResponseDto.class);
+    private static final ObjectReader USER_INFO_READER = JsonMappers.readerFor(KakaoUserInfoResponseDto.class);
+
+    @Benchmark
+    public void perCallTree(Blackhole blackhole) throws Exception {
+        ObjectMapper tokenMapper = new ObjectMapper();
+        JsonNode token = tokenMapper.readTree(TOKEN_RESPONSE);
+        blackhole.consume(token.get("access_token").asText());
+
+        ObjectMapper userInfoMapper = new ObjectMapper();
+        JsonNode userInfo = userInfoMapper.readTree(USER_INFO_RESPONSE);
+        blackhole.consume(new OauthUserInfoDto(String.valueOf(userInfo.get("id").asLong()),
+                userInfo.get("kakao_account").get("email").asText(),
+                userInfo.get("properties").get("nickname").asText()));
+    }
+
+    @Benchmark
+    public void sharedTypedReader(Blackhole blackhole) throws Exception {
+        OAuthTokenResponseDto token = TOKEN_READER.readValue(TOKEN_RESPONSE);
+        blackhole.consume(token.getAccessToken());
+
+        KakaoUserInfoResponseDto userInfo = USER_INFO_READER.readValue(USER_INFO_RESPONSE);
+        blackhole.consume(userInfo.toOauthUserInfo());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.ResponseMessage;
+import com.example.emotrak.util.JsonMappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ResponseMessage 직렬화 비용 (응답 본문 생성)
+ * - perCallMapper : 요청마다 ObjectMapper 를 새로 만들어 직렬화 (직렬화기 캐시를 매번 다시 만듦)
+ * - sharedWriter : 미리 만든 ObjectWriter 재사용 (JsonMappers, Spring 의 메시지 컨버터와 같은 방식)
+ * 본문은 data 가 없는 성공 응답, 에러 응답, 감정 그래프(12개월 x 6종) 응답
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMessageBenchmark {
+    private static final ObjectWriter WRITER = JsonMappers.writerFor(ResponseMessage.class);
+
+    private Object emptyBody;
+    private Object errorBody;
+    private Object graphBody;
+
+    @Setup
+    public void setUp() {
+        User user = new User("encodedPassword", "user12312@gmail.com", "비둘기", UserRoleEnum.USER);
+        user.setId(1L);
+        emptyBody = ResponseMessage.successResponse(HttpStatus.OK, "닉네임 변경 성공", null).getBody();
+        errorBody = ResponseMessage.errorResponse(CustomErrorCode.USER_NOT_FOUND).getBody();
+        graphBody = ResponseMessage.successResponse(HttpStatus.OK, "그래프 조회 성공",
+                GraphBenchmark.graphService().graph(GraphBenchmark.YEAR, user)).getBody();
+    }
+
+    @Benchmark
+    public byte[] perCallMapperEmpty() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsBytes(emptyBody);
+    }
+
+    @Benchmark
+    public byte[] sharedWriterEmpty() throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(emptyBody);
+    }
+
+    @Benchmark
+    public byte[] sharedWriterError() throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(errorBody);
+    }
+
+    @Benchmark
+    public byte[] perCallMapperGraph() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsBytes(graphBody);
+    }
+
+    @Benchmark
+    public byte[] sharedWriterGraph() throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(graphBody);
+    }
+}
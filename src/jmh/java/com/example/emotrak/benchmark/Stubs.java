@@ -0,0 +1,39 @@
+package com.example.emotrak.benchmark;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.function.BiFunction;
+
+/*
+ * 벤치마크용 가짜 구현 (Spring 컨텍스트, DB, mock 라이브러리 없이 서비스 객체를 만들기 위함)
+ * 인터페이스의 메서드 호출을 answer(메서드 이름, 인자)로 처리하고, null 을 돌려주면 기본값(null, 0, false)
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    static <T> T of(Class<T> type, BiFunction<String, Object[], Object> answer) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1) return proxy == args[0];
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) return System.identityHashCode(proxy);
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) return "Stub(" + type.getSimpleName() + ")";
+                    break;
+                default:
+                    break;
+            }
+            Object result = answer.apply(method.getName(), args == null ? new Object[0] : args);
+            if (result == null && method.getReturnType().isPrimitive() && method.getReturnType() != void.class) {
+                return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+            }
+            return result;
+        });
+        return type.cast(stub);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.dto.user.TokenDto;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.jwt.RefreshTokenStore;
+import com.example.emotrak.jwt.TokenProvider;
+import com.example.emotrak.repository.RefreshTokenRepository;
+import com.example.emotrak.security.PrincipalCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 토큰 발급 비용 (DB 저장 제외)
+ * - generateTokenDto : 로그인, 액세스 + 리프레시 토큰 서명, 리프레시 토큰 해시 저장(메모리 캐시 갱신), 사용자 캐시 제거
+ * - generateAccessTokenDto : 리프레시 토큰으로 재발급, 액세스 토큰 서명만
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenProviderBenchmark {
+    private TokenProvider tokenProvider;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        RefreshTokenRepository refreshTokenRepository = Stubs.of(RefreshTokenRepository.class,
+                (method, args) -> method.equals("save") ? args[0] : null);
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, 10000, 300);
+        PrincipalCache principalCache = new PrincipalCache(null, 10000, 60);
+        tokenProvider = new TokenProvider(JwtAuthFilterBenchmark.SECRET_KEY, refreshTokenStore, principalCache);
+
+        user = new User("encodedPassword", "user12312@gmail.com", "비둘기", UserRoleEnum.USER);
+        user.setId(1L);
+    }
+
+    @Benchmark
+    public TokenDto generateTokenDto() {
+        return tokenProvider.generateTokenDto(user, UserRoleEnum.USER);
+    }
+
+    @Benchmark
+    public TokenDto generateAccessTokenDto() {
+        return tokenProvider.generateAccessTokenDto(user.getEmail(), UserRoleEnum.USER, "refresh-token");
+    }
+}
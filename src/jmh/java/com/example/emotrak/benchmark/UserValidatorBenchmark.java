@@ -0,0 +1,71 @@
+package com.example.emotrak.benchmark;
+
+import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.service.UserValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ * 회원가입 입력 검증 비용 (DB 조회 단계 제외)
+ * - perCallCompile : 기존 방식, 요청마다 이메일/닉네임/비밀번호 정규식을 Pattern.compile
+ * - precompiled : UserValidator 의 미리 컴파일된 정규식
+ * - hashFirstInvalidPassword / validateFirstInvalidPassword : 형식이 틀린 비밀번호로 가입할 때
+ *   기존 순서(BCrypt 암호화 후 형식 검사)와 UserValidator 순서(형식 검사에서 바로 실패) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidatorBenchmark {
+    private static final String EMAIL = "user12312@gmail.com";
+    private static final String NICKNAME = "비둘기5";
+    private static final String PASSWORD = "qwer1234!";
+    private static final String INVALID_PASSWORD = "1234";
+
+    // DB 단계는 측정하지 않으므로 형식 검사만 사용
+    private final UserValidator userValidator = new UserValidator(null, null, null);
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    @Benchmark
+    public void perCallCompile(Blackhole blackhole) {
+        blackhole.consume(Pattern.compile("^[A-Za-z0-9_\\.\\-]+@[A-Za-z0-9\\-]+\\.[A-Za-z0-9\\-]+$").matcher(EMAIL).find());
+        blackhole.consume(Pattern.compile("^[ㄱ-ㅎ|가-힣|a-z|A-Z|\\d$@!%*#?&()^]{1,8}$").matcher(NICKNAME).find());
+        blackhole.consume(Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d|$@!%*#?&()^]{8,15}$").matcher(PASSWORD).find());
+    }
+
+    @Benchmark
+    public void precompiled() {
+        userValidator.checkEmail(EMAIL);
+        userValidator.checkNickname(NICKNAME);
+        userValidator.checkPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public void hashFirstInvalidPassword(Blackhole blackhole) {
+        blackhole.consume(encoder.encode(INVALID_PASSWORD));
+        blackhole.consume(Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d|$@!%*#?&()^]{8,15}$").matcher(INVALID_PASSWORD).find());
+    }
+
+    @Benchmark
+    public void validateFirstInvalidPassword(Blackhole blackhole) {
+        try {
+            userValidator.checkPassword(INVALID_PASSWORD);
+        } catch (CustomException e) {
+            blackhole.consume(e);
+        }
+    }
+}
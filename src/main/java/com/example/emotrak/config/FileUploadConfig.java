@@ -9,6 +9,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
@@ -35,4 +40,32 @@ public class FileUploadConfig {
                 .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
                 .build();
     }
+
+    /*
+     * S3 멀티파트 업로드의 파트 전송 전용 스레드풀
+     * 스레드 수와 대기열 크기를 제한 (대기열 크기는 S3MultipartUploader 가 메모리에 올리는 파트 수 한도와 같아서 넘치지 않음)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3UploadExecutor(@Value("${app.s3-upload.threads:8}") int threads,
+                                            @Value("${app.s3-upload.max-buffered-parts:16}") int maxBufferedParts) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxBufferedParts),
+                new CustomizableThreadFactory("s3-upload-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /*
+     * 썸네일 생성 등 이미지 처리 전용 스레드풀 (CPU 작업이므로 스레드 수를 작게 유지)
+     * 대기열이 가득 차면 작업을 거절하고, 업로드는 파생 이미지 없이 진행
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService imageProcessingExecutor(@Value("${app.image.processing-threads:2}") int threads,
+                                                   @Value("${app.image.processing-queue:16}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-processing-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
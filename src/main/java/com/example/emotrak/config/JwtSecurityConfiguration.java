@@ -2,7 +2,7 @@ package com.example.emotrak.config;
 
 import com.example.emotrak.jwt.JwtAuthFilter;
 import com.example.emotrak.jwt.TokenProvider;
-import com.example.emotrak.security.UserDetailsServiceImpl;
+import com.example.emotrak.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,13 +13,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class JwtSecurityConfiguration
         extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
-    private final String SECRET_KEY;
     private final TokenProvider tokenProvider;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     public void configure(HttpSecurity httpSecurity){
-        JwtAuthFilter customJwtFilter = new JwtAuthFilter(SECRET_KEY,tokenProvider,userDetailsService);
+        JwtAuthFilter customJwtFilter = new JwtAuthFilter(tokenProvider, principalCache);
         httpSecurity.addFilterBefore(customJwtFilter, UsernamePasswordAuthenticationFilter.class);
     }
 
@@ -1,15 +1,141 @@
 package com.example.emotrak.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 외부(OAuth 제공자) API 호출용 HTTP 클라이언트 설정
+ * - 커넥션 풀 (전체/호스트별 최대 커넥션) 과 keep-alive 로 로그인마다 TCP/TLS 연결을 새로 맺지 않음
+ * - connect/read/풀 대기 timeout 으로 제공자 장애 시 요청 스레드가 무한정 묶이지 않도록 함
+ * - RestTemplate(동기) 와 같은 설정의 비동기(NIO) 클라이언트를 함께 제공 (OAuthHttpClient)
+ * - 메트릭 : RestTemplateBuilder 의 http.client.requests, 커넥션 풀 사용량 httpcomponents.httpclient.pool.*
+ */
 @Configuration
 public class RestTemplateConfig {
+    private static final String POOL_NAME = "oauth";
+    private static final String ASYNC_POOL_NAME = "oauth-async";
+
+    @Value("${app.oauth-http.max-total:100}")
+    private int maxTotal;
+    @Value("${app.oauth-http.max-per-route:20}")
+    private int maxPerRoute;
+    @Value("${app.oauth-http.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+    @Value("${app.oauth-http.read-timeout-ms:5000}")
+    private int readTimeoutMs;
+    // 풀에서 커넥션을 기다리는 최대 시간
+    @Value("${app.oauth-http.connection-request-timeout-ms:1000}")
+    private int connectionRequestTimeoutMs;
+    // 응답에 Keep-Alive 헤더가 없을 때 커넥션을 재사용할 최대 시간
+    @Value("${app.oauth-http.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oauthHttpClient(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(keepAliveSeconds, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        // 오래 쉬던 커넥션은 재사용 전에 상태 확인 (제공자 쪽에서 먼저 끊은 커넥션으로 요청하지 않도록)
+        connectionManager.setValidateAfterInactivity(2000);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveSeconds, TimeUnit.SECONDS)
+                .build();
+    }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient oauthHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(oauthHttpClient))
+                .build();
     }
 
+    // 응답을 기다리는 동안 스레드를 점유하지 않는 비동기 클라이언트 (풀/timeout 설정은 동기 클라이언트와 동일)
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient oauthHttpAsyncClient(MeterRegistry meterRegistry) throws IOReactorException {
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSoTimeout(readTimeoutMs)
+                .build();
+        PoolingNHttpClientConnectionManager connectionManager =
+                new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig));
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        Gauge.builder("httpcomponents.httpclient.pool.total.connections", connectionManager, m -> m.getTotalStats().getAvailable())
+                .tag("httpclient", ASYNC_POOL_NAME).tag("state", "available").register(meterRegistry);
+        Gauge.builder("httpcomponents.httpclient.pool.total.connections", connectionManager, m -> m.getTotalStats().getLeased())
+                .tag("httpclient", ASYNC_POOL_NAME).tag("state", "leased").register(meterRegistry);
+        Gauge.builder("httpcomponents.httpclient.pool.total.pending", connectionManager, m -> m.getTotalStats().getPending())
+                .tag("httpclient", ASYNC_POOL_NAME).register(meterRegistry);
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig())
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .build();
+        client.start();
+        return client;
+    }
+
+    /*
+     * 소셜 로그인의 DB 단계(유저 조회/가입, JWT 발급) 전용 스레드풀 (OAuthLoginEngine)
+     * 제공자 API 호출은 비동기 클라이언트가 처리하고, 이 풀은 스레드 수와 대기열 크기를 제한해
+     * 로그인이 몰려도 DB 커넥션과 요청 스레드를 모두 잡아먹지 않도록 함 (대기열이 가득 차면 거절)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService oauthLoginExecutor(@Value("${app.oauth-login.threads:8}") int threads,
+                                              @Value("${app.oauth-login.queue:100}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("oauth-login-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMs)
+                .build();
+    }
+
+    // 서버가 알려준 keep-alive 시간을 따르되, 없거나 더 길면 keepAliveSeconds 까지만 재사용
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        long maxKeepAliveMs = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+        return (response, context) -> {
+            long keepAliveMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAliveMs > 0 ? Math.min(keepAliveMs, maxKeepAliveMs) : maxKeepAliveMs;
+        };
+    }
 }
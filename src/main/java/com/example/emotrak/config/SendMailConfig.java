@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
@@ -22,9 +21,13 @@ public class SendMailConfig {
         private String host;
         @Value("${spring.mail.port}")
         private int port;
+        @Value("${app.mail.connect-timeout-ms:5000}")
+        private int connectTimeoutMs;
+        @Value("${app.mail.timeout-ms:10000}")
+        private int timeoutMs;
 
         @Bean
-        public JavaMailSender javaMailService() {
+        public JavaMailSenderImpl javaMailService() {
             JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
 
             javaMailSender.setHost(host); // smtp 서버 주소
@@ -44,6 +47,10 @@ public class SendMailConfig {
             properties.setProperty("mail.debug", "true"); // 디버그 사용
             properties.setProperty("mail.smtp.ssl.trust","smtp.mailplug.co.kr"); // ssl 인증 서버 주소
             properties.setProperty("mail.smtp.ssl.enable","true"); // ssl 사용
+            // 느린 smtp 서버가 발송 스레드(MailOutbox)를 오래 붙잡지 않도록 연결/응답 대기 시간 제한
+            properties.setProperty("mail.smtp.connectiontimeout", String.valueOf(connectTimeoutMs));
+            properties.setProperty("mail.smtp.timeout", String.valueOf(timeoutMs));
+            properties.setProperty("mail.smtp.writetimeout", String.valueOf(timeoutMs));
             return properties;
         }
     }
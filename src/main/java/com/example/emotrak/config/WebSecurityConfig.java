@@ -3,9 +3,8 @@ package com.example.emotrak.config;
 import com.example.emotrak.jwt.TokenProvider;
 import com.example.emotrak.security.CustomAccessDeniedHandler;
 import com.example.emotrak.security.CustomAuthenticationEntryPoint;
-import com.example.emotrak.security.UserDetailsServiceImpl;
+import com.example.emotrak.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.security.ConditionalOnDefaultWebSecurity;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
@@ -32,10 +31,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebSecurityConfig {
 
-    @Value("${jwt.secret.key}")
-    String SECRET_KEY;
     private final TokenProvider tokenProvider;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     @Bean
@@ -59,15 +56,16 @@ public class WebSecurityConfig {
         // 기본 설정인 Session 방식은 사용하지 않고 JWT 방식을 사용하기 위한 설정
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
 
-        http.authorizeRequests().antMatchers(HttpMethod.POST, "/users/signup","/users/mail-confirm", "/users/em-check", "/users/nick-check", "/users/login", "/users/refresh-token").permitAll()
+        http.authorizeRequests().antMatchers(HttpMethod.POST, "/users/signup","/users/mail-confirm", "/users/mail-verify", "/users/em-check", "/users/nick-check", "/users/login", "/users/refresh-token").permitAll()
                 .antMatchers("/kakao/callback","/naver/callback","/google/callback").permitAll()
                 .antMatchers(HttpMethod.GET,"/boards", "/boards/{boardId}").permitAll()
                 .antMatchers("/admin/**").hasAnyAuthority("ADMIN")
                 .antMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**").permitAll()
                 .antMatchers("/health-check").permitAll()
+                .antMatchers("/actuator/**").hasAnyAuthority("ADMIN")
                 .anyRequest().authenticated()
                 // JWT 인증/인가를 사용하기 위한 설정 (리프레쉬토큰 설정)
-                .and().apply(new JwtSecurityConfiguration(SECRET_KEY, tokenProvider, userDetailsService));
+                .and().apply(new JwtSecurityConfiguration(tokenProvider, principalCache));
 
         http.cors();
 
@@ -2,6 +2,7 @@ package com.example.emotrak.controller;
 
 import com.example.emotrak.service.EmailSendService;
 import com.example.emotrak.dto.user.CheckEmailRequestDto;
+import com.example.emotrak.dto.user.EmailVerifyRequestDto;
 import com.example.emotrak.exception.ResponseMessage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,9 +23,17 @@ public class AccountController {
     @Operation(summary = "이메일 컨펌 체크", description = "회원 가입에 필요한 이메일주소를 메일샌드로 체크합니다.")
     @PostMapping("/users/mail-confirm")
     @ResponseBody
-    public ResponseEntity<?> mailConfirm(@RequestBody CheckEmailRequestDto checkEmailRequestDto) throws Exception {
-        String code = emailSendService.sendSimpleMessage(checkEmailRequestDto);
-//        log.info("인증코드 : " + code);
-        return ResponseMessage.successResponse(HttpStatus.OK, "이메일 인증 번호", code);
+    public ResponseEntity<?> mailConfirm(@RequestBody CheckEmailRequestDto checkEmailRequestDto) {
+        emailSendService.sendSimpleMessage(checkEmailRequestDto);
+        return ResponseMessage.successResponse(HttpStatus.OK, "이메일 인증 번호 발송", null);
+    }
+
+    @Tag(name = "Users")
+    @Operation(summary = "이메일 인증 번호 확인", description = "메일로 받은 인증 번호를 확인합니다. 확인된 이메일로만 회원가입할 수 있습니다.")
+    @PostMapping("/users/mail-verify")
+    @ResponseBody
+    public ResponseEntity<?> mailVerify(@RequestBody EmailVerifyRequestDto emailVerifyRequestDto) {
+        emailSendService.verifyCode(emailVerifyRequestDto);
+        return ResponseMessage.successResponse(HttpStatus.OK, "이메일 인증 완료", null);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.emotrak.controller;
 
 import com.example.emotrak.service.AdminService;
+import com.example.emotrak.service.GraphService;
 import com.example.emotrak.exception.ResponseMessage;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final GraphService graphService;
 
     @Tag(name = "Admin")
     @Operation(summary = "신고 게시물 조회", description = "신고한 게시물들을 조회합니다")
@@ -88,4 +90,15 @@ public class AdminController {
         return ResponseMessage.successResponse(HttpStatus.OK, "신고 삭제 완료", null);
     }
 
+    @Tag(name = "Admin")
+    @Operation(summary = "그래프 집계 재생성", description = "감정글 데이터로 그래프 집계 테이블을 다시 만듭니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "그래프 집계 재생성 완료", response = ResponseMessage.class ),
+            @ApiResponse(code = 403, message = "권한이 없습니다", response = ResponseMessage.class )
+    })
+    @PostMapping("/admin/graph/rebuild")
+    public ResponseEntity<?> rebuildGraph(){
+        return ResponseMessage.successResponse(HttpStatus.OK, "그래프 집계 재생성 완료", graphService.rebuild());
+    }
+
 }
@@ -61,24 +61,34 @@ public class BoardController {
     }
 
     @Tag(name = "Board")
-    @Operation(summary = "공유게시판 전체 조회", description = "이미지")
+    @Operation(summary = "공유게시판 전체 조회", description = "이미지, cursor 를 전달하면 커서 방식으로 다음 페이지 조회")
     @GetMapping("/boards")
     public ResponseEntity<?> getBoardImages(@RequestParam(value = "page", defaultValue = "1") int page
                                           , @RequestParam(value = "size", defaultValue = "24") int size
                                           , @RequestParam(value = "emo", defaultValue = "1,2,3,4,5,6") String emo
                                           , @RequestParam(value = "sort", defaultValue = "recent") String sort
+                                          , @RequestParam(value = "cursor", required = false) String cursor
                                           , @ApiIgnore @AuthenticationPrincipal UserDetailsImpl userDetails) {
         User user = (userDetails != null) ? userDetails.getUser() : null;
+        // 커서가 전달되면 page 대신 커서 이후의 글을 조회
+        if (cursor != null && !cursor.isBlank()) {
+            return ResponseMessage.successResponse(HttpStatus.OK, "조회 완료", boardService.getBoardImagesByCursor(cursor, size, emo, sort, user));
+        }
         return ResponseMessage.successResponse(HttpStatus.OK, "조회 완료", boardService.getBoardImages(page, size, emo, sort, user));
     }
 
     @Tag(name = "Board")
-    @Operation(summary = "공유게시판 상세페이지 조회", description = "댓글 20개 기준 페이징처리")
+    @Operation(summary = "공유게시판 상세페이지 조회", description = "댓글 20개 기준 페이징처리, cursor(응답의 nextCursor)를 전달하면 그 다음 댓글부터 조회")
     @GetMapping(value = "/boards/{boardId}")
     public ResponseEntity<?> getBoardDetails(@PathVariable Long boardId,
                                              @RequestParam(value = "page", defaultValue = "1") int page,
+                                             @RequestParam(value = "cursor", required = false) String cursor,
                                              @ApiIgnore @AuthenticationPrincipal UserDetailsImpl userDetails) {
         User user = (userDetails != null) ? userDetails.getUser() : null;
+        // 커서가 전달되면 page 대신 커서 이후의 댓글을 조회
+        if (cursor != null && !cursor.isBlank()) {
+            return ResponseMessage.successResponse(HttpStatus.OK, "상세 조회 성공", boardService.getBoardDetailAfter(boardId, user, cursor));
+        }
         return ResponseMessage.successResponse(HttpStatus.OK, "상세 조회 성공", boardService.getBoardDetail(boardId, user, page));
     }
 
@@ -2,7 +2,6 @@ package com.example.emotrak.controller;
 
 import com.example.emotrak.service.GoogleService;
 import com.example.emotrak.exception.ResponseMessage;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -10,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,11 +21,12 @@ public class GoogleController {
     @Tag(name = "Oauth2")
     @Operation(summary = "구글 로그인", description = "소셜로그인")
     @GetMapping("/google/callback")
-    public ResponseEntity<?> googleLogin(@RequestParam String code,
-                                         @RequestParam String scope,
-                                         HttpServletResponse response) throws JsonProcessingException {
-        googleService.googleLogin(code, scope, response);
-        return ResponseMessage.successResponse(HttpStatus.OK, "구글 로그인 완료", null);
+    public CompletableFuture<ResponseEntity<?>> googleLogin(@RequestParam String code,
+                                                            @RequestParam String scope,
+                                                            HttpServletResponse response) {
+        // 제공자 API 응답을 기다리는 동안 요청 스레드를 반환 (비동기 응답)
+        return googleService.googleLogin(code, scope, response)
+                .thenApply(v -> ResponseMessage.successResponse(HttpStatus.OK, "구글 로그인 완료", null));
     }
 
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.example.emotrak.controller;
 
 import com.example.emotrak.service.KakaoService;
 import com.example.emotrak.exception.ResponseMessage;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,9 +21,10 @@ public class KakaoController {
     @Tag(name = "Oauth2")
     @Operation(summary = "카카오로그인", description = "소셜로그인")
     @GetMapping("/kakao/callback")
-    public ResponseEntity<?> kakaoLogin(@RequestParam String code, HttpServletResponse response) throws JsonProcessingException {
-        kakaoService.kakaoLogin(code, response);
-        return ResponseMessage.successResponse(HttpStatus.OK, "카카오 로그인 완료", null);
+    public CompletableFuture<ResponseEntity<?>> kakaoLogin(@RequestParam String code, HttpServletResponse response) {
+        // 제공자 API 응답을 기다리는 동안 요청 스레드를 반환 (비동기 응답)
+        return kakaoService.kakaoLogin(code, response)
+                .thenApply(v -> ResponseMessage.successResponse(HttpStatus.OK, "카카오 로그인 완료", null));
     }
 
 }
\ No newline at end of file
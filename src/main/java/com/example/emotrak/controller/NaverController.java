@@ -2,7 +2,6 @@ package com.example.emotrak.controller;
 
 import com.example.emotrak.service.NaverService;
 import com.example.emotrak.exception.ResponseMessage;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,10 +21,11 @@ public class NaverController {
     @Tag(name = "Oauth2")
     @Operation(summary = "네이버로그인", description = "소셜 로그인")
     @GetMapping("/naver/callback")
-    public ResponseEntity<?> naverLogin(@RequestParam String code,
-                                        @RequestParam String state, HttpServletResponse response) throws JsonProcessingException {
-        naverService.naverLogin(code,state,response);
-        return ResponseMessage.successResponse(HttpStatus.OK, "네이버 로그인 완료", null);
+    public CompletableFuture<ResponseEntity<?>> naverLogin(@RequestParam String code,
+                                                           @RequestParam String state, HttpServletResponse response) {
+        // 제공자 API 응답을 기다리는 동안 요청 스레드를 반환 (비동기 응답)
+        return naverService.naverLogin(code, state, response)
+                .thenApply(v -> ResponseMessage.successResponse(HttpStatus.OK, "네이버 로그인 완료", null));
     }
 
 }
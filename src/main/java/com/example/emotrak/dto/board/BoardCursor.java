@@ -0,0 +1,51 @@
+package com.example.emotrak.dto.board;
+
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/*
+ * 공유게시판 커서 페이지네이션용 커서
+ * 최신순/내 글 : "createdAt,id"
+ * 인기순      : "likeCount,createdAt,id"
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩한 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class BoardCursor {
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static BoardCursor from(BoardImgRequestDto last, boolean popular) {
+        return new BoardCursor(popular ? last.getLikeCount() : null, last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        if (likeCount != null) {
+            raw = likeCount + "," + raw;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String cursor, boolean popular) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",");
+            if (popular && parts.length == 3) {
+                return new BoardCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            }
+            if (!popular && parts.length == 2) {
+                return new BoardCursor(null, LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            }
+        } catch (RuntimeException e) {
+            // Base64, 숫자, 날짜 파싱 실패는 모두 잘못된 커서로 처리
+        }
+        throw new CustomException(CustomErrorCode.INVALID_CURSOR);
+    }
+}
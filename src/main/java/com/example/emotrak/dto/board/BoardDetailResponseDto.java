@@ -6,7 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 
 @Getter
@@ -29,13 +29,16 @@ public class BoardDetailResponseDto {
     private boolean restrict;
     private boolean hasLike;
     private boolean lastPage; // 마지막 페이지 여부
+    private String nextCursor; // 댓글 더 보기용 커서 (마지막 페이지면 null)
     private boolean draw;
     private boolean hasReport; // 게시물을 신고했는지 여부
     private int totalComments; // 게시글의 전체 댓글 수
     @JsonProperty("comments")
     private List<CommentDetailDto> commentDetailDtoList;
 
-    public BoardDetailResponseDto(BoardGetDetailDto boardGetDetailDto, Page<CommentDetailDto> commentDetailDtoPage) {
+    // 조회자의 좋아요/신고 여부(hasLike, hasReport)는 ViewerStateService 로 따로 조회한 값
+    public BoardDetailResponseDto(BoardGetDetailDto boardGetDetailDto, Slice<CommentDetailDto> commentDetailDtoPage,
+                                  boolean hasLike, boolean hasReport) {
         this.id = boardGetDetailDto.getDailyId();
         this.date = boardGetDetailDto.getCreatedAt();
         this.year = boardGetDetailDto.getYear();
@@ -50,10 +53,10 @@ public class BoardDetailResponseDto {
         this.nickname = boardGetDetailDto.getNickname();
         this.likesCnt =  boardGetDetailDto.getLikeCount();
         this.restrict = boardGetDetailDto.getHasRestrict();
-        this.hasLike = boardGetDetailDto.getHasLike();
+        this.hasLike = hasLike;
         this.lastPage = !commentDetailDtoPage.hasNext();
         this.draw = boardGetDetailDto.getDraw();
-        this.hasReport = boardGetDetailDto.getHasReport();
+        this.hasReport = hasReport;
         this.totalComments = boardGetDetailDto.getCommentCount();
     }
 
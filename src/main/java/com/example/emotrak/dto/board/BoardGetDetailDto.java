@@ -16,9 +16,7 @@ public interface BoardGetDetailDto {
     String getNickname();
     int getLikeCount();
     boolean getHasRestrict();
-    boolean getHasLike();
     boolean getDraw();
-    boolean getHasReport();
     int getCommentCount();
 
     void setShare(boolean share);
@@ -36,8 +34,6 @@ public interface BoardGetDetailDto {
     void setNickname(String nickname);
     void setLikeCount(int likeCount);
     void setHasRestrict(boolean hasRestrict);
-    void setHasLike(boolean hasLike);
     void setDraw(boolean draw);
-    void setHasReport(boolean hasReport);
     void setCommentCount(int commentCount);
 }
\ No newline at end of file
@@ -16,9 +16,7 @@ public class BoardGetDetailDtoImpl implements BoardGetDetailDto {
     private String nickname;
     private int likeCount;
     private boolean hasRestrict;
-    private boolean hasLike;
     private boolean draw;
-    private boolean hasReport;
     private int commentCount;
 
     @Override
@@ -96,21 +94,11 @@ public class BoardGetDetailDtoImpl implements BoardGetDetailDto {
         return hasRestrict;
     }
 
-    @Override
-    public boolean getHasLike() {
-        return hasLike;
-    }
-
     @Override
     public boolean getDraw() {
         return draw;
     }
 
-    @Override
-    public boolean getHasReport() {
-        return hasReport;
-    }
-
     @Override
     public int getCommentCount() {
         return commentCount;
@@ -191,21 +179,11 @@ public class BoardGetDetailDtoImpl implements BoardGetDetailDto {
         this.hasRestrict = hasRestrict;
     }
 
-    @Override
-    public void setHasLike(boolean hasLike) {
-        this.hasLike = hasLike;
-    }
-
     @Override
     public void setDraw(boolean draw) {
         this.draw = draw;
     }
 
-    @Override
-    public void setHasReport(boolean hasReport) {
-        this.hasReport = hasReport;
-    }
-
     @Override
     public void setCommentCount(int commentCount) {
         this.commentCount = commentCount;
@@ -4,7 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 
 @Getter
@@ -12,11 +12,23 @@ import java.util.List;
 @NoArgsConstructor
 public class BoardImgPageRequestDto {
     private boolean lastPage;
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
     @JsonProperty("contents")
     private List<BoardImgRequestDto> boardImgRequestDtoList;
 
-    public BoardImgPageRequestDto(Page<BoardImgRequestDto> boardImgRequestDtoList) {
+    // Slice 는 size + 1 건을 조회해서 다음 페이지 여부를 판단하므로 count 쿼리가 필요 없음
+    public BoardImgPageRequestDto(Slice<BoardImgRequestDto> boardImgRequestDtoList) {
+        this(boardImgRequestDtoList, false);
+    }
+
+    public BoardImgPageRequestDto(Slice<BoardImgRequestDto> boardImgRequestDtoList, boolean popular) {
         this.lastPage = !boardImgRequestDtoList.hasNext();
         this.boardImgRequestDtoList = boardImgRequestDtoList.getContent();
+        if (!lastPage && !this.boardImgRequestDtoList.isEmpty()) {
+            BoardImgRequestDto last = this.boardImgRequestDtoList.get(this.boardImgRequestDtoList.size() - 1);
+            if (last.getCreatedAt() != null) {
+                this.nextCursor = BoardCursor.from(last, popular).encode();
+            }
+        }
     }
 }
@@ -1,9 +1,11 @@
 package com.example.emotrak.dto.board;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -12,7 +14,20 @@ import lombok.Setter;
 public class BoardImgRequestDto {
     private Long Id;
     private String imgUrl;
+    private String thumbUrl; // 그리드용 썸네일 (생성되지 않았으면 null 이므로 imgUrl 사용)
     private String nickname;
     private Long emoId;
 
+    // 다음 페이지 커서 생성용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime createdAt;
+    @JsonIgnore
+    private Integer likeCount;
+
+    public BoardImgRequestDto(Long id, String imgUrl, String nickname, Long emoId) {
+        this.Id = id;
+        this.imgUrl = imgUrl;
+        this.nickname = nickname;
+        this.emoId = emoId;
+    }
 }
@@ -0,0 +1,75 @@
+package com.example.emotrak.dto.board;
+
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 공유게시판 감정 필터
+ * "1,2,3" 형태의 emo 파라미터를 감정 id(1~6) 비트마스크로 보관
+ * - 순서/중복과 상관없이 같은 필터는 같은 mask 를 가지므로 캐시 키로 사용
+ * - 여섯 감정을 모두 고르면 isAll() 이 true 이고, 이때는 IN 절 없이 조회
+ */
+public class EmotionFilter {
+    public static final int EMOTION_COUNT = 6;
+    private static final int ALL_MASK = ((1 << EMOTION_COUNT) - 1) << 1;
+
+    private final int mask;
+
+    private EmotionFilter(int mask) {
+        this.mask = mask;
+    }
+
+    public static EmotionFilter parse(String emo) {
+        int mask = 0;
+        int start = 0;
+        int length = emo.length();
+        while (start <= length) {
+            int end = emo.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            mask |= 1 << parseId(emo, start, end);
+            start = end + 1;
+        }
+        return new EmotionFilter(mask);
+    }
+
+    private static int parseId(String emo, int start, int end) {
+        // 앞뒤 공백 허용
+        while (start < end && emo.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && emo.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end - start != 1) {
+            throw new CustomException(CustomErrorCode.INVALID_EMOTION_FILTER);
+        }
+        int id = emo.charAt(start) - '0';
+        if (id < 1 || id > EMOTION_COUNT) {
+            throw new CustomException(CustomErrorCode.INVALID_EMOTION_FILTER);
+        }
+        return id;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean isAll() {
+        return mask == ALL_MASK;
+    }
+
+    // IN 절 파라미터용 감정 id 목록 (오름차순)
+    public List<Long> getIds() {
+        List<Long> ids = new ArrayList<>(Integer.bitCount(mask));
+        for (int id = 1; id <= EMOTION_COUNT; id++) {
+            if ((mask & (1 << id)) != 0) {
+                ids.add((long) id);
+            }
+        }
+        return ids;
+    }
+}
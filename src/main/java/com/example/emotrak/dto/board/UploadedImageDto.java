@@ -0,0 +1,15 @@
+package com.example.emotrak.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 업로드한 원본 이미지와 파생 이미지(썸네일, 압축본) URL
+@Getter
+@AllArgsConstructor
+public class UploadedImageDto {
+    public static final UploadedImageDto EMPTY = new UploadedImageDto(null, null, null);
+
+    private String imgUrl;
+    private String thumbUrl;
+    private String displayUrl;
+}
@@ -0,0 +1,43 @@
+package com.example.emotrak.dto.comment;
+
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/*
+ * 게시글 상세 댓글 더 보기용 커서 : "createdAt,id"
+ * 마지막 댓글의 작성 시각과 id 를 그대로 담으므로 그 댓글이 삭제되어도 다음 댓글부터 이어서 조회
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩한 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static CommentCursor from(CommentDetailDto last) {
+        return new CommentCursor(LocalDateTime.parse(last.getCursorCreatedAt()), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",");
+            if (parts.length == 2) {
+                return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            }
+        } catch (RuntimeException e) {
+            // Base64, 숫자, 날짜 파싱 실패는 모두 잘못된 커서로 처리
+        }
+        throw new CustomException(CustomErrorCode.INVALID_CURSOR);
+    }
+}
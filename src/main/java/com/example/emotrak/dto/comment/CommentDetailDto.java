@@ -1,5 +1,7 @@
 package com.example.emotrak.dto.comment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public interface CommentDetailDto {
     Long getId();
     String getComment();
@@ -9,6 +11,8 @@ public interface CommentDetailDto {
     int getLikesCnt();
     boolean getHasLike();
     boolean getHasReport(); // 댓글을 신고했는지 여부
+    @JsonIgnore
+    String getCursorCreatedAt(); // 댓글 더 보기 커서용 작성 시각 (마이크로초까지, 응답에는 포함하지 않음)
 
     void setId(Long id);
     void setComment(String comment);
@@ -18,4 +22,5 @@ public interface CommentDetailDto {
     void setLikesCnt(int likesCnt);
     void setHasLike(boolean hasLike);
     void setHasReport(boolean hasReport);
+    void setCursorCreatedAt(String cursorCreatedAt);
 }
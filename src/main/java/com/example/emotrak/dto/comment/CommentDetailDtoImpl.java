@@ -9,6 +9,7 @@ public class CommentDetailDtoImpl implements CommentDetailDto {
     private int likesCnt;
     private boolean hasLike;
     private boolean hasReport;
+    private String cursorCreatedAt;
 
     @Override
     public Long getId() {
@@ -50,6 +51,11 @@ public class CommentDetailDtoImpl implements CommentDetailDto {
         return hasReport;
     }
 
+    @Override
+    public String getCursorCreatedAt() {
+        return cursorCreatedAt;
+    }
+
     @Override
     public void setId(Long id) {
         this.id = id;
@@ -89,4 +95,9 @@ public class CommentDetailDtoImpl implements CommentDetailDto {
     public void setHasReport(boolean hasReport) {
         this.hasReport = hasReport;
     }
+
+    @Override
+    public void setCursorCreatedAt(String cursorCreatedAt) {
+        this.cursorCreatedAt = cursorCreatedAt;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.emotrak.dto.graph;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -7,14 +8,9 @@ import lombok.Setter;
 @Setter
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class GraphPercentageDto {
     private Long id;
     private float count;
     private float percentage;
-
-    public GraphPercentageDto(GraphQueryDto graphQueryDto) {
-        this.id = graphQueryDto.getId();
-        this.count = graphQueryDto.getCount();
-        this.percentage = graphQueryDto.getPercentage();
-    }
 }
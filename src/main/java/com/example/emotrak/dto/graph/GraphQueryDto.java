@@ -1,8 +0,0 @@
-package com.example.emotrak.dto.graph;
-
-public interface GraphQueryDto {
-    int getMonth();
-    Long getId();
-    float getCount();
-    float getPercentage();
-}
@@ -0,0 +1,19 @@
+package com.example.emotrak.dto.oauth;
+
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 구글 사용자 정보 응답 (https://www.googleapis.com/oauth2/v3/userinfo)
+@Getter
+@NoArgsConstructor
+public class GoogleUserInfoResponseDto {
+    private String sub;
+    private String email;
+    private String name;
+
+    // 이름을 공개하지 않은 계정은 "google" 로 가입
+    public OauthUserInfoDto toOauthUserInfo() {
+        return new OauthUserInfoDto(sub, email, name != null ? name : "google");
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.emotrak.dto.oauth;
+
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 카카오 사용자 정보 응답 (https://kapi.kakao.com/v2/user/me)
+@Getter
+@NoArgsConstructor
+public class KakaoUserInfoResponseDto {
+    private Long id;
+    private Properties properties;
+    @JsonProperty("kakao_account")
+    private KakaoAccount kakaoAccount;
+
+    public OauthUserInfoDto toOauthUserInfo() {
+        return new OauthUserInfoDto(String.valueOf(id), kakaoAccount.getEmail(), properties.getNickname());
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Properties {
+        private String nickname;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class KakaoAccount {
+        private String email;
+    }
+}
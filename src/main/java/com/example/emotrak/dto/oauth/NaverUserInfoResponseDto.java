@@ -0,0 +1,24 @@
+package com.example.emotrak.dto.oauth;
+
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 네이버 사용자 정보 응답 (https://openapi.naver.com/v1/nid/me)
+@Getter
+@NoArgsConstructor
+public class NaverUserInfoResponseDto {
+    private Response response;
+
+    public OauthUserInfoDto toOauthUserInfo() {
+        return new OauthUserInfoDto(response.getId(), response.getEmail(), response.getNickname());
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Response {
+        private String id;
+        private String email;
+        private String nickname;
+    }
+}
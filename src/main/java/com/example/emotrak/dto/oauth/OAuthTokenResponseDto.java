@@ -0,0 +1,21 @@
+package com.example.emotrak.dto.oauth;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 인가 코드/리프레시 토큰으로 발급받은 토큰 응답 (카카오, 네이버, 구글 공통)
+@Getter
+@NoArgsConstructor
+public class OAuthTokenResponseDto {
+    @JsonProperty("access_token")
+    private String accessToken;
+    // 카카오는 사용하지 않고, 구글은 최초 동의 시에만 내려줌
+    @JsonProperty("refresh_token")
+    private String refreshToken;
+
+    public OAuthTokenResponseDto(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
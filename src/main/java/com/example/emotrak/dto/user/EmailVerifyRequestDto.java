@@ -0,0 +1,18 @@
+package com.example.emotrak.dto.user;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailVerifyRequestDto {
+
+    @ApiModelProperty(value = "인증 메일을 받은 이메일 주소", required = true, example = "이메일 예시")
+    private String email;
+
+    @ApiModelProperty(value = "메일로 받은 인증 코드", required = true, example = "123456")
+    private String code;
+}
@@ -0,0 +1,18 @@
+package com.example.emotrak.dto.viewer;
+
+/*
+ * 조회자 좋아요/신고 내역 한 건
+ * kind : 1 게시글 좋아요, 2 게시글 신고, 3 댓글 좋아요, 4 댓글 신고
+ */
+public interface ViewerFlagDto {
+    int DAILY_LIKE = 1;
+    int DAILY_REPORT = 2;
+    int COMMENT_LIKE = 3;
+    int COMMENT_REPORT = 4;
+
+    int getKind();
+    Long getTargetId();
+
+    void setKind(int kind);
+    void setTargetId(Long targetId);
+}
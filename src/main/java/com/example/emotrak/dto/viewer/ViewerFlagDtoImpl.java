@@ -0,0 +1,34 @@
+package com.example.emotrak.dto.viewer;
+
+public class ViewerFlagDtoImpl implements ViewerFlagDto {
+    private int kind;
+    private Long targetId;
+
+    public ViewerFlagDtoImpl() {
+    }
+
+    public ViewerFlagDtoImpl(int kind, Long targetId) {
+        this.kind = kind;
+        this.targetId = targetId;
+    }
+
+    @Override
+    public int getKind() {
+        return kind;
+    }
+
+    @Override
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    @Override
+    public void setKind(int kind) {
+        this.kind = kind;
+    }
+
+    @Override
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+}
@@ -4,12 +4,15 @@ import com.example.emotrak.dto.comment.CommentRequestDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 
 @Setter
 @Getter
 @NoArgsConstructor
 @Entity
+// 게시글 상세 조회의 댓글 페이지 (daily_id 조건 + created_at 정렬)
+@Table(indexes = @Index(name = "idx_comment_daily_created", columnList = "dailyId, createdAt"))
 public class Comment extends Timestamped {
 
     @Id
@@ -27,6 +30,11 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "dailyId")
     private Daily daily;
 
+    // 좋아요 수 (비정규화 카운터, 원자적 UPDATE 쿼리로만 변경)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int likeCount;
+
     public Comment(CommentRequestDto commentRequestDto, Daily daily, User user) {
         this.comment = commentRequestDto.getComment();
         this.daily = daily;
@@ -1,7 +1,9 @@
 package com.example.emotrak.entity;
 
 import com.example.emotrak.dto.board.BoardRequestDto;
+import com.example.emotrak.dto.board.UploadedImageDto;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 
 @Setter
@@ -9,6 +11,14 @@ import javax.persistence.*;
 @NoArgsConstructor
 @Entity
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_daily_share_like", columnList = "share, likeCount, createdAt"),
+        // 공유게시판 최신순 : 감정 필터가 있으면 (share, emotionId, createdAt), 전체 감정이면 (share, createdAt)
+        @Index(name = "idx_daily_share_emotion_created", columnList = "share, emotionId, createdAt"),
+        @Index(name = "idx_daily_share_created", columnList = "share, createdAt"),
+        // 달력 조회, 하루 작성 수 확인
+        @Index(name = "idx_daily_user_date", columnList = "userId, dailyYear, dailyMonth, dailyDay")
+})
 public class Daily extends Timestamped {
 
     @Id
@@ -41,6 +51,13 @@ public class Daily extends Timestamped {
     @Column
     private String imgUrl;
 
+    // 파생 이미지 (공유게시판 그리드용 썸네일, 상세 화면용 압축본)
+    @Column
+    private String thumbUrl;
+
+    @Column
+    private String displayUrl;
+
     @Column(nullable = false)
     private boolean share;
 
@@ -50,6 +67,16 @@ public class Daily extends Timestamped {
     @Column(nullable = false)
     private boolean draw;
 
+    // 좋아요/댓글 수 (비정규화 카운터)
+    // 엔티티 dirty checking 으로 덮어쓰지 않도록 insert/update 에서 제외하고, 원자적 UPDATE 쿼리로만 변경
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int likeCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
     //생성자
     public Daily(String imageUrl, BoardRequestDto boardRequestDto, User user, Emotion emotion) {
         this.imgUrl = imageUrl;
@@ -76,6 +103,13 @@ public class Daily extends Timestamped {
         this.share = boardRequestDto.isShare();
     }
 
+    // 원본/파생 이미지 URL 변경
+    public void updateImage(UploadedImageDto image) {
+        this.imgUrl = image.getImgUrl();
+        this.thumbUrl = image.getThumbUrl();
+        this.displayUrl = image.getDisplayUrl();
+    }
+
     public void restricted(){
         this.share = false;
         this.hasRestrict = true;
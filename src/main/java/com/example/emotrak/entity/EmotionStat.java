@@ -0,0 +1,41 @@
+package com.example.emotrak.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.*;
+
+/*
+ * 그래프용 집계 테이블 (유저/연도/월/감정별 작성 수, 별점 합계)
+ * 감정글 작성/수정/삭제 시 증감값을 upsert 로 반영하고, 어긋나면 GraphService.rebuild 로 daily 에서 다시 집계
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_emotion_stat",
+        columnNames = {"userId", "dailyYear", "dailyMonth", "emotionId"}))
+public class EmotionStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int dailyYear;
+
+    @Column(nullable = false)
+    private int dailyMonth;
+
+    @Column(nullable = false)
+    private Long emotionId;
+
+    @Column(nullable = false)
+    private int dailyCount;
+
+    @Column(nullable = false)
+    private long starSum;
+}
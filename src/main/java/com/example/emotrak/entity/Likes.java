@@ -11,6 +11,10 @@ import javax.persistence.*;
 @NoArgsConstructor
 @Entity
 @ToString
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_user_daily", columnNames = {"userId", "dailyId"}),
+        @UniqueConstraint(name = "uk_likes_user_comment", columnNames = {"userId", "commentId"})
+}, indexes = @Index(name = "idx_likes_daily", columnList = "dailyId"))
 public class Likes {
 
     @Id
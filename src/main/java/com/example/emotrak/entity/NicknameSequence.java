@@ -0,0 +1,22 @@
+package com.example.emotrak.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.*;
+
+/*
+ * 소셜 가입 닉네임 접미사 카운터 (기본 닉네임별 한 행)
+ * lastSuffix 는 마지막으로 발급한 접미사 (0 이면 접미사 없는 닉네임을 발급한 상태)
+ * 행 잠금으로 증가시키므로 같은 닉네임으로 동시에 가입해도 서로 다른 접미사를 받음 (NicknameAllocator)
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+public class NicknameSequence {
+
+    @Id
+    private String nickname;
+
+    @Column(nullable = false)
+    private long lastSuffix;
+}
@@ -0,0 +1,42 @@
+package com.example.emotrak.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/*
+ * S3 에서 삭제해야 할 이미지 키 (삭제 대기열)
+ * 요청 처리 중에는 이 테이블에 적재만 하고, ImageDeleteQueue 가 백그라운드에서 묶음 단위로 S3 삭제
+ * 같은 트랜잭션에서 적재되므로 게시글 삭제가 롤백되면 이미지 삭제 요청도 함께 롤백됨
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_orphan_image_next_attempt", columnList = "nextAttemptAt, id"))
+public class OrphanImage extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public OrphanImage(String objectKey) {
+        this.objectKey = objectKey;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 삭제 실패 시 재시도 횟수를 올리고 다음 시도 시각을 미룸
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -5,12 +5,17 @@ import org.springframework.stereotype.Component;
 import javax.persistence.*;
 import java.util.Date;
 
+/*
+ * 유저별 리프레시 토큰 (유저당 1개, 재발급 시 교체)
+ * 토큰 원문은 저장하지 않고 SHA-256 해시(hex)만 저장해 유니크 인덱스로 조회
+ */
 @Setter
 @Getter
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
 @Component
+@Table(indexes = @Index(name = "uk_refresh_token_value", columnList = "token_value", unique = true))
 public class RefreshToken extends Timestamped {
 
     @Id
@@ -21,9 +26,9 @@ public class RefreshToken extends Timestamped {
     @OneToOne(fetch = FetchType.LAZY)
     private User user;
 
-    @Column(name = "token_value", nullable = false)
-    private String value;
+    @Column(name = "token_value", nullable = false, length = 64)
+    private String tokenHash;
     @Column
     private Date expirationDate;
 
-}
\ No newline at end of file
+}
@@ -10,6 +10,12 @@ import javax.persistence.*;
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_report_daily", columnList = "dailyId"),
+        // 조회자의 게시글/댓글 신고 여부 확인 (ViewerStateService)
+        @Index(name = "idx_report_user_daily", columnList = "userId, dailyId"),
+        @Index(name = "idx_report_user_comment", columnList = "userId, commentId")
+})
 public class Report extends Timestamped {
 
     @Id
@@ -1,6 +1,7 @@
 package com.example.emotrak.entity;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 
 @Getter
@@ -8,6 +9,12 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Setter
 @Entity(name = "users")
+// 소셜 로그인 시 제공자 id 로 조회
+@Table(indexes = {
+        @Index(name = "idx_users_kakao_id", columnList = "kakaoId"),
+        @Index(name = "idx_users_naver_id", columnList = "naverId"),
+        @Index(name = "idx_users_google_id", columnList = "googleId")
+})
 public class User {
 
     @Id
@@ -41,6 +48,11 @@ public class User {
     @Enumerated(value = EnumType.STRING)
     private UserRoleEnum role;
 
+    // 탈퇴 처리된 유저 (실제 데이터는 UserPurgeService 가 백그라운드에서 삭제)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean withdrawn;
+
     public User(String password, String email,String nickname, UserRoleEnum role) {
         this.password = password;
         this.email = email;
@@ -90,4 +102,16 @@ public class User {
     public void updateGoogleRefresh(String refreshToken) {
         this.googleRefresh = refreshToken;
     }
+
+    // 탈퇴 : 즉시 로그인/조회되지 않도록 표시하고, 이메일/닉네임/소셜 id 를 비워 같은 정보로 바로 재가입할 수 있게 함
+    public void withdraw() {
+        this.withdrawn = true;
+        this.email = "withdrawn-" + this.id;
+        this.nickname = "withdrawn-" + this.id;
+        this.kakaoId = null;
+        this.naverId = null;
+        this.googleId = null;
+        this.naverRefresh = null;
+        this.googleRefresh = null;
+    }
 }
\ No newline at end of file
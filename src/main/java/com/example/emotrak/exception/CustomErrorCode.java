@@ -28,6 +28,11 @@ public enum CustomErrorCode {
     INVALID_FILE_SIZE(BAD_REQUEST, "x-1016", "파일 크기가 유효하지 않습니다."),
     TOO_MANY_POSTS(BAD_REQUEST,"x-1017", "하루에 두 개 이상의 게시물을 작성할 수 없습니다."),
     INVALID_PAGE(BAD_REQUEST, "x-1018", "페이지는 1부터 시작합니다."),
+    INVALID_CURSOR(BAD_REQUEST, "x-1019", "유효하지 않은 커서입니다."),
+    INVALID_EMOTION_FILTER(BAD_REQUEST, "x-1020", "유효하지 않은 감정 필터입니다."),
+    INVALID_VERIFICATION_CODE(BAD_REQUEST, "x-1021", "인증 코드가 일치하지 않습니다."),
+    VERIFICATION_CODE_EXPIRED(BAD_REQUEST, "x-1022", "인증 코드가 만료되었습니다. 인증 메일을 다시 요청해주세요."),
+    EMAIL_NOT_VERIFIED(BAD_REQUEST, "x-1023", "이메일 인증이 필요합니다."),
 
 
     /* 401 UNAUTHORIZED : 권한 없음 */
@@ -60,7 +65,17 @@ public enum CustomErrorCode {
 
 
     /* 415 UNSUPPORTED_MEDIA_TYPE : 미디어타입 오류(octa) */
-    UNSUPPORTED_MEDIA_TYPE (HttpStatus.UNSUPPORTED_MEDIA_TYPE, "x-1001", "지원되지 않는 미디어 타입입니다.");
+    UNSUPPORTED_MEDIA_TYPE (HttpStatus.UNSUPPORTED_MEDIA_TYPE, "x-1001", "지원되지 않는 미디어 타입입니다."),
+
+
+    /* 429 TOO_MANY_REQUESTS : 짧은 시간에 너무 많은 요청 */
+    MAIL_TOO_MANY_REQUESTS(TOO_MANY_REQUESTS, "x-1001", "인증 메일을 이미 발송했습니다. 잠시 후 다시 시도해주세요."),
+    VERIFICATION_TOO_MANY_ATTEMPTS(TOO_MANY_REQUESTS, "x-1002", "인증 코드를 여러 번 틀렸습니다. 인증 메일을 다시 요청해주세요."),
+
+
+    /* 503 SERVICE_UNAVAILABLE : 일시적으로 처리할 수 없음 */
+    OAUTH_LOGIN_BUSY(SERVICE_UNAVAILABLE, "x-1001", "소셜 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    MAIL_BUSY(SERVICE_UNAVAILABLE, "x-1002", "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus httpStatus;
@@ -1,14 +1,7 @@
 package com.example.emotrak.jwt;
 
-import com.example.emotrak.exception.CustomErrorCode;
-import com.example.emotrak.exception.CustomException;
-import com.example.emotrak.security.UserDetailsServiceImpl;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.emotrak.security.PrincipalCache;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -24,8 +17,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.security.Key;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.stream.Collectors;
@@ -38,50 +29,33 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     public static String AUTHORITIES_KEY = "auth";
 
-    private final String SECRET_KEY;
-
     private final TokenProvider tokenProvider;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
 
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain)
             throws IOException, ServletException {
 
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-
         String jwt = resolveToken(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Claims claims;
-            try {
-                claims = Jwts.parserBuilder().setSigningKey(key).build().
-                        parseClaimsJws(jwt).getBody();
-            } catch (ExpiredJwtException e) {
-                claims = e.getClaims();
-            }
-
-            if (claims.getExpiration().toInstant().toEpochMilli() < Instant.now().toEpochMilli()) {
-                response.setContentType("application/json;charset=UTF-8");
-                response.getWriter().println(
-                        new ObjectMapper().writeValueAsString(
-                                //ResponseDto.fail("BAD_REQUEST", "Token이 유효하지 않습니다.")
-                            new CustomException(CustomErrorCode.INVALID_TOKEN)
-                        )
-                );
-                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            }
+        if (StringUtils.hasText(jwt)) {
+            // 서명/만료 검증과 claims 추출을 한 번의 파싱으로 처리 (만료, 위조 토큰은 null)
+            Claims claims = tokenProvider.parseClaims(jwt);
 
-            String subject = claims.getSubject();
-            Collection<? extends GrantedAuthority> authorities =
-                    Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
+            if (claims != null) {
+                String subject = claims.getSubject();
+                String role = claims.get(AUTHORITIES_KEY).toString();
+                Collection<? extends GrantedAuthority> authorities =
+                        Arrays.stream(role.split(","))
+                                .map(SimpleGrantedAuthority::new)
+                                .collect(Collectors.toList());
 
-            UserDetails principal = userDetailsService.loadUserByUsername(subject);
+                // 캐시에 없을 때만 DB 에서 사용자 조회
+                UserDetails principal = principalCache.load(subject, role);
 
-            Authentication authentication = new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                Authentication authentication = new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -94,4 +68,4 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return null;
     }
 
-}
\ No newline at end of file
+}
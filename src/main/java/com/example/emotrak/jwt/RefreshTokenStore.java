@@ -0,0 +1,131 @@
+package com.example.emotrak.jwt;
+
+import com.example.emotrak.entity.RefreshToken;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.repository.RefreshTokenRepository;
+import com.example.emotrak.util.LocalCache;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 리프레시 토큰 저장소
+ * - 토큰 원문 대신 SHA-256 해시를 키로 RefreshToken 테이블(유니크 인덱스)에 저장
+ * - 유효한 토큰(해시 -> 유저 id/email/role/만료시각)을 메모리에 짧게(ttl) 보관해
+ *   액세스 토큰 만료 직후 몰리는 재발급 요청이 DB 를 조회하지 않도록 함 (없으면 유저까지 한 번의 쿼리로 조회)
+ * - 로그인(재발급)으로 토큰이 교체되거나 폐기(revoke)되면 이전 해시를 메모리에서 바로 제거
+ *   다른 인스턴스의 메모리에는 최대 ttl 동안 남을 수 있으므로 ttl 은 짧게 유지
+ */
+@Component
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LocalCache<String, ActiveToken> activeTokens;
+    // 유저별 현재 토큰 해시 (교체/폐기 시 이전 해시를 캐시에서 제거하기 위한 색인)
+    private final Map<Long, String> hashByUser = new ConcurrentHashMap<>();
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             @Value("${app.refresh-token-cache.max-size:10000}") int maxSize,
+                             @Value("${app.refresh-token-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.activeTokens = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 유저의 리프레시 토큰을 새 토큰으로 교체 (이전 토큰은 더 이상 사용할 수 없음)
+    public void save(User user, String token, Date expirationDate) {
+        String tokenHash = hash(token);
+        refreshTokenRepository.save(new RefreshToken(user.getId(), user, tokenHash, expirationDate));
+        afterCommit(() -> {
+            String previous = hashByUser.put(user.getId(), tokenHash);
+            if (previous != null && !previous.equals(tokenHash)) {
+                activeTokens.invalidate(previous);
+            }
+            activeTokens.put(tokenHash, new ActiveToken(user.getId(), user.getEmail(), user.getRole(), expirationDate.getTime()));
+        });
+    }
+
+    // 토큰에 해당하는 유효한(저장된) 토큰 정보, 없거나 교체/폐기된 토큰이면 null
+    public ActiveToken find(String token) {
+        String tokenHash = hash(token);
+        ActiveToken active = activeTokens.getIfPresent(tokenHash);
+        if (active != null) {
+            return active;
+        }
+        return refreshTokenRepository.findByTokenHashWithUser(tokenHash)
+                .map(refreshToken -> {
+                    User user = refreshToken.getUser();
+                    ActiveToken loaded = new ActiveToken(user.getId(), user.getEmail(), user.getRole(),
+                            refreshToken.getExpirationDate().getTime());
+                    hashByUser.put(user.getId(), tokenHash);
+                    activeTokens.put(tokenHash, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    // 회원탈퇴/만료 시 유저의 리프레시 토큰 폐기
+    @Transactional
+    public void revoke(User user) {
+        refreshTokenRepository.deleteByUser(user);
+        afterCommit(() -> {
+            String previous = hashByUser.remove(user.getId());
+            if (previous != null) {
+                activeTokens.invalidate(previous);
+            }
+        });
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 이 지원해야 하는 알고리즘
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 메모리 반영 (트랜잭션 밖이면 즉시)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Getter
+    public static class ActiveToken {
+        private final Long userId;
+        private final String email;
+        private final UserRoleEnum role;
+        private final long expiresAt;
+
+        public ActiveToken(Long userId, String email, UserRoleEnum role, long expiresAt) {
+            this.userId = userId;
+            this.email = email;
+            this.role = role;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
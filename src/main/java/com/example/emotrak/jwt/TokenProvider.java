@@ -3,19 +3,17 @@ package com.example.emotrak.jwt;
 import com.example.emotrak.dto.user.TokenDto;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.UserRoleEnum;
-import com.example.emotrak.repository.RefreshTokenRepository;
-import com.example.emotrak.entity.RefreshToken;
+import com.example.emotrak.security.PrincipalCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Key;
 import java.util.Date;
-import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -27,13 +25,19 @@ public class TokenProvider {
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000;    // 1주일
 
     private final Key key;
-    private final RefreshTokenRepository refreshTokenRepository;
+    // 키와 파서는 생성 시 한 번만 만들어 재사용 (JwtParser 는 thread-safe)
+    private final JwtParser jwtParser;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PrincipalCache principalCache;
 
     public TokenProvider(@Value("${jwt.secret.key}") String secretKey,
-                         RefreshTokenRepository refreshTokenRepository) {
-        this.refreshTokenRepository = refreshTokenRepository;
+                         RefreshTokenStore refreshTokenStore,
+                         PrincipalCache principalCache) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.principalCache = principalCache;
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public TokenDto generateTokenDto(User user, UserRoleEnum role) {
@@ -46,23 +50,30 @@ public class TokenProvider {
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
+        // 같은 시각에 발급된 토큰끼리도 해시가 겹치지 않도록 jti 에 임의 값 추가
+        Date refreshTokenExpiresIn = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
         String refreshToken = Jwts.builder()
-                .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
+                .setId(UUID.randomUUID().toString())
+                .setExpiration(refreshTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        RefreshToken refreshTokenObject = new RefreshToken(user.getId(), user, refreshToken,new Date(now + REFRESH_TOKEN_EXPIRE_TIME));
-
-        refreshTokenRepository.save(refreshTokenObject);
+        refreshTokenStore.save(user, refreshToken, refreshTokenExpiresIn);
+        // 로그인(소셜 계정 연동 포함) 시 변경된 사용자 정보가 반영되도록 캐시 제거
+        principalCache.evict(user.getEmail());
 
         return new TokenDto(BEARER_PREFIX,accessToken,refreshToken,accessTokenExpiresIn.getTime());
     }
 
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 서명 검증과 claims 추출을 한 번에 처리 (유효하지 않은 토큰이면 null)
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -72,31 +83,19 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
-    }
-
-    @Transactional(readOnly = true)
-    public RefreshToken isPresentRefreshToken(User user) {
-        Optional<RefreshToken> optionalRefreshToken = refreshTokenRepository.findByUser(user);
-        return optionalRefreshToken.orElse(null);
-    }
-
-    @Transactional
-    public void deleteRefreshToken(User user) {
-        RefreshToken refreshToken = isPresentRefreshToken(user);
-        refreshTokenRepository.delete(refreshToken);
+        return null;
     }
 
-    public TokenDto generateAccessTokenDto(User user, UserRoleEnum role) {
+    // 리프레시 토큰으로 엑세스 토큰만 재발급 (리프레시 토큰은 요청에 담겨 온 값을 그대로 돌려줌)
+    public TokenDto generateAccessTokenDto(String email, UserRoleEnum role, String refreshToken) {
         long now = (new Date().getTime());
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
         String accessToken = Jwts.builder()
-                .setSubject(user.getEmail())
+                .setSubject(email)
                 .claim(AUTHORITIES_KEY, role)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
-        String refreshToken = refreshTokenRepository.findByUser(user).get().getValue();
 
         return  new TokenDto(BEARER_PREFIX,accessToken,refreshToken,accessTokenExpiresIn.getTime());
     }
@@ -4,12 +4,14 @@ import com.example.emotrak.dto.board.BoardGetDetailDto;
 import com.example.emotrak.dto.board.BoardImgRequestDto;
 import com.example.emotrak.entity.Daily;
 import com.example.emotrak.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,53 +29,199 @@ public interface BoardRepository extends JpaRepository<Daily, Long> {
                                       @Param("month") int month,
                                       @Param("day") int day);
 
-    @Query("select d.imgUrl from Daily d where d.user = :user")
-    List<String> findImgUrlByUser(@Param("user") User user);
-
 
+    // 게시글 상세 : 조회자의 좋아요/신고 여부(hasLike, hasReport)는 ViewerStateService 로 따로 채움
     @Query(value = " SELECT d.share AS share, d.user_id AS userId, d.id AS dailyId "
                  + "      , DATE_FORMAT(d.created_at, '%Y-%m-%d %H:%i:%s') AS createdAt "
                  + "      , d.daily_year AS year, d.daily_month AS month, d.daily_day AS day "
                  + "      , d.emotion_id AS emotionId, d.star AS star, d.detail AS detail, d.img_url AS imgUrl "
                  + "      , IF(d.user_id = :userId, 'true', 'false') AS auth "
-                 + "      , u.nickname AS nickname, l.count AS likeCount, d.has_restrict AS hasRestrict "
-                 + "      , IF(l2.has_like, 'true', 'false') AS hasLike, d.draw AS draw "
-                 + "      , IF(r.has_report, 'true', 'false') AS hasReport, c.count AS commentCount  "
+                 + "      , u.nickname AS nickname, d.like_count AS likeCount, d.has_restrict AS hasRestrict "
+                 + "      , d.draw AS draw, d.comment_count AS commentCount  "
                  + "   FROM daily d "
                  + "        JOIN users u ON d.user_id = u.id "
-                 + "        JOIN (SELECT count(*) count FROM likes WHERE daily_id = :dailyId) l "
-                 + "        JOIN (SELECT count(*) count FROM comment WHERE daily_id = :dailyId) c "
-                 + "   LEFT JOIN (SELECT true has_like FROM likes WHERE daily_id = :dailyId AND user_id = :userId) l2 "
-                 + "              ON l2.has_like IS NOT NULL "
-                 + "   LEFT JOIN (SELECT true has_report FROM report WHERE daily_id = :dailyId AND user_id = :userId) r "
-                 + "              ON r.has_report IS NOT NULL "
                  + "  WHERE d.id = :dailyId", nativeQuery = true)
     Optional<BoardGetDetailDto> getDailyDetail (@Param("userId") Long userId, @Param("dailyId") Long dailyId);
 
-    @Modifying
-    @Query(value = " DELETE FROM daily "
-            + "  WHERE user_id = :userId"
-            , nativeQuery = true)
-    void deleteAllByUser(@Param("userId") Long userId);
+    // 공유게시판 조회는 Slice 로 받아 size + 1 건만 조회 (count 쿼리 없음)
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, 0)"
+            + "   FROM Daily d"
+            + "  WHERE d.emotion.id in (:emo)"
+            + "    AND d.share = true "
+            + "  ORDER BY d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesRecent(@Param("emo") List<Long> emoList, Pageable pageable);
 
-    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.user.nickname, d.emotion.id)"
+    // 인기순은 likes 를 집계하지 않고 비정규화된 likeCount 컬럼으로 정렬 (idx_daily_share_like)
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, d.likeCount)"
             + "   FROM Daily d"
             + "  WHERE d.emotion.id in (:emo)"
             + "    AND d.share = true "
-            + "  ORDER BY d.createdAt desc ")
-    Page<BoardImgRequestDto> getBoardImagesRecent(@Param("emo") List<Long> emoList, Pageable pageable);
+            + "  ORDER BY d.likeCount desc, d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesPopular(@Param("emo") List<Long> emoList, Pageable pageable);
+
+    // 여섯 감정을 모두 고른 경우 (기본값) : IN 절 없이 share 조건만으로 조회 (idx_daily_share_created, idx_daily_share_like)
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, 0)"
+            + "   FROM Daily d"
+            + "  WHERE d.share = true "
+            + "  ORDER BY d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesRecentAll(Pageable pageable);
+
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, d.likeCount)"
+            + "   FROM Daily d"
+            + "  WHERE d.share = true "
+            + "  ORDER BY d.likeCount desc, d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesPopularAll(Pageable pageable);
+
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, 0)"
+            + "   FROM Daily d"
+            + "  WHERE d.user.id = :userId"
+            + "  ORDER BY d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesMine(@Param("userId") Long userId, Pageable pageable);
 
-    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.user.nickname, d.emotion.id)"
-            + "   FROM Daily d left join Likes l on d.id = l.daily.id"
+    // 커서(seek) 방식 조회 : 마지막으로 받은 글 이후부터 조회
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, 0)"
+            + "   FROM Daily d"
+            + "  WHERE d.emotion.id in (:emo)"
+            + "    AND d.share = true "
+            + "    AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))"
+            + "  ORDER BY d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesRecentAfter(@Param("emo") List<Long> emoList,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, d.likeCount)"
+            + "   FROM Daily d"
             + "  WHERE d.emotion.id in (:emo)"
             + "    AND d.share = true "
-            + "  GROUP BY d.id, d.imgUrl"
-            + "  ORDER BY count(l.daily.id)  desc, d.createdAt desc")
-    Page<BoardImgRequestDto> getBoardImagesPopular(@Param("emo") List<Long> emoList, Pageable pageable);
+            + "    AND (d.likeCount < :likeCount"
+            + "         OR (d.likeCount = :likeCount AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))))"
+            + "  ORDER BY d.likeCount desc, d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesPopularAfter(@Param("emo") List<Long> emoList,
+                                                         @Param("likeCount") Integer likeCount,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, 0)"
+            + "   FROM Daily d"
+            + "  WHERE d.share = true "
+            + "    AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))"
+            + "  ORDER BY d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesRecentAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, d.likeCount)"
+            + "   FROM Daily d"
+            + "  WHERE d.share = true "
+            + "    AND (d.likeCount < :likeCount"
+            + "         OR (d.likeCount = :likeCount AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))))"
+            + "  ORDER BY d.likeCount desc, d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesPopularAllAfter(@Param("likeCount") Integer likeCount,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
 
-    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.user.nickname, d.emotion.id)"
+    @Query(value = " SELECT new com.example.emotrak.dto.board.BoardImgRequestDto(d.id, d.imgUrl, d.thumbUrl, d.user.nickname, d.emotion.id, d.createdAt, 0)"
             + "   FROM Daily d"
             + "  WHERE d.user.id = :userId"
-            + "  ORDER BY d.createdAt desc")
-    Page<BoardImgRequestDto> getBoardImagesMine(Long userId, Pageable pageable);
+            + "    AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))"
+            + "  ORDER BY d.createdAt desc, d.id desc")
+    Slice<BoardImgRequestDto> getBoardImagesMineAfter(@Param("userId") Long userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    // 좋아요/댓글 수 카운터 : 읽고-쓰기 대신 단일 UPDATE 로 원자적으로 증감
+    @Modifying
+    @Query(value = " UPDATE daily "
+            + "    SET comment_count = GREATEST(comment_count + :delta, 0) "
+            + "  WHERE id = :dailyId"
+            , nativeQuery = true)
+    void updateCommentCount(@Param("dailyId") Long dailyId, @Param("delta") int delta);
+
+    // 공유 중지 (AdminService.restrictBoard) : 좋아요/댓글을 모두 지우므로 카운터도 0 으로
+    @Modifying
+    @Query(value = " UPDATE daily "
+            + "    SET like_count = 0, comment_count = 0 "
+            + "  WHERE id = :dailyId"
+            , nativeQuery = true)
+    void resetCounts(@Param("dailyId") Long dailyId);
+
+    // 좋아요 수 버퍼(LikeCountBuffer) 반영 : 같은 증감값을 가진 글들을 한 번에 갱신
+    @Transactional
+    @Modifying
+    @Query(value = " UPDATE daily "
+            + "    SET like_count = GREATEST(like_count + :delta, 0) "
+            + "  WHERE id IN (:dailyIds)"
+            , nativeQuery = true)
+    void updateLikeCounts(@Param("dailyIds") List<Long> dailyIds, @Param("delta") int delta);
+
+    // 게시글 이미지 파생본 반영 (ImageDerivativeService) : 그 사이 이미지가 바뀌었거나 글이 삭제되었으면 0
+    @Transactional
+    @Modifying
+    @Query(value = " UPDATE daily "
+            + "    SET thumb_url = :thumbUrl, display_url = :displayUrl "
+            + "  WHERE id = :dailyId AND img_url = :imgUrl"
+            , nativeQuery = true)
+    int updateDerivativeUrls(@Param("dailyId") Long dailyId, @Param("imgUrl") String imgUrl,
+                             @Param("thumbUrl") String thumbUrl, @Param("displayUrl") String displayUrl);
+
+    // 회원탈퇴 : 탈퇴 즉시 공유게시판에서 보이지 않도록 공유 해제
+    @Modifying
+    @Query(value = " UPDATE daily "
+            + "    SET share = false "
+            + "  WHERE user_id = :userId AND share = true"
+            , nativeQuery = true)
+    int unshareAllByUser(@Param("userId") Long userId);
+
+    // 회원탈퇴 데이터 정리 (UserPurgeService) : 탈퇴 유저가 남긴 좋아요/댓글 묶음만큼 다른 게시글의 카운터 차감
+    @Modifying
+    @Query(value = " UPDATE daily d "
+            + "   JOIN (SELECT daily_id, COUNT(*) cnt FROM likes "
+            + "          WHERE id IN (:likeIds) AND daily_id IS NOT NULL "
+            + "          GROUP BY daily_id) l ON d.id = l.daily_id "
+            + "    SET d.like_count = GREATEST(d.like_count - l.cnt, 0)"
+            , nativeQuery = true)
+    void subtractLikeCountByLikeIds(@Param("likeIds") List<Long> likeIds);
+
+    @Modifying
+    @Query(value = " UPDATE daily d "
+            + "   JOIN (SELECT daily_id, COUNT(*) cnt FROM comment "
+            + "          WHERE id IN (:commentIds) "
+            + "          GROUP BY daily_id) c ON d.id = c.daily_id "
+            + "    SET d.comment_count = GREATEST(d.comment_count - c.cnt, 0)"
+            , nativeQuery = true)
+    void subtractCommentCountByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    @Query("SELECT d.id FROM Daily d WHERE d.user.id = :userId ORDER BY d.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 원본과 파생 이미지(썸네일, 압축본) URL
+    @Query(value = " SELECT img_url FROM daily WHERE id IN (:dailyIds) AND img_url IS NOT NULL "
+            + " UNION ALL "
+            + " SELECT thumb_url FROM daily WHERE id IN (:dailyIds) AND thumb_url IS NOT NULL "
+            + " UNION ALL "
+            + " SELECT display_url FROM daily WHERE id IN (:dailyIds) AND display_url IS NOT NULL ", nativeQuery = true)
+    List<String> findImgUrlsByIds(@Param("dailyIds") List<Long> dailyIds);
+
+    @Query("SELECT COALESCE(MAX(d.id), 0) FROM Daily d")
+    Long findMaxId();
+
+    // 카운터 보정 (CounterRepairService) : id 구간 단위로 실제 건수와 다른 행만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = " UPDATE daily d "
+            + "   LEFT JOIN (SELECT daily_id, COUNT(*) cnt FROM likes "
+            + "               WHERE daily_id BETWEEN :fromId AND :toId "
+            + "               GROUP BY daily_id) l ON d.id = l.daily_id "
+            + "   LEFT JOIN (SELECT daily_id, COUNT(*) cnt FROM comment "
+            + "               WHERE daily_id BETWEEN :fromId AND :toId "
+            + "               GROUP BY daily_id) c ON d.id = c.daily_id "
+            + "    SET d.like_count = COALESCE(l.cnt, 0), d.comment_count = COALESCE(c.cnt, 0) "
+            + "  WHERE d.id BETWEEN :fromId AND :toId "
+            + "    AND (d.like_count <> COALESCE(l.cnt, 0) OR d.comment_count <> COALESCE(c.cnt, 0))"
+            , nativeQuery = true)
+    int repairCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -2,50 +2,50 @@ package com.example.emotrak.repository;
 
 import com.example.emotrak.dto.comment.CommentDetailDto;
 import com.example.emotrak.entity.Comment;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    /*
+     * 게시글 상세 조회의 댓글 한 페이지 (BoardDetailLoader)
+     * 좋아요 수는 비정규화된 like_count 를 쓰고, 조회자의 좋아요/신고 여부는 이 페이지의 댓글 id 목록으로 따로 조회
+     * Slice 로 size + 1 건만 읽으므로 count 쿼리 없음 (전체 댓글 수는 daily.comment_count)
+     * 탈퇴한 유저의 댓글은 UserPurgeService 가 지우기 전이라도 보이지 않도록 제외
+     */
     @Query(value = " SELECT c.id AS id, c.comment AS comment"
                  + "      , DATE_FORMAT(c.created_at, '%Y-%m-%d %H:%i:%s') AS createdAt "
                  + "      , IF (c.user_id = :userId, 'true', 'false') AS hasAuth, u.nickname AS nickname "
-                 + "      , COALESCE(l.count, 0) AS likesCnt, IF (l2.id, 'true', 'false') AS hasLike"
-                 + "      , IF (r.id, 'true', 'false') AS hasReport "
+                 + "      , c.like_count AS likesCnt "
+                 + "      , DATE_FORMAT(c.created_at, '%Y-%m-%dT%H:%i:%s.%f') AS cursorCreatedAt "
                  + "   FROM comment c "
-                 + "   LEFT JOIN users u ON c.user_id = u.id "
-                 + "   LEFT JOIN ( "
-                 + "                SELECT comment_id, COUNT(*) count "
-                 + "                FROM likes "
-                 + "                GROUP BY comment_id "
-                 + "             ) l ON c.id = l.comment_id "
-                 + "   LEFT JOIN likes l2 ON c.id = l2.comment_id AND l2.user_id = :userId "
-                 + "   LEFT JOIN report r ON c.id = r.comment_id AND r.user_id = :userId "
+                 + "   JOIN users u ON c.user_id = u.id AND u.withdrawn = false "
                  + "  WHERE c.daily_id = :dailyId"
-                 + "  ORDER BY c.created_at",
-            countQuery = " SELECT count(c.id) "
-                       + "   FROM comment c "
-                       + "   LEFT JOIN users u ON c.user_id = u.id "
-                       + "   LEFT JOIN ( "
-                       + "                SELECT comment_id, COUNT(*) count "
-                       + "                FROM likes "
-                       + "                GROUP BY comment_id "
-                       + "             ) l ON c.id = l.comment_id "
-                       + "   LEFT JOIN likes l2 ON c.id = l2.comment_id AND l2.user_id = :userId "
-                       + "   LEFT JOIN report r ON c.id = r.comment_id AND r.user_id = :userId "
-                       + "  WHERE c.daily_id = :dailyId"
-                       + "  ORDER BY c.created_at"
+                 + "  ORDER BY c.created_at, c.id"
                  , nativeQuery = true)
-    Page<CommentDetailDto> getCommentDetail(@Param("userId") Long userId, @Param("dailyId") Long dailyId, Pageable pageable);
+    Slice<CommentDetailDto> getCommentSlice(@Param("userId") Long userId, @Param("dailyId") Long dailyId, Pageable pageable);
 
-    @Modifying
-    @Query(value = " DELETE FROM comment "
-                 + "  WHERE user_id = :userId"
+    // 댓글 더 보기 (커서) : 마지막 댓글의 (created_at, id) 다음부터 조회 (offset 없이 이어서 읽고, 그 댓글이 삭제되어도 동작)
+    @Query(value = " SELECT c.id AS id, c.comment AS comment"
+                 + "      , DATE_FORMAT(c.created_at, '%Y-%m-%d %H:%i:%s') AS createdAt "
+                 + "      , IF (c.user_id = :userId, 'true', 'false') AS hasAuth, u.nickname AS nickname "
+                 + "      , c.like_count AS likesCnt "
+                 + "      , DATE_FORMAT(c.created_at, '%Y-%m-%dT%H:%i:%s.%f') AS cursorCreatedAt "
+                 + "   FROM comment c "
+                 + "   JOIN users u ON c.user_id = u.id AND u.withdrawn = false "
+                 + "  WHERE c.daily_id = :dailyId"
+                 + "    AND (c.created_at > :createdAt OR (c.created_at = :createdAt AND c.id > :id))"
+                 + "  ORDER BY c.created_at, c.id"
                  , nativeQuery = true)
-    void deleteAllByUser(@Param("userId") Long userId);
+    Slice<CommentDetailDto> getCommentSliceAfter(@Param("userId") Long userId, @Param("dailyId") Long dailyId,
+                                                 @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                 Pageable pageable);
 
 
     @Modifying
@@ -54,13 +54,48 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
                  , nativeQuery = true)
     void deleteByDaily(@Param("dailyId") Long dailyId);
 
+    // 좋아요 수 버퍼(LikeCountBuffer) 반영 : 같은 증감값을 가진 댓글들을 한 번에 갱신
+    @Transactional
+    @Modifying
+    @Query(value = " UPDATE comment "
+                 + "    SET like_count = GREATEST(like_count + :delta, 0) "
+                 + "  WHERE id IN (:commentIds)"
+                 , nativeQuery = true)
+    void updateLikeCounts(@Param("commentIds") List<Long> commentIds, @Param("delta") int delta);
+
+    // 회원탈퇴 데이터 정리 (UserPurgeService) : 탈퇴 유저가 누른 좋아요 묶음만큼 댓글 좋아요 수 차감
+    @Modifying
+    @Query(value = " UPDATE comment c "
+                 + "   JOIN (SELECT comment_id, COUNT(*) cnt FROM likes "
+                 + "          WHERE id IN (:likeIds) AND comment_id IS NOT NULL "
+                 + "          GROUP BY comment_id) l ON c.id = l.comment_id "
+                 + "    SET c.like_count = GREATEST(c.like_count - l.cnt, 0)"
+                 , nativeQuery = true)
+    void subtractLikeCountByLikeIds(@Param("likeIds") List<Long> likeIds);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
     @Modifying
     @Query(value = " DELETE FROM comment "
-                 + "  WHERE daily_id IN ("
-                 + "                         select id as daily_id "
-                 + "                           from daily "
-                 + "                          where user_id = :userId)"
+                 + "  WHERE daily_id IN (:dailyIds)"
+                 , nativeQuery = true)
+    int deleteByDailyIds(@Param("dailyIds") List<Long> dailyIds);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM Comment c")
+    Long findMaxId();
+
+    // 카운터 보정 (CounterRepairService) : id 구간 단위로 실제 건수와 다른 행만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = " UPDATE comment c "
+                 + "   LEFT JOIN (SELECT comment_id, COUNT(*) cnt FROM likes "
+                 + "               WHERE comment_id BETWEEN :fromId AND :toId "
+                 + "               GROUP BY comment_id) l ON c.id = l.comment_id "
+                 + "    SET c.like_count = COALESCE(l.cnt, 0) "
+                 + "  WHERE c.id BETWEEN :fromId AND :toId "
+                 + "    AND c.like_count <> COALESCE(l.cnt, 0)"
                  , nativeQuery = true)
-    void deleteByUser(@Param("userId") Long userId);
+    int repairLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
 }
@@ -0,0 +1,41 @@
+package com.example.emotrak.repository;
+
+import com.example.emotrak.entity.EmotionStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface EmotionStatRepository extends JpaRepository<EmotionStat, Long> {
+
+    // 그래프 조회 : 유저의 한 해 집계 (최대 12개월 x 감정 6개 = 72행)
+    List<EmotionStat> findAllByUserIdAndDailyYear(Long userId, int dailyYear);
+
+    // 감정글 작성/수정/삭제 시 증감값 반영 (행이 없으면 생성)
+    @Modifying
+    @Query(value = " INSERT INTO emotion_stat (user_id, daily_year, daily_month, emotion_id, daily_count, star_sum) "
+            + " VALUES (:userId, :year, :month, :emotionId, :count, :star) "
+            + " ON DUPLICATE KEY UPDATE daily_count = daily_count + :count, star_sum = star_sum + :star"
+            , nativeQuery = true)
+    void add(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month,
+             @Param("emotionId") Long emotionId, @Param("count") int count, @Param("star") int star);
+
+    @Modifying
+    @Query("DELETE FROM EmotionStat s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 재집계 (GraphService.rebuild) : 유저 id 구간 단위로 지우고 daily 에서 다시 집계
+    @Modifying
+    @Query(value = "DELETE FROM emotion_stat WHERE user_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int deleteByUserIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Modifying
+    @Query(value = " INSERT INTO emotion_stat (user_id, daily_year, daily_month, emotion_id, daily_count, star_sum) "
+            + " SELECT user_id, daily_year, daily_month, emotion_id, COUNT(*), SUM(star) "
+            + "   FROM daily "
+            + "  WHERE user_id BETWEEN :fromId AND :toId "
+            + "  GROUP BY user_id, daily_year, daily_month, emotion_id"
+            , nativeQuery = true)
+    int insertByUserIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,13 +1,17 @@
 package com.example.emotrak.repository;
 
+import com.example.emotrak.dto.viewer.ViewerFlagDto;
 import com.example.emotrak.entity.Comment;
 import com.example.emotrak.entity.Daily;
 import com.example.emotrak.entity.Likes;
 import com.example.emotrak.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikesRepository extends JpaRepository<Likes, Long> {
@@ -23,12 +27,6 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
 
     void deleteAllByComment(Comment comment);
 
-    @Modifying
-    @Query(value = " DELETE FROM likes "
-            + "  WHERE user_id = :userId"
-            , nativeQuery = true)
-    void deleteAllByUser(@Param("userId") Long userId);
-
     @Modifying
     @Query(value = " DELETE FROM likes "
             + "  WHERE comment_id IN ("
@@ -44,34 +42,67 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
             , nativeQuery = true)
     void deleteBoardLike(@Param("dailyId") Long dailyId);
 
+    // 좋아요 토글 : 취소(DELETE) 를 먼저 시도하고, 지운 행이 없으면 추가
+    // (user, daily) / (user, comment) unique 제약과 INSERT IGNORE 로 중복 요청이 와도 한 건만 기록되고, 반환값으로 실제 변경 여부를 판단
     @Modifying
     @Query(value = " DELETE FROM likes "
-            + "  WHERE comment_id IN ("
-            + "                         select id as comment_id "
-            + "                           from comment "
-            + "                          where user_id = :userId)"
+            + "  WHERE user_id = :userId AND daily_id = :dailyId"
+            , nativeQuery = true)
+    int deleteUserDailyLike(@Param("userId") Long userId, @Param("dailyId") Long dailyId);
+
+    @Modifying
+    @Query(value = " INSERT IGNORE INTO likes (user_id, daily_id) "
+            + " VALUES (:userId, :dailyId)"
             , nativeQuery = true)
-    void deleteCommentLikeByUser(@Param("userId") Long userId);
+    int insertUserDailyLike(@Param("userId") Long userId, @Param("dailyId") Long dailyId);
 
     @Modifying
     @Query(value = " DELETE FROM likes "
-            + "  WHERE daily_id IN ("
-            + "                         select id as daily_id "
-            + "                           from daily "
-            + "                          where user_id = :userId) "
+            + "  WHERE user_id = :userId AND comment_id = :commentId"
             , nativeQuery = true)
-    void deleteByUser(@Param("userId") Long userId);
+    int deleteUserCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
 
     @Modifying
-    @Query(value = " DELETE FROM likes"
-            + "  WHERE id IN ("
-            + "                   SELECT likes.id FROM ("
-            + "                           SELECT l.id"
-            + "                             FROM likes l"
-            + "                            INNER JOIN comment c ON l.comment_id = c.id"
-            + "                            INNER JOIN daily d ON c.daily_id = d.id"
-            + "                            WHERE d.user_id = :userId"
-            + "                       ) likes )"
+    @Query(value = " INSERT IGNORE INTO likes (user_id, comment_id) "
+            + " VALUES (:userId, :commentId)"
             , nativeQuery = true)
-    void deleteByUserComment(@Param("userId") Long userId);
+    int insertUserCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 회원탈퇴 데이터 정리 (UserPurgeService) : id 묶음 단위로 삭제
+    @Query("SELECT l.id FROM Likes l WHERE l.user.id = :userId ORDER BY l.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query(value = " DELETE FROM likes "
+            + "  WHERE comment_id IN (:commentIds)"
+            , nativeQuery = true)
+    int deleteByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    @Modifying
+    @Query(value = " DELETE FROM likes "
+            + "  WHERE daily_id IN (:dailyIds)"
+            + "     OR comment_id IN (SELECT id FROM comment WHERE daily_id IN (:dailyIds))"
+            , nativeQuery = true)
+    int deleteByDailyIds(@Param("dailyIds") List<Long> dailyIds);
+
+    /*
+     * 조회자 상태 (ViewerStateService) : 게시글/댓글 id 목록 중 userId 가 좋아요/신고한 내역을 한 번에 조회
+     * 각 UNION 분기가 (user_id, daily_id) / (user_id, comment_id) 인덱스만 사용
+     * IN 절은 비어 있으면 안 되므로 조회할 id 가 없는 쪽은 호출하는 쪽에서 0 (존재하지 않는 id) 을 넘김
+     */
+    @Query(value = " SELECT 1 AS kind, l.daily_id AS targetId FROM likes l "
+                 + "  WHERE l.user_id = :userId AND l.daily_id IN (:dailyIds) "
+                 + "  UNION ALL "
+                 + " SELECT 2, r.daily_id FROM report r "
+                 + "  WHERE r.user_id = :userId AND r.daily_id IN (:dailyIds) "
+                 + "  UNION ALL "
+                 + " SELECT 3, l.comment_id FROM likes l "
+                 + "  WHERE l.user_id = :userId AND l.comment_id IN (:commentIds) "
+                 + "  UNION ALL "
+                 + " SELECT 4, r.comment_id FROM report r "
+                 + "  WHERE r.user_id = :userId AND r.comment_id IN (:commentIds)"
+                 , nativeQuery = true)
+    List<ViewerFlagDto> findViewerFlags(@Param("userId") Long userId,
+                                        @Param("dailyIds") Collection<Long> dailyIds,
+                                        @Param("commentIds") Collection<Long> commentIds);
 }
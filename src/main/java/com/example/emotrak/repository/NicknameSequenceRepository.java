@@ -0,0 +1,30 @@
+package com.example.emotrak.repository;
+
+import com.example.emotrak.entity.NicknameSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/*
+ * 발급한 접미사는 LAST_INSERT_ID(expr) 로 남겨 같은 커넥션에서 lastAllocated 로 읽음
+ * 세 메서드 모두 같은 트랜잭션 안에서 호출해야 함
+ */
+public interface NicknameSequenceRepository extends JpaRepository<NicknameSequence, String> {
+
+    // 기본 키 한 행만 잠그고 증가 (행이 없으면 0)
+    @Modifying
+    @Query(value = "UPDATE nickname_sequence SET last_suffix = LAST_INSERT_ID(last_suffix + 1) WHERE nickname = :nickname",
+            nativeQuery = true)
+    int increment(@Param("nickname") String nickname);
+
+    // 행이 없으면 seed 로 생성, 있으면 seed 와 다음 값 중 큰 값으로 올림
+    @Modifying
+    @Query(value = " INSERT INTO nickname_sequence (nickname, last_suffix) VALUES (:nickname, LAST_INSERT_ID(:seed)) "
+            + " ON DUPLICATE KEY UPDATE last_suffix = LAST_INSERT_ID(GREATEST(last_suffix + 1, :seed))"
+            , nativeQuery = true)
+    void upsert(@Param("nickname") String nickname, @Param("seed") long seed);
+
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long lastAllocated();
+}
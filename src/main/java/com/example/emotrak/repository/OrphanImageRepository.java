@@ -0,0 +1,16 @@
+package com.example.emotrak.repository;
+
+import com.example.emotrak.entity.OrphanImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrphanImageRepository extends JpaRepository<OrphanImage, Long> {
+
+    // 재시도 시각이 지난 삭제 대기 이미지를 오래된 순으로 조회
+    @Query("FROM OrphanImage o WHERE o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt, o.id")
+    List<OrphanImage> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -3,13 +3,15 @@ package com.example.emotrak.repository;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken,Long> {
 
-    Optional<RefreshToken> findByUser(User user);
-
-    Optional<RefreshToken> findByValue(String refreshTokenValue);
+    // 토큰 해시(유니크 인덱스)로 조회하면서 토큰 재발급에 필요한 유저 정보까지 한 번에 조회
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
 
     void deleteByUser(User user);
-}
\ No newline at end of file
+}
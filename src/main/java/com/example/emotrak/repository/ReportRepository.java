@@ -4,10 +4,12 @@ import com.example.emotrak.entity.Comment;
 import com.example.emotrak.entity.Daily;
 import com.example.emotrak.entity.Report;
 import com.example.emotrak.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
@@ -20,12 +22,6 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
 
     void deleteAllByComment(Comment comment);
 
-    @Modifying
-    @Query(value = " DELETE FROM report "
-            + "  WHERE user_id = :userId"
-            , nativeQuery = true)
-    void deleteAllByUser(@Param("userId") Long userId);
-
     @Modifying
     @Query(value = " DELETE FROM report "
             + "  WHERE comment_id IN ("
@@ -35,35 +31,21 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
             , nativeQuery = true)
     void deleteCommentByDaily(@Param("dailyId") Long dailyId);
 
-    @Modifying
-    @Query(value = " DELETE FROM report "
-            + "  WHERE comment_id IN ("
-            + "                         select id as comment_id "
-            + "                           from comment "
-            + "                          where user_id = :userId)"
-            , nativeQuery = true)
-    void deleteCommentLikeByUser(@Param("userId") Long userId);
+    // 회원탈퇴 데이터 정리 (UserPurgeService) : id 묶음 단위로 삭제
+    @Query("SELECT r.id FROM Report r WHERE r.user.id = :userId ORDER BY r.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     @Modifying
     @Query(value = " DELETE FROM report "
-            + "  WHERE daily_id IN ("
-            + "                         select id as daily_id "
-            + "                           from daily "
-            + "                          where user_id = :userId)"
+            + "  WHERE comment_id IN (:commentIds)"
             , nativeQuery = true)
-    void deleteByUser(@Param("userId") Long userId);
+    int deleteByCommentIds(@Param("commentIds") List<Long> commentIds);
 
     @Modifying
-    @Query(value = " DELETE FROM report"
-            + "  WHERE id IN ("
-            + "                   SELECT report.id FROM ("
-            + "                           SELECT r.id"
-            + "                             FROM report r"
-            + "                            INNER JOIN comment c ON r.comment_id = c.id"
-            + "                            INNER JOIN daily d ON c.daily_id = d.id"
-            + "                            WHERE d.user_id = :userId"
-            + "                       ) report )"
+    @Query(value = " DELETE FROM report "
+            + "  WHERE daily_id IN (:dailyIds)"
+            + "     OR comment_id IN (SELECT id FROM comment WHERE daily_id IN (:dailyIds))"
             , nativeQuery = true)
-    void deleteByUserComment(@Param("userId") Long userId);
+    int deleteByDailyIds(@Param("dailyIds") List<Long> dailyIds);
 
 }
@@ -1,26 +1,69 @@
 package com.example.emotrak.repository;
 
 import com.example.emotrak.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    // 회원가입 : 이메일 중복과 닉네임 중복을 한 번에 확인 (두 컬럼 모두 유니크 인덱스, 최대 2건)
+    @Query("SELECT u.email FROM users u WHERE u.email = :email OR u.nickname = :nickname")
+    List<String> findEmailsByEmailOrNickname(@Param("email") String email, @Param("nickname") String nickname);
+
+    // 이메일/닉네임 가용성 필터(UserAvailabilityIndex) 생성용 전체 스캔 (트랜잭션 안에서 사용 후 close)
+    // 엔티티가 아닌 컬럼만 읽으므로 영속성 컨텍스트에 쌓이지 않음, MySQL 은 useCursorFetch=true 일 때 fetch size 단위로 읽음
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email, u.nickname FROM users u")
+    Stream<Object[]> streamEmailsAndNicknames();
+
     Optional<User> findByKakaoId(Long id);
 
     Optional<User> findByNaverId(String naverId);
 
     Optional<User> findByGoogleId(String googleId);
 
-    @Query(value = " SELECT COALESCE(MAX(SUBSTRING_INDEX(nickname, '_', -1)), 0) + 1"
+    // 소셜 로그인 : 제공자 id 또는 이메일이 같은 유저를 한 번에 조회 (최대 2명)
+    List<User> findByKakaoIdOrEmail(Long kakaoId, String email);
+
+    List<User> findByNaverIdOrEmail(String naverId, String email);
+
+    List<User> findByGoogleIdOrEmail(String googleId, String email);
+
+    /*
+     * 닉네임 중복 확인과 접미사 계산을 한 번에 처리 (NicknameAllocator 가 카운터를 만들거나 다시 맞출 때만 사용)
+     * 닉네임을 쓰는 유저가 없으면 0, 있으면 "닉네임_숫자" 중 가장 큰 숫자 + 1
+     * suffixPattern 은 '!' 로 이스케이프한 닉네임 + "!_%" (닉네임 유니크 인덱스의 범위 조회)
+     */
+    @Query(value = " SELECT CASE WHEN COALESCE(SUM(nickname = :nickname), 0) = 0 THEN 0"
+                 + "             ELSE COALESCE(MAX(CASE WHEN nickname <> :nickname"
+                 + "                                    THEN CAST(SUBSTRING(nickname, CHAR_LENGTH(:nickname) + 2) AS UNSIGNED) END), 0) + 1"
+                 + "        END"
                  + "   FROM users"
-                 + "  WHERE SUBSTRING_INDEX(nickname, '_', 1) = :nickname"
-                 + "    AND nickname <> :nickname ",
-                  nativeQuery = true) //nativeQuery = true를 추가
-    Long getUniqueNameSuffix(@Param("nickname") String nickname);
+                 + "  WHERE nickname = :nickname"
+                 + "     OR nickname LIKE :suffixPattern ESCAPE '!'",
+                  nativeQuery = true)
+    Long findNicknameSuffix(@Param("nickname") String nickname, @Param("suffixPattern") String suffixPattern);
+
+    // 탈퇴 처리되어 데이터 정리를 기다리는 유저
+    @Query("SELECT u.id FROM users u WHERE u.withdrawn = true ORDER BY u.id")
+    List<Long> findWithdrawnUserIds(Pageable pageable);
+
+    long countByWithdrawnTrue();
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM users u")
+    Long findMaxId();
 
-}
\ No newline at end of file
+}
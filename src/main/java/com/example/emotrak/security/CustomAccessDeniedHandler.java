@@ -2,7 +2,8 @@ package com.example.emotrak.security;
 
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.ResponseMessage;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.emotrak.util.JsonMappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
@@ -16,6 +17,12 @@ import java.io.OutputStream;
 
 @Component
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
+    // 응답 본문이 항상 같으므로 요청마다 직렬화하지 않고 한 번만 만들어 재사용
+    private final byte[] body;
+
+    public CustomAccessDeniedHandler() throws JsonProcessingException {
+        this.body = JsonMappers.writerFor(ResponseMessage.class).writeValueAsBytes(new ResponseMessage(CustomErrorCode.ADMIN_FORBIDDEN));
+    }
 
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response,
@@ -25,8 +32,7 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
         response.setStatus(HttpStatus.FORBIDDEN.value());
 
         try (OutputStream os = response.getOutputStream()) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.writeValue(os, new ResponseMessage(CustomErrorCode.ADMIN_FORBIDDEN));
+            os.write(body);
             os.flush();
         }
     }
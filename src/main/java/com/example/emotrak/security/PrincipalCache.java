@@ -0,0 +1,71 @@
+package com.example.emotrak.security;
+
+import com.example.emotrak.util.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 인증된 사용자(UserDetails) 캐시
+ * JwtAuthFilter 가 요청마다 findByEmail 로 사용자를 조회하지 않도록 토큰의 subject(email) + 권한(role) 으로 캐싱
+ * 닉네임/비밀번호 변경, 회원탈퇴, 토큰 재발급 시 evict 로 트랜잭션 커밋 후 무효화
+ * (커밋 전에 지우면 동시에 들어온 요청이 변경 전 행을 다시 캐싱할 수 있음)
+ */
+@Component
+public class PrincipalCache {
+
+    private static final String KEY_DELIMITER = "|";
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final LocalCache<String, UserDetails> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(UserDetailsServiceImpl userDetailsService,
+                          @Value("${app.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${app.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public UserDetails load(String subject, String role) {
+        String key = subject + KEY_DELIMITER + role;
+        long before = invalidations.get();
+        UserDetails principal = cache.getIfPresent(key);
+        if (principal == null) {
+            principal = userDetailsService.loadUserByUsername(subject);
+            // 조회 중에 무효화가 있었으면 변경 전 행일 수 있으므로 캐시에 남기지 않음 (저장 후 한 번 더 확인)
+            if (invalidations.get() == before) {
+                cache.put(key, principal);
+                if (invalidations.get() != before) {
+                    cache.invalidate(key);
+                }
+            }
+        }
+        return principal;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 해당 이메일로 캐싱된 모든 권한의 사용자 정보 제거 (트랜잭션 밖이면 즉시)
+    public void evict(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        } else {
+            invalidate(email);
+        }
+    }
+
+    private void invalidate(String email) {
+        invalidations.incrementAndGet();
+        String prefix = email + KEY_DELIMITER;
+        cache.invalidateIf(key -> key.startsWith(prefix) && key.indexOf(KEY_DELIMITER, prefix.length()) < 0);
+    }
+}
@@ -18,7 +18,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Optional<User> user = userRepository.findByEmail(email);
+        // 탈퇴 처리된 유저는 데이터가 정리되기 전이라도 인증하지 않음
+        Optional<User> user = userRepository.findByEmail(email).filter(u -> !u.isWithdrawn());
         return user
                 .map(UserDetailsImpl::new)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
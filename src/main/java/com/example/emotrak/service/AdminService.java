@@ -25,6 +25,9 @@ public class AdminService {
     private final LikesRepository likesRepository;
     private final ReportRepository reportRepository;
     private final CommentRepository commentRepository;
+    private final DailyMonthCache dailyMonthCache;
+    private final BoardFeedCache boardFeedCache;
+    private final LikeCountBuffer likeCountBuffer;
 
     //신고 게시글 조회
     @Transactional(readOnly = true)
@@ -77,8 +80,13 @@ public class AdminService {
             throw new CustomException(CustomErrorCode.RESTRICT_ERROR);
         }
 
-        // 공유 중단 -> 공유할 수 없도록
+        // 공유 중단 -> 공유할 수 없도록 (공유 중이던 글이면 공유게시판 피드 캐시도 무효화)
+        boolean wasShared = daily.isShare();
         daily.restricted();
+        dailyMonthCache.evict(daily.getUser().getId(), daily.getDailyYear(), daily.getDailyMonth());
+        if (wasShared) {
+            boardFeedCache.evictAll();
+        }
 
         // 댓글 좋아요 날리기
         likesRepository.deleteCommentLike(daily.getId());
@@ -94,6 +102,10 @@ public class AdminService {
 
         // 해당 게시글 관련 신고 날리기
         reportRepository.deleteAllByDaily(daily);
+
+        // 좋아요/댓글을 모두 지웠으므로 카운터 초기화 (버퍼에 남은 좋아요 증감값도 버림)
+        boardRepository.resetCounts(daily.getId());
+        likeCountBuffer.discardDailyLikes(daily.getId());
     }
 
     // 신고 삭제
@@ -0,0 +1,97 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.board.BoardDetailResponseDto;
+import com.example.emotrak.dto.board.BoardGetDetailDto;
+import com.example.emotrak.dto.comment.CommentCursor;
+import com.example.emotrak.dto.comment.CommentDetailDto;
+import com.example.emotrak.dto.comment.CommentDetailDtoImpl;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.repository.BoardRepository;
+import com.example.emotrak.repository.CommentRepository;
+import com.example.emotrak.service.ViewerStateService.ViewerState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+ * 게시글 상세 조회
+ * 게시글, 댓글 한 페이지, 조회자의 좋아요/신고 여부를 댓글 수와 상관없이 최대 3번의 쿼리로 조회
+ * 1. 게시글 (좋아요/댓글 수는 비정규화 컬럼)
+ * 2. 댓글 한 페이지 (좋아요 수는 comment.like_count, count 쿼리 없이 Slice, page 번호 또는 마지막 댓글 (createdAt, id) 커서)
+ * 3. 게시글과 이 페이지 댓글들에 대한 조회자의 좋아요/신고 여부 (ViewerStateService, 비회원이면 생략)
+ * likes 테이블을 집계하지 않으므로 좋아요가 많아져도 조회 시간이 늘어나지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardDetailLoader {
+    static final int COMMENT_PAGE_SIZE = 20;
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final ViewerStateService viewerStateService;
+
+    // page 번호로 댓글 조회
+    public BoardDetailResponseDto load(Long dailyId, User viewer, int page) {
+        return load(dailyId, viewer, viewerId -> commentRepository.getCommentSlice(viewerId, dailyId,
+                PageRequest.of(page - 1, COMMENT_PAGE_SIZE)));
+    }
+
+    // 댓글 더 보기 : 커서 다음 댓글부터 조회 (긴 댓글 목록에서도 offset 만큼 건너뛰지 않음)
+    public BoardDetailResponseDto loadAfter(Long dailyId, User viewer, CommentCursor cursor) {
+        return load(dailyId, viewer, viewerId -> commentRepository.getCommentSliceAfter(viewerId, dailyId,
+                cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, COMMENT_PAGE_SIZE)));
+    }
+
+    private BoardDetailResponseDto load(Long dailyId, User viewer, Function<Long, Slice<CommentDetailDto>> commentLoader) {
+        Long viewerId = viewer == null ? 0L : viewer.getId();
+        BoardGetDetailDto detail = boardRepository.getDailyDetail(viewerId, dailyId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.BOARD_NOT_FOUND));
+
+        // 공유되지 않은 내역을 해당 유저 이외의 사람이 조회할 때 오류
+        if (!detail.getShare() && (viewer == null || !detail.getUserId().equals(viewer.getId()))) {
+            throw new CustomException(CustomErrorCode.RESTRICT_ERROR);
+        }
+
+        Slice<CommentDetailDto> comments = commentLoader.apply(viewerId);
+        List<Long> commentIds = new ArrayList<>(comments.getNumberOfElements());
+        for (CommentDetailDto row : comments.getContent()) {
+            commentIds.add(row.getId());
+        }
+        ViewerState viewerState = viewerStateService.lookup(viewer == null ? null : viewer.getId(), List.of(dailyId), commentIds);
+
+        List<CommentDetailDto> content = withViewerFlags(comments.getContent(), viewerState);
+        BoardDetailResponseDto response = new BoardDetailResponseDto(detail,
+                new SliceImpl<>(content, comments.getPageable(), comments.hasNext()),
+                viewerState.isDailyLiked(0), viewerState.isDailyReported(0));
+        if (comments.hasNext() && comments.hasContent()) {
+            response.setNextCursor(CommentCursor.from(comments.getContent().get(comments.getNumberOfElements() - 1)).encode());
+        }
+        return response;
+    }
+
+    // 조회 결과(프로젝션)는 수정할 수 없으므로 조회자 좋아요/신고 여부를 채운 복사본으로 변환
+    private List<CommentDetailDto> withViewerFlags(List<CommentDetailDto> rows, ViewerState viewerState) {
+        List<CommentDetailDto> result = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CommentDetailDto row = rows.get(i);
+            CommentDetailDto comment = new CommentDetailDtoImpl();
+            comment.setId(row.getId());
+            comment.setComment(row.getComment());
+            comment.setCreatedAt(row.getCreatedAt());
+            comment.setHasAuth(row.getHasAuth());
+            comment.setNickname(row.getNickname());
+            comment.setLikesCnt(row.getLikesCnt());
+            comment.setHasLike(viewerState.isCommentLiked(i));
+            comment.setHasReport(viewerState.isCommentReported(i));
+            result.add(comment);
+        }
+        return result;
+    }
+}
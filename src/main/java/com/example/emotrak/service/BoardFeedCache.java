@@ -0,0 +1,118 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.board.BoardImgPageRequestDto;
+import com.example.emotrak.dto.board.EmotionFilter;
+import com.example.emotrak.util.LocalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * 공유게시판 피드(최신순/인기순) 앞 페이지 캐시
+ * 비로그인 조회 대부분이 기본 감정 필터로 앞 몇 페이지만 보므로 (정렬, 감정 필터 mask, 페이지, 크기) 단위로 짧게 캐싱
+ * - 같은 키를 동시에 조회하면 첫 요청만 DB 를 조회하고 나머지는 그 결과를 기다림
+ * - 공유/공유 해제/공유 중지/삭제로 피드 구성이 바뀌면 트랜잭션 커밋 후 전체 무효화
+ *   (글 하나가 어느 정렬/페이지에 걸칠지 알 수 없으므로 키 단위가 아닌 전체 무효화, 좋아요 순서 변화는 TTL 로 반영)
+ * 적중률은 emotrak.cache.requests{cache=boardFeed} 메트릭으로 확인
+ */
+@Component
+public class BoardFeedCache {
+    private static final String CACHE_NAME = "boardFeed";
+
+    private final LocalCache<String, BoardImgPageRequestDto> cache;
+    private final ConcurrentMap<String, CompletableFuture<BoardImgPageRequestDto>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final int maxPage;
+    private final Counter hits;
+    private final Counter misses;
+
+    public BoardFeedCache(MeterRegistry meterRegistry,
+                          @Value("${app.board-feed-cache.max-size:1000}") int maxSize,
+                          @Value("${app.board-feed-cache.ttl-seconds:10}") long ttlSeconds,
+                          @Value("${app.board-feed-cache.max-page:5}") int maxPage) {
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+        this.maxPage = maxPage;
+        this.hits = meterRegistry.counter("emotrak.cache.requests", "cache", CACHE_NAME, "result", "hit");
+        this.misses = meterRegistry.counter("emotrak.cache.requests", "cache", CACHE_NAME, "result", "miss");
+        Gauge.builder("emotrak.cache.size", cache, LocalCache::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    // 앞 페이지(maxPage 이하)만 캐싱하고, 그보다 뒤 페이지는 바로 조회
+    public BoardImgPageRequestDto get(String sort, EmotionFilter emotionFilter, int page, int size,
+                                      Supplier<BoardImgPageRequestDto> loader) {
+        if (page > maxPage) {
+            return loader.get();
+        }
+        String key = sort + ":" + emotionFilter.getMask() + ":" + page + ":" + size;
+        BoardImgPageRequestDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        CompletableFuture<BoardImgPageRequestDto> future = new CompletableFuture<>();
+        CompletableFuture<BoardImgPageRequestDto> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            long before = invalidations.get();
+            BoardImgPageRequestDto loaded = loader.get();
+            cache.put(key, loaded);
+            // 조회하는 동안 무효화가 있었으면 방금 넣은 값을 다시 제거
+            if (invalidations.get() != before) {
+                cache.invalidate(key);
+            }
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 전체 무효화 (트랜잭션 밖이면 즉시)
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAll();
+                }
+            });
+        } else {
+            invalidateAll();
+        }
+    }
+
+    private void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // 다른 요청이 조회 중인 결과를 기다림 (조회 실패 시 같은 예외를 그대로 전달)
+    private BoardImgPageRequestDto await(CompletableFuture<BoardImgPageRequestDto> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.emotrak.service;
 
 import com.example.emotrak.dto.board.*;
+import com.example.emotrak.dto.comment.CommentCursor;
 import com.example.emotrak.dto.comment.CommentDetailDto;
 import com.example.emotrak.dto.like.LikeResponseDto;
 import com.example.emotrak.dto.report.ReportRequestDto;
@@ -10,9 +11,9 @@ import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +33,14 @@ public class BoardService {
     private final CommentRepository commentRepository;
     private final ReportRepository reportRepository;
     private final LikesRepository likesRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ImageDeleteQueue imageDeleteQueue;
+    private final ImageDerivativeService imageDerivativeService;
+    private final EmotionStatRepository emotionStatRepository;
+    private final DailyMonthCache dailyMonthCache;
+    private final BoardFeedCache boardFeedCache;
+    private final BoardDetailLoader boardDetailLoader;
+    private final ViewerStateService viewerStateService;
 
     @Value("#{'${app.image.allowedContentTypes}'.split(',')}")
     private List<String> allowedImageContentTypes;
@@ -51,12 +60,20 @@ public class BoardService {
          * 업로드하려는 새 이미지 파일, 현재 이미지의 URL(createDaily 에서는 이미지가 없으므로 null 값을 전달)
          * 삭제할지 여부를 나타내는 boolean 값(요청에 이미지 삭제가 포함되어 있으면 true 값을 전달)
          */
-        String imageUrl = handleImage(image, null, false);
+        UploadedImageDto uploadedImage = handleImage(image, UploadedImageDto.EMPTY, false);
         // Emotion 객체 찾기
         Emotion emotion = findEmotionById(boardRequestDto.getEmoId());
         // Daily 객체 생성 및 저장
-        Daily daily = new Daily(imageUrl, boardRequestDto, user, emotion);
+        Daily daily = new Daily(uploadedImage.getImgUrl(), boardRequestDto, user, emotion);
+        daily.updateImage(uploadedImage);
         boardRepository.save(daily);
+        scheduleDerivatives(image, daily);
+        // 그래프 집계, 달력 캐시 반영
+        reflectDailyChange(daily, 1);
+        // 공유글이면 공유게시판 피드 캐시 무효화
+        if (daily.isShare()) {
+            boardFeedCache.evictAll();
+        }
 
         return new BoardIdResponseDto(daily);
     }
@@ -68,21 +85,29 @@ public class BoardService {
             throw new CustomException(CustomErrorCode.RESTRICT_ERROR);
         }
         validateUserOrAdmin(user, daily);
-        String newImageUrl = handleImage(image, daily.getImgUrl(), boardRequestDto.isDeleteImg());
+        UploadedImageDto currentImage = new UploadedImageDto(daily.getImgUrl(), daily.getThumbUrl(), daily.getDisplayUrl());
+        UploadedImageDto newImage = handleImage(image, currentImage, boardRequestDto.isDeleteImg());
         // Emotion 객체 찾기
         Emotion emotion = findEmotionById(boardRequestDto.getEmoId());
-        // Daily 객체 업데이트 및 저장
-        daily.update(newImageUrl, boardRequestDto, emotion);
+        // Daily 객체 업데이트 및 저장 (그래프 집계는 수정 전 값을 빼고 수정 후 값을 더하고, 달력 캐시는 전/후 달 모두 무효화)
+        reflectDailyChange(daily, -1);
+        boolean wasShared = daily.isShare();
+        daily.update(newImage.getImgUrl(), boardRequestDto, emotion);
+        daily.updateImage(newImage);
+        scheduleDerivatives(image, daily);
+        reflectDailyChange(daily, 1);
+        // 수정 전이나 후에 공유글이면 피드 구성(공유 여부, 이미지, 감정)이 바뀌므로 피드 캐시 무효화
+        if (wasShared || daily.isShare()) {
+            boardFeedCache.evictAll();
+        }
     }
 
     // 글 삭제
     public void deleteDaily(Long dailyId, User user) {
         Daily daily = findDailyById(dailyId);
         validateUserOnly(user, daily);
-        // 이미지가 null이 아닌 경우에만 S3에서 이미지 파일 삭제
-        if (daily.getImgUrl() != null) {
-            fileUploadService.deleteFile(daily.getImgUrl());
-        }
+        // 원본과 파생 이미지를 S3 삭제 대기열에 등록 (커밋 후 백그라운드에서 삭제)
+        imageDeleteQueue.enqueueAll(imageUrls(new UploadedImageDto(daily.getImgUrl(), daily.getThumbUrl(), daily.getDisplayUrl())));
         // 댓글 좋아요 날리기
         likesRepository.deleteCommentLike(daily.getId());
         // 댓글 신고 날리기
@@ -95,6 +120,11 @@ public class BoardService {
         reportRepository.deleteAllByDaily(daily);
         // 데이터베이스에서 Daily 객체 삭제
         boardRepository.delete(daily);
+        // 그래프 집계, 달력 캐시 반영
+        reflectDailyChange(daily, -1);
+        if (daily.isShare()) {
+            boardFeedCache.evictAll();
+        }
     }
 
     // 예외처리 1
@@ -114,21 +144,44 @@ public class BoardService {
                 .orElseThrow(() -> new CustomException(CustomErrorCode.CONTENT_NOT_FOUND));
     }
     // 이미지처리 메소드
-    private String handleImage(MultipartFile image, String currentImageUrl, boolean deleteImg) {
-        String newImageUrl = currentImageUrl;
-        //deleteImg 가 true(이미지삭제요청)인 경우 기존 이미지 삭제
+    private UploadedImageDto handleImage(MultipartFile image, UploadedImageDto currentImage, boolean deleteImg) {
+        UploadedImageDto newImage = currentImage;
+        //deleteImg 가 true(이미지삭제요청)인 경우 기존 이미지를 S3 삭제 대기열에 등록
         if (deleteImg) {
-            if (currentImageUrl != null) {
-                fileUploadService.deleteFile(currentImageUrl);
-            }
-            newImageUrl = null;
+            imageDeleteQueue.enqueueAll(imageUrls(currentImage));
+            newImage = UploadedImageDto.EMPTY;
         }
-        // 이미지가 null 이 아니고 비어있지 않은 경우, 새로운 이미지 업로드
+        // 이미지가 null 이 아니고 비어있지 않은 경우, 새로운 이미지 업로드 (썸네일/압축본은 scheduleDerivatives)
         if (image != null && !image.isEmpty()) {
             validateImage(image);
-            newImageUrl = fileUploadService.uploadFile(image);
+            newImage = fileUploadService.uploadImage(image);
+            // 기존 이미지를 새 이미지로 교체하면 기존 이미지는 더 이상 참조되지 않으므로 삭제 대기열에 등록
+            if (!deleteImg) {
+                imageDeleteQueue.enqueueAll(imageUrls(currentImage));
+            }
+        }
+        return newImage;
+    }
+
+    // 새 이미지를 올렸으면 썸네일/압축본은 커밋 후 백그라운드에서 생성해 반영 (응답은 기다리지 않음)
+    private void scheduleDerivatives(MultipartFile image, Daily daily) {
+        if (image != null && !image.isEmpty()) {
+            imageDerivativeService.schedule(image, daily.getId(), daily.getImgUrl());
         }
-        return newImageUrl;
+    }
+
+    // 그래프 집계(emotion_stat)에 감정글 1건을 더하거나(sign = 1) 빼고(sign = -1), 감정글이 속한 달의 달력 캐시 무효화
+    private void reflectDailyChange(Daily daily, int sign) {
+        emotionStatRepository.add(daily.getUser().getId(), daily.getDailyYear(), daily.getDailyMonth(),
+                daily.getEmotion().getId(), sign, sign * daily.getStar());
+        dailyMonthCache.evict(daily.getUser().getId(), daily.getDailyYear(), daily.getDailyMonth());
+    }
+
+    // 원본과 파생 이미지 중 존재하는 URL
+    private List<String> imageUrls(UploadedImageDto image) {
+        return Stream.of(image.getImgUrl(), image.getThumbUrl(), image.getDisplayUrl())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // 수정 권한을 해당 유저와 관리자만 가능하게 메소드
@@ -149,20 +202,23 @@ public class BoardService {
     // 공유게시판 전체조회(이미지)
     @Transactional(readOnly = true)
     public BoardImgPageRequestDto getBoardImages(int page, int size, String emo, String sort, User user) {
-        Stream<String> stringStream = Arrays.stream(emo.split(","));
-        List<Long> emoList = stringStream.parallel().mapToLong(Long::parseLong).boxed().collect(Collectors.toList());
-
+        EmotionFilter emotionFilter = EmotionFilter.parse(emo);
         Pageable pageable = PageRequest.of(page-1, size);
 
-        Page<BoardImgRequestDto> boardImgRequestDtoList;
+        Slice<BoardImgRequestDto> boardImgRequestDtoList;
         switch (sort)
         {
+            // 최신순/인기순은 유저와 상관없이 같은 결과이므로 앞 페이지는 피드 캐시에서 응답
             case "recent":
-                boardImgRequestDtoList = boardRepository.getBoardImagesRecent(emoList, pageable);
-                break;
+                return boardFeedCache.get(sort, emotionFilter, page, size, () ->
+                        new BoardImgPageRequestDto(emotionFilter.isAll()
+                                ? boardRepository.getBoardImagesRecentAll(pageable)
+                                : boardRepository.getBoardImagesRecent(emotionFilter.getIds(), pageable), false));
             case "popular":
-                boardImgRequestDtoList = boardRepository.getBoardImagesPopular(emoList, pageable);
-                break;
+                return boardFeedCache.get(sort, emotionFilter, page, size, () ->
+                        new BoardImgPageRequestDto(emotionFilter.isAll()
+                                ? boardRepository.getBoardImagesPopularAll(pageable)
+                                : boardRepository.getBoardImagesPopular(emotionFilter.getIds(), pageable), true));
             default:
                 Long userId = (user == null ? 0L : user.getId());
                 boardImgRequestDtoList = boardRepository.getBoardImagesMine(userId, pageable);
@@ -172,6 +228,40 @@ public class BoardService {
         return new BoardImgPageRequestDto(boardImgRequestDtoList);
     }
 
+    // 공유게시판 전체조회(이미지) - 커서 방식, 페이지가 깊어져도 앞쪽 행을 건너뛰지 않음
+    @Transactional(readOnly = true)
+    public BoardImgPageRequestDto getBoardImagesByCursor(String cursor, int size, String emo, String sort, User user) {
+        EmotionFilter emotionFilter = EmotionFilter.parse(emo);
+        boolean popular = sort.equals("popular");
+        BoardCursor boardCursor = BoardCursor.decode(cursor, popular);
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<BoardImgRequestDto> boardImgRequestDtoList;
+        switch (sort)
+        {
+            case "recent":
+                boardImgRequestDtoList = emotionFilter.isAll()
+                        ? boardRepository.getBoardImagesRecentAllAfter(boardCursor.getCreatedAt(), boardCursor.getId(), pageable)
+                        : boardRepository.getBoardImagesRecentAfter(emotionFilter.getIds(),
+                                boardCursor.getCreatedAt(), boardCursor.getId(), pageable);
+                break;
+            case "popular":
+                boardImgRequestDtoList = emotionFilter.isAll()
+                        ? boardRepository.getBoardImagesPopularAllAfter(boardCursor.getLikeCount(),
+                                boardCursor.getCreatedAt(), boardCursor.getId(), pageable)
+                        : boardRepository.getBoardImagesPopularAfter(emotionFilter.getIds(),
+                                boardCursor.getLikeCount(), boardCursor.getCreatedAt(), boardCursor.getId(), pageable);
+                break;
+            default:
+                Long userId = (user == null ? 0L : user.getId());
+                boardImgRequestDtoList = boardRepository.getBoardImagesMineAfter(userId,
+                        boardCursor.getCreatedAt(), boardCursor.getId(), pageable);
+                break;
+        }
+
+        return new BoardImgPageRequestDto(boardImgRequestDtoList, popular);
+    }
+
     // 공유게시판 상세페이지
     @Transactional(readOnly = true)
     public BoardDetailResponseDto getBoardDetail(Long id, User user, int page) {
@@ -180,19 +270,14 @@ public class BoardService {
             throw new CustomException(CustomErrorCode.INVALID_PAGE);
         }
 
-        Long userId = user == null ? 0L : user.getId();
-        Optional<BoardGetDetailDto> boardGetDetailDtoList = boardRepository.getDailyDetail(userId, id);
-        if (boardGetDetailDtoList.isEmpty()) throw new CustomException(CustomErrorCode.BOARD_NOT_FOUND);
-
-        // 공유되지 않은 내역을 해당 유저 이외의 사람이 조회할 때 오류
-        if (!(boardGetDetailDtoList.get().getShare()) &&
-                (user == null || !boardGetDetailDtoList.get().getUserId().equals(user.getId()))) {
-            throw new CustomException(CustomErrorCode.RESTRICT_ERROR);
-        }
+        // 게시글, 댓글 한 페이지, 조회자 좋아요/신고 여부를 고정된 횟수의 쿼리로 조회
+        return boardDetailLoader.load(id, user, page);
+    }
 
-        Pageable pageable = PageRequest.of(page-1, 20);
-        Page<CommentDetailDto> commentDetailDtoPage = commentRepository.getCommentDetail(userId, id, pageable);
-        return new BoardDetailResponseDto(boardGetDetailDtoList.get(), commentDetailDtoPage);
+    // 공유게시판 상세페이지 댓글 더 보기 (커서 다음 댓글부터)
+    @Transactional(readOnly = true)
+    public BoardDetailResponseDto getBoardDetailAfter(Long id, User user, String cursor) {
+        return boardDetailLoader.loadAfter(id, user, CommentCursor.decode(cursor));
     }
 
 
@@ -205,23 +290,26 @@ public class BoardService {
         }
         Report report = new Report(reportRequestDto, user, daily);
         reportRepository.save(report);
+        viewerStateService.evict(user.getId());
     }
 
     //게시글 좋아요 (좋아요와 취소 번갈아가며 진행)
     public LikeResponseDto boardLikes(User user, Long boardId) {
         Daily daily = findDailyById(boardId);
-        Optional<Likes> likes = likesRepository.findByUserAndDaily(user, daily);
-        boolean like = likes.isEmpty();
-
-        if (like) {
-            // 좋아요 추가
-            likesRepository.save(new Likes(daily, user));
-        } else {
-            // 이미 좋아요한 경우, 좋아요 취소
-            likesRepository.deleteById(likes.get().getId());
+        // 좋아요 취소를 먼저 시도하고, 지운 내역이 없으면 좋아요 추가
+        boolean like = likesRepository.deleteUserDailyLike(user.getId(), daily.getId()) == 0;
+        // 동시에 들어온 중복 요청은 INSERT IGNORE 가 0 을 반환하므로 카운트하지 않음
+        int delta = like ? likesRepository.insertUserDailyLike(user.getId(), daily.getId()) : -1;
+        // 좋아요 수는 다시 세지 않고 DB 에 반영된 값 + 버퍼에 쌓인 증감값 + 이번 증감값으로 응답
+        // (이번 증감값은 커밋 후에 버퍼에 쌓이므로 여기서 더함)
+        int likeCount = Math.max(likeCountBuffer.dailyLikeCount(daily.getId(), daily.getLikeCount()) + delta, 0);
+        if (delta != 0) {
+            likeCountBuffer.addDailyLike(daily.getId(), delta);
         }
+        // 조회자 상태(hasLike) 캐시 무효화
+        viewerStateService.evict(user.getId());
 
-        return new LikeResponseDto(like, likesRepository.countByDaily(daily));
+        return new LikeResponseDto(like, likeCount);
     }
 
 }
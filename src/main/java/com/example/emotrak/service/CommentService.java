@@ -24,6 +24,8 @@ public class CommentService {
     private final BoardRepository boardRepository;
     private final ReportRepository reportRepository;
     private final LikesRepository likesRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ViewerStateService viewerStateService;
 
     //댓글작성
     public void createComment(Long id, CommentRequestDto commentRequestDto, User user) {
@@ -31,6 +33,7 @@ public class CommentService {
                 () -> new CustomException(CustomErrorCode.BOARD_NOT_FOUND)
         );
         commentRepository.saveAndFlush(new Comment(commentRequestDto, daily, user));
+        boardRepository.updateCommentCount(daily.getId(), 1);
     }
 
     //댓글수정
@@ -51,6 +54,7 @@ public class CommentService {
         reportRepository.deleteAllByComment(comment);
         // 댓글 날리기
         commentRepository.delete(comment);
+        boardRepository.updateCommentCount(comment.getDaily().getId(), -1);
     }
 
     //중복메서드 정리 1
@@ -75,23 +79,26 @@ public class CommentService {
         }
         Report report = new Report(reportRequestDto, user, comment);
         reportRepository.save(report);
+        viewerStateService.evict(user.getId());
     }
 
     //댓글 좋아요 (좋아요와 취소 번갈아가며 진행)
     public LikeResponseDto commentLikes(User user, Long commentId) {
         Comment comment = findCommentById(commentId);
-        Optional<Likes> likes = likesRepository.findByUserAndComment(user, comment);
-        boolean like = likes.isEmpty();
-
-        if (like) {
-            // 좋아요 추가
-            likesRepository.save(new Likes(comment, user));
-        } else {
-            // 이미 좋아요한 경우, 좋아요 취소
-            likesRepository.deleteByUserAndComment(user, comment);
+        // 좋아요 취소를 먼저 시도하고, 지운 내역이 없으면 좋아요 추가
+        boolean like = likesRepository.deleteUserCommentLike(user.getId(), comment.getId()) == 0;
+        // 동시에 들어온 중복 요청은 INSERT IGNORE 가 0 을 반환하므로 카운트하지 않음
+        int delta = like ? likesRepository.insertUserCommentLike(user.getId(), comment.getId()) : -1;
+        // 좋아요 수는 다시 세지 않고 DB 에 반영된 값 + 버퍼에 쌓인 증감값 + 이번 증감값으로 응답
+        // (이번 증감값은 커밋 후에 버퍼에 쌓이므로 여기서 더함)
+        int likeCount = Math.max(likeCountBuffer.commentLikeCount(comment.getId(), comment.getLikeCount()) + delta, 0);
+        if (delta != 0) {
+            likeCountBuffer.addCommentLike(comment.getId(), delta);
         }
+        // 조회자 상태(hasLike) 캐시 무효화
+        viewerStateService.evict(user.getId());
 
-        return new LikeResponseDto(like, likesRepository.countByComment(comment));
+        return new LikeResponseDto(like, likeCount);
     }
 
 }
@@ -0,0 +1,49 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.BoardRepository;
+import com.example.emotrak.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+ * 좋아요/댓글 수 카운터 보정 작업
+ * 카운터는 좋아요, 댓글 작성/삭제 시 원자적으로 증감하지만, 직접 삭제 쿼리나 장애 등으로 실제 건수와 어긋날 수 있으므로
+ * 주기적으로 likes, comment 테이블을 다시 집계해서 틀어진 행만 갱신
+ * 테이블 전체를 한 번에 잠그지 않도록 id 구간(chunkSize) 단위로 나누어 각각 별도 트랜잭션으로 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterRepairService {
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final LikeCountBuffer likeCountBuffer;
+
+    @Value("${app.counter.repair-chunk-size:1000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${app.counter.repair-cron:0 30 4 * * *}")
+    public void repairCounts() {
+        // 버퍼에 남은 좋아요 증감값을 먼저 반영해서 보정값에 이중으로 더해지지 않도록 함
+        likeCountBuffer.flush();
+
+        int dailyFixed = 0;
+        long maxDailyId = boardRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxDailyId; fromId += chunkSize) {
+            dailyFixed += boardRepository.repairCounts(fromId, fromId + chunkSize - 1);
+        }
+
+        int commentFixed = 0;
+        long maxCommentId = commentRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxCommentId; fromId += chunkSize) {
+            commentFixed += commentRepository.repairLikeCounts(fromId, fromId + chunkSize - 1);
+        }
+
+        if (dailyFixed > 0 || commentFixed > 0) {
+            log.info("카운터 보정 완료 : 게시글 {}건, 댓글 {}건", dailyFixed, commentFixed);
+        }
+    }
+}
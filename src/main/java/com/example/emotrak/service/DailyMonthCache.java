@@ -0,0 +1,82 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.daily.DailyResponseDto;
+import com.example.emotrak.util.LocalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * 달력(월별 내역) 응답 캐시
+ * 같은 유저가 같은 달을 반복해서 조회하므로 (userId, year, month) 단위로 응답을 캐싱하고,
+ * 감정글 작성/수정/삭제, 공유 중지 시 해당 달만 무효화 (트랜잭션 커밋 후)
+ * 조회 중에 무효화가 일어나면 방금 읽은 값이 오래된 값일 수 있으므로 캐시에 남기지 않음
+ * 적중률은 emotrak.cache.requests{cache=dailyMonth} 메트릭으로 확인
+ */
+@Component
+public class DailyMonthCache {
+    private static final String CACHE_NAME = "dailyMonth";
+
+    private final LocalCache<String, DailyResponseDto> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public DailyMonthCache(MeterRegistry meterRegistry,
+                           @Value("${app.daily-month-cache.max-size:10000}") int maxSize,
+                           @Value("${app.daily-month-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+        this.hits = meterRegistry.counter("emotrak.cache.requests", "cache", CACHE_NAME, "result", "hit");
+        this.misses = meterRegistry.counter("emotrak.cache.requests", "cache", CACHE_NAME, "result", "miss");
+        Gauge.builder("emotrak.cache.size", cache, LocalCache::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    public DailyResponseDto get(Long userId, int year, int month, Supplier<DailyResponseDto> loader) {
+        String key = key(userId, year, month);
+        DailyResponseDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long before = invalidations.get();
+        DailyResponseDto loaded = loader.get();
+        cache.put(key, loaded);
+        // 조회하는 동안 무효화가 있었으면 방금 넣은 값을 다시 제거
+        if (invalidations.get() != before) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 해당 달의 캐시 제거 (트랜잭션 밖이면 즉시)
+    public void evict(Long userId, int year, int month) {
+        String key = key(userId, year, month);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(key);
+                }
+            });
+        } else {
+            invalidate(key);
+        }
+    }
+
+    private void invalidate(String key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    private String key(Long userId, int year, int month) {
+        return userId + ":" + year + ":" + month;
+    }
+}
@@ -18,11 +18,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class DailyService {
     private final DailyRepository dailyRepository;
+    private final DailyMonthCache dailyMonthCache;
 
+    // 달력 조회는 캐시에서 응답하고, 없을 때만 DB 조회 (무효화는 BoardService, AdminService 에서)
     public DailyResponseDto getDailyMonth(int year, int month, User user) {
-        List<DailyMonthResponseDto> dailyMonthResponseDtoList
-                = dailyRepository.getDailyMonth(year, month, user.getId());
-        return new DailyResponseDto(year, month, dailyMonthResponseDtoList);
+        return dailyMonthCache.get(user.getId(), year, month, () -> {
+            List<DailyMonthResponseDto> dailyMonthResponseDtoList
+                    = dailyRepository.getDailyMonth(year, month, user.getId());
+            return new DailyResponseDto(year, month, dailyMonthResponseDtoList);
+        });
     }
 
     public DailyResponseDto getDailyDetail(Long dailyId, User user) {
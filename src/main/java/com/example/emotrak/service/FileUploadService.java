@@ -4,24 +4,34 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.example.emotrak.dto.board.UploadedImageDto;
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 //AWS S3를 사용하여 파일 업로드, 수정, 삭제를 수행하는 service Class
+@Slf4j
 @Service
 public class FileUploadService {
 
+    // S3 DeleteObjects 는 요청 한 번에 최대 1000개 키까지만 허용
+    static final int MAX_DELETE_KEYS = 1000;
+
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader multipartUploader;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -32,12 +42,39 @@ public class FileUploadService {
     @Value("${cloud.aws.cloudfront.replacement}")
     private String replacement;
 
-    public FileUploadService(AmazonS3 amazonS3) {this.amazonS3 = amazonS3;}
+    public FileUploadService(AmazonS3 amazonS3, S3MultipartUploader multipartUploader) {
+        this.amazonS3 = amazonS3;
+        this.multipartUploader = multipartUploader;
+    }
+
+    /*
+     * 게시글 이미지 업로드 : 원본만 올리고 바로 반환 (thumbUrl, displayUrl 은 null)
+     * 썸네일/압축본은 커밋 후 ImageDerivativeService 가 백그라운드에서 만들어 daily 에 반영
+     */
+    public UploadedImageDto uploadImage(MultipartFile file) {
+        return new UploadedImageDto(uploadFile(file), null, null);
+    }
+
+    // 파생 이미지(JPEG) 업로드 (ImageDerivativeService)
+    public String uploadJpeg(String fileName, byte[] content) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType("image/jpeg");
+        objectMetadata.setContentLength(content.length);
+        amazonS3.putObject(new PutObjectRequest(bucketName, fileName, new ByteArrayInputStream(content), objectMetadata));
+        return amazonS3.getUrl(bucketName, fileName).toString().replace(target, replacement);
+    }
 
     //AWS SDK 를 사용하여 AWS S3에 파일을 업로드
     public String uploadFile(MultipartFile file) {
         try {
             String fileName = generateFileName(file.getOriginalFilename());
+            // 큰 파일은 멀티파트로 나누어 스트리밍 전송 (파일 전체를 메모리에 올리지 않음)
+            if (multipartUploader.isMultipart(file.getSize())) {
+                try (InputStream inputStream = file.getInputStream()) {
+                    multipartUploader.upload(bucketName, fileName, inputStream, file.getSize(), file.getContentType());
+                }
+                return amazonS3.getUrl(bucketName, fileName).toString().replace(target, replacement);
+            }
             //ObjectMetadata 객체를 생성하여 업로드된 파일의 메타데이터(파일 크기 및 콘텐츠 유형)를 설정
             ObjectMetadata objectMetadata = new ObjectMetadata();
             objectMetadata.setContentType(file.getContentType());
@@ -68,10 +105,7 @@ public class FileUploadService {
     //s3파일삭제
     public void deleteFile(String fileUrl) {
         try {
-            // CloudFront URL 이 입력되면 S3 버킷 URL 로 변경
-            String s3Url = fileUrl.replace(target, replacement);
-            String fileName = s3Url.substring(s3Url.lastIndexOf("/") + 1);
-            amazonS3.deleteObject(bucketName, fileName);
+            amazonS3.deleteObject(bucketName, toKey(fileUrl));
         } catch (AmazonServiceException e) {
             // 권한이 없거나, S3 버킷이 없는 경우, S3 서비스가 다운되거나 요청이 제한되는 경우
             throw new CustomException(CustomErrorCode.AWS_SERVICE_ERROR);
@@ -92,29 +126,56 @@ public class FileUploadService {
     // 회원탈퇴시 여러객체 삭제
     public void deleteFiles(List<String> fileUrlList) {
         try {
-            ArrayList<KeyVersion> keys = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
             for (String fileUrl : fileUrlList) {
-                String s3Url = fileUrl.replace(target, replacement);
-                String fileName = s3Url.substring(s3Url.lastIndexOf("/") + 1);
-                keys.add(new KeyVersion(fileName));
+                keys.add(toKey(fileUrl));
             }
+            if (!deleteKeys(keys).isEmpty()) {
+                throw new CustomException(CustomErrorCode.FILE_DELETION_ERROR);
+            }
+        } catch (AmazonServiceException e) {
+            throw new CustomException(CustomErrorCode.AWS_SERVICE_ERROR);
+        } catch (AmazonClientException e) {
+            throw new CustomException(CustomErrorCode.AWS_CLIENT_ERROR);
+        } catch (Exception e) {
+            throw new CustomException(CustomErrorCode.FILE_DELETION_ERROR);
+        }
+    }
+
+    // 파일 URL 에서 S3 객체 키 추출 (CloudFront URL 이 입력되면 S3 버킷 URL 로 변경)
+    public String toKey(String fileUrl) {
+        String s3Url = fileUrl.replace(target, replacement);
+        return s3Url.substring(s3Url.lastIndexOf("/") + 1);
+    }
 
+    /*
+     * 여러 객체를 MAX_DELETE_KEYS 개씩 나누어 삭제하고, 삭제에 실패한 키 목록을 반환
+     * 일부 키만 실패하면 S3 가 MultiObjectDeleteException 으로 실패한 키를 알려주므로 그 키만 모아서 반환하고,
+     * 요청 자체가 실패한 경우(네트워크, 권한 등)에는 예외를 그대로 던짐
+     */
+    public List<String> deleteKeys(List<String> keys) {
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<KeyVersion> batch = new ArrayList<>();
+            for (String key : keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()))) {
+                batch.add(new KeyVersion(key));
+            }
             DeleteObjectsRequest multiObjectDeleteRequest = new DeleteObjectsRequest(bucketName)
-                    .withKeys(keys)
+                    .withKeys(batch)
                     /* quiet 모드가 활성화되면 (즉, withQuiet(true)로 설정되면),
                      * S3는 삭제 작업의 결과로 삭제된 객체에 대한 세부 정보를 반환하지 않습니다.
                      * 수많은 객체를 삭제할 때 결과에 대한 정보를 받지 않으면 처리 속도가 향상되기 때문에
                      * 대량 삭제 작업 시에 유용할 수 있습니다
                      */
                     .withQuiet(true);
-            amazonS3.deleteObjects(multiObjectDeleteRequest);
-        } catch (AmazonServiceException e) {
-            throw new CustomException(CustomErrorCode.AWS_SERVICE_ERROR);
-        } catch (AmazonClientException e) {
-            throw new CustomException(CustomErrorCode.AWS_CLIENT_ERROR);
-        } catch (Exception e) {
-            throw new CustomException(CustomErrorCode.FILE_DELETION_ERROR);
+            try {
+                amazonS3.deleteObjects(multiObjectDeleteRequest);
+            } catch (MultiObjectDeleteException e) {
+                for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                    failedKeys.add(error.getKey());
+                }
+            }
         }
+        return failedKeys;
     }
 }
-
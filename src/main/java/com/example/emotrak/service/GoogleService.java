@@ -1,21 +1,18 @@
 package com.example.emotrak.service;
 
+import com.example.emotrak.dto.oauth.GoogleUserInfoResponseDto;
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
 import com.example.emotrak.dto.user.OauthUserInfoDto;
-import com.example.emotrak.dto.user.TokenDto;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.UserRoleEnum;
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
-import com.example.emotrak.jwt.TokenProvider;
 import com.example.emotrak.repository.UserRepository;
-import com.example.emotrak.jwt.Validation;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.emotrak.util.JsonMappers;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -23,19 +20,20 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import javax.servlet.http.HttpServletResponse;
-import javax.transaction.Transactional;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-public class GoogleService {
+public class GoogleService implements OAuthProviderAdapter {
+    // 응답 JSON 을 트리(JsonNode) 없이 바로 읽는 공용 reader
+    private static final ObjectReader TOKEN_READER = JsonMappers.readerFor(OAuthTokenResponseDto.class);
+    private static final ObjectReader USER_INFO_READER = JsonMappers.readerFor(GoogleUserInfoResponseDto.class);
+
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final TokenProvider tokenProvider;
-    private final Validation validation;
+    private final OAuthLoginEngine oAuthLoginEngine;
+    private final OAuthHttpClient oAuthHttpClient;
     private final RestTemplate rt;
 
     @Value("${google_client_id}")
@@ -44,27 +42,14 @@ public class GoogleService {
     @Value("${google_client_secret}")
     private String clientSecret;
 
-    @Transactional
-    public void googleLogin(String code, String scope, HttpServletResponse response) throws JsonProcessingException {
-        // 1. "인가 코드"로 "액세스 토큰 & 리프레시 토큰" 요청
-        Map<String, String> tokens = getToken(code, scope);
-        String accessToken = tokens.get("access_token");
-        String refreshToken = tokens.get("refresh_token");
-        // 2. 토큰으로 구글 API 호출 : "액세스 토큰"으로 "구글 사용자 정보" 가져오기
-        OauthUserInfoDto oauthUserInfo = getGoogleUserInfo(accessToken);
-        // 3. 필요시에 회원가입
-        User googleUser = registerGoogleUserIfNeeded(oauthUserInfo);
-        // 4. 사용자 엔티티에 리프레시 토큰 저장 (연동해제를 위해 DB 저장, 구글은 최초 1회 리프레시 토큰 발급)
-        if (refreshToken != null) {
-            googleUser.updateGoogleRefresh(refreshToken);
-        }
-        // 5. JWT 토큰 반환
-        TokenDto tokenDto = tokenProvider.generateTokenDto(googleUser, googleUser.getRole());
-        validation.tokenToHeaders(tokenDto, response);
+    // 토큰 발급 -> 사용자 정보 조회 -> 필요시 회원가입 -> 리프레시 토큰 저장 -> JWT 반환 (OAuthLoginEngine)
+    public CompletableFuture<Void> googleLogin(String code, String scope, HttpServletResponse response) {
+        return oAuthLoginEngine.login(this, code, scope, response);
     }
 
     // 1. "인가 코드"로 "액세스 토큰 & 리프레시 토큰" 요청
-    private Map<String, String> getToken(String code, String scope) throws JsonProcessingException {
+    @Override
+    public CompletableFuture<OAuthTokenResponseDto> requestToken(String code, String scope) {
         // HTTP Header 생성
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
@@ -79,75 +64,55 @@ public class GoogleService {
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> tokenRequest =
                 new HttpEntity<>(body, headers);
-//        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://oauth2.googleapis.com/token",
-                HttpMethod.POST,
-                tokenRequest,
-                String.class
-        );
-        // HTTP 응답 (JSON) -> 액세스 토큰 & 리프레시 토큰 파싱
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        String accessToken = jsonNode.get("access_token").asText();
-        String refreshToken = jsonNode.has("refresh_token") ? jsonNode.get("refresh_token").asText() : null;
-
-        Map<String, String> tokens = new HashMap<>();
-        tokens.put("access_token", accessToken);
-        tokens.put("refresh_token", refreshToken);
-        return tokens;
-
+        return oAuthHttpClient.exchangeAsync("https://oauth2.googleapis.com/token", HttpMethod.POST, tokenRequest)
+                // HTTP 응답 (JSON) -> 액세스 토큰 & 리프레시 토큰 파싱
+                .thenApply(json -> JsonMappers.readValue(TOKEN_READER, json));
     }
 
     // 2. 토큰으로 구글 API 호출 : "액세스 토큰"으로 "구글 사용자 정보" 가져오기
-    private OauthUserInfoDto getGoogleUserInfo(String accessToken) throws JsonProcessingException {
+    @Override
+    public CompletableFuture<OauthUserInfoDto> requestUserInfo(String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.add("Authorization", "Bearer " + accessToken);
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
 
         HttpEntity<MultiValueMap<String, String>> googleUserInfoRequest = new HttpEntity<>(headers);
-//        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://www.googleapis.com/oauth2/v3/userinfo",
-                HttpMethod.POST,
-                googleUserInfoRequest,
-                String.class
-        );
-
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        String id = jsonNode.get("sub").asText(); // 변경된 부분, Google 사용자 정보 API 응답에서 response 필드는 존재하지 않는다
-        String email = jsonNode.get("email").asText();
-        String nickname = jsonNode.get("name") != null ? jsonNode.get("name").asText() : "google";
-        return new OauthUserInfoDto(id, email, nickname);
+        return oAuthHttpClient.exchangeAsync("https://www.googleapis.com/oauth2/v3/userinfo", HttpMethod.POST, googleUserInfoRequest)
+                .thenApply(json -> JsonMappers.<GoogleUserInfoResponseDto>readValue(USER_INFO_READER, json).toOauthUserInfo());
     }
 
-    // 3. 필요시에 회원가입
-    private User registerGoogleUserIfNeeded(OauthUserInfoDto oauthUserInfo) {
-        String googleId = oauthUserInfo.getId();
-        User googleUser = userRepository.findByGoogleId(googleId).orElse(null);
-        if (googleUser == null) {
-            String googleEmail = oauthUserInfo.getEmail();
-            User sameEmailUser = userRepository.findByEmail(googleEmail).orElse(null);
-            if (sameEmailUser != null) {
-                googleUser = sameEmailUser;
-                googleUser = googleUser.googleIdUpdate(googleId);
-            } else {
-                String password = UUID.randomUUID().toString();
-                String encodedPassword = passwordEncoder.encode(password);
-                String email = oauthUserInfo.getEmail();
-                String nickname = oauthUserInfo.getNickname().replace("_", "");
-                boolean hasNickname = userRepository.existsByNickname(nickname);
-                if (hasNickname) {
-                    nickname = oauthUserInfo.getNickname() + "_" + userRepository.getUniqueNameSuffix(nickname);
-                }
-                googleUser = new User(encodedPassword, email, nickname, null, null, googleId, UserRoleEnum.USER);
-            }
-            userRepository.save(googleUser);
+    // 3. 필요시에 회원가입 : GoogleId 또는 구글 사용자 email 과 같은 회원
+    @Override
+    public List<User> findByProviderIdOrEmail(String providerId, String email) {
+        return userRepository.findByGoogleIdOrEmail(providerId, email);
+    }
+
+    @Override
+    public boolean isLinked(User user, String providerId) {
+        return providerId.equals(user.getGoogleId());
+    }
+
+    @Override
+    public void link(User user, String providerId) {
+        user.googleIdUpdate(providerId);
+    }
+
+    @Override
+    public User createUser(String encodedPassword, String email, String nickname, String providerId) {
+        return new User(encodedPassword, email, nickname, null, null, providerId, UserRoleEnum.USER);
+    }
+
+    @Override
+    public String nickname(OauthUserInfoDto userInfo) {
+        return userInfo.getNickname().replace("_", "");
+    }
+
+    // 4. 사용자 엔티티에 리프레시 토큰 저장 (연동해제를 위해 DB 저장, 구글은 최초 1회 리프레시 토큰 발급)
+    @Override
+    public void afterLogin(User user, OAuthTokenResponseDto tokens) {
+        if (tokens.getRefreshToken() != null) {
+            user.updateGoogleRefresh(tokens.getRefreshToken());
         }
-        return googleUser;
     }
 
     //구글 연동해제
@@ -204,9 +169,8 @@ public class GoogleService {
             );
 
             if (response.getStatusCode() == HttpStatus.OK) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                return jsonNode.get("access_token").asText();
+                OAuthTokenResponseDto tokenResponse = TOKEN_READER.readValue(response.getBody());
+                return tokenResponse.getAccessToken();
             }
             return null;
         } catch (Exception e) {
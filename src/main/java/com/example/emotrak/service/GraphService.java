@@ -1,37 +1,99 @@
 package com.example.emotrak.service;
 
 import com.example.emotrak.dto.graph.GraphPercentageDto;
-import com.example.emotrak.dto.graph.GraphQueryDto;
 import com.example.emotrak.dto.graph.GraphResponseDto;
+import com.example.emotrak.entity.Emotion;
+import com.example.emotrak.entity.EmotionStat;
 import com.example.emotrak.entity.User;
-import com.example.emotrak.repository.GraphRepository;
+import com.example.emotrak.repository.EmotionRepository;
+import com.example.emotrak.repository.EmotionStatRepository;
+import com.example.emotrak.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GraphService {
-    private final GraphRepository graphRepository;
+    private final EmotionStatRepository emotionStatRepository;
+    private final EmotionRepository emotionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public List<GraphResponseDto> graph(int year, User user) {
-        Long userId = user.getId();
+    @Value("${app.graph.rebuild-chunk-size:1000}")
+    private long rebuildChunkSize;
 
-        List<GraphQueryDto> graphQueryDtoList = graphRepository.getGraph(year, userId);
+    /*
+     * 월별 감정 그래프
+     * emotion_stat 집계 테이블에서 유저의 한 해 집계(최대 72행)만 읽어서 계산
+     * count : 해당 월, 감정의 평균 별점 (소수 첫째 자리), percentage : 해당 월 작성 수 대비 비율 (소수 둘째 자리)
+     */
+    @Transactional(readOnly = true)
+    public List<GraphResponseDto> graph(int year, User user) {
+        Map<Integer, Map<Long, EmotionStat>> statsByMonth = new HashMap<>();
+        Map<Integer, Integer> totalByMonth = new HashMap<>();
+        for (EmotionStat stat : emotionStatRepository.findAllByUserIdAndDailyYear(user.getId(), year)) {
+            if (stat.getDailyCount() <= 0) {
+                continue;
+            }
+            statsByMonth.computeIfAbsent(stat.getDailyMonth(), month -> new HashMap<>()).put(stat.getEmotionId(), stat);
+            totalByMonth.merge(stat.getDailyMonth(), stat.getDailyCount(), Integer::sum);
+        }
 
+        List<Emotion> emotionList = emotionRepository.findAll(Sort.by("id"));
         List<GraphResponseDto> graphResponseDtoList = new ArrayList<>();
-        List<GraphPercentageDto> graphPercentageDtoList = new ArrayList<>();
-
-        for (GraphQueryDto graphQueryDto : graphQueryDtoList) {
-            graphPercentageDtoList.add(new GraphPercentageDto(graphQueryDto));
-            if (graphQueryDto.getId() == 6) {
-                graphResponseDtoList.add(new GraphResponseDto(graphQueryDto.getMonth(), graphPercentageDtoList));
-                graphPercentageDtoList = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            Map<Long, EmotionStat> stats = statsByMonth.getOrDefault(month, Map.of());
+            int total = totalByMonth.getOrDefault(month, 0);
+            List<GraphPercentageDto> graphPercentageDtoList = new ArrayList<>();
+            for (Emotion emotion : emotionList) {
+                EmotionStat stat = stats.get(emotion.getId());
+                if (stat == null) {
+                    graphPercentageDtoList.add(new GraphPercentageDto(emotion.getId(), 0, 0));
+                    continue;
+                }
+                float average = divide(stat.getStarSum(), stat.getDailyCount(), 1);
+                float percentage = divide(stat.getDailyCount() * 100L, total, 2);
+                graphPercentageDtoList.add(new GraphPercentageDto(emotion.getId(), average, percentage));
             }
+            graphResponseDtoList.add(new GraphResponseDto(month, graphPercentageDtoList));
         }
         return graphResponseDtoList;
     }
+
+    // MySQL ROUND 와 같이 반올림
+    private float divide(long dividend, long divisor, int scale) {
+        return BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), scale, RoundingMode.HALF_UP).floatValue();
+    }
+
+    /*
+     * emotion_stat 재집계 (최초 적재 및 보정용, 관리자 API 로 실행)
+     * 유저 id 구간 단위로 지우고 daily 에서 다시 집계하며, 구간마다 별도 트랜잭션으로 실행
+     */
+    public int rebuild() {
+        int rows = 0;
+        long maxUserId = userRepository.findMaxId();
+        for (long chunkStart = 1; chunkStart <= maxUserId; chunkStart += rebuildChunkSize) {
+            long fromId = chunkStart;
+            long toId = chunkStart + rebuildChunkSize - 1;
+            Integer inserted = transactionTemplate.execute(status -> {
+                emotionStatRepository.deleteByUserIdRange(fromId, toId);
+                return emotionStatRepository.insertByUserIdRange(fromId, toId);
+            });
+            rows += inserted == null ? 0 : inserted;
+        }
+        log.info("그래프 집계 재생성 완료 : {}행", rows);
+        return rows;
+    }
 }
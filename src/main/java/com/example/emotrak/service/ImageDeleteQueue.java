@@ -0,0 +1,102 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.entity.OrphanImage;
+import com.example.emotrak.repository.OrphanImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * S3 이미지 삭제 대기열
+ * 요청 처리 중에는 S3 를 호출하지 않고 orphan_image 테이블에 키만 적재(호출한 쪽 트랜잭션에 참여)하고,
+ * 스케줄러가 재시도 시각이 지난 키를 최대 1000개씩 꺼내 DeleteObjects 한 번으로 삭제
+ * 실패한 키는 지수 백오프로 다음 시도 시각을 미루며, 테이블에 남아 있으므로 재시작해도 이어서 처리됨
+ */
+@Slf4j
+@Service
+public class ImageDeleteQueue {
+    private final OrphanImageRepository orphanImageRepository;
+    private final FileUploadService fileUploadService;
+    private final int batchSize;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public ImageDeleteQueue(OrphanImageRepository orphanImageRepository,
+                            FileUploadService fileUploadService,
+                            @Value("${app.image-delete.batch-size:1000}") int batchSize,
+                            @Value("${app.image-delete.base-backoff-ms:30000}") long baseBackoffMs,
+                            @Value("${app.image-delete.max-backoff-ms:3600000}") long maxBackoffMs) {
+        this.orphanImageRepository = orphanImageRepository;
+        this.fileUploadService = fileUploadService;
+        this.batchSize = Math.min(batchSize, FileUploadService.MAX_DELETE_KEYS);
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public void enqueueAll(List<String> imgUrls) {
+        List<OrphanImage> orphanImages = new ArrayList<>();
+        for (String imgUrl : imgUrls) {
+            if (imgUrl != null) {
+                orphanImages.add(new OrphanImage(fileUploadService.toKey(imgUrl)));
+            }
+        }
+        if (!orphanImages.isEmpty()) {
+            orphanImageRepository.saveAll(orphanImages);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.image-delete.interval-ms:10000}")
+    public void drain() {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<OrphanImage> due = orphanImageRepository.findDue(now, PageRequest.of(0, batchSize));
+            if (due.isEmpty()) {
+                return;
+            }
+            List<String> keys = new ArrayList<>();
+            for (OrphanImage orphanImage : due) {
+                keys.add(orphanImage.getObjectKey());
+            }
+
+            Set<String> failedKeys;
+            try {
+                failedKeys = new HashSet<>(fileUploadService.deleteKeys(keys));
+            } catch (RuntimeException e) {
+                // 요청 자체가 실패하면 묶음 전체를 재시도 대상으로 처리
+                log.warn("S3 이미지 삭제 실패, 재시도 예정 : {}건", keys.size(), e);
+                failedKeys = new HashSet<>(keys);
+            }
+
+            List<Long> deletedIds = new ArrayList<>();
+            List<OrphanImage> retries = new ArrayList<>();
+            for (OrphanImage orphanImage : due) {
+                if (failedKeys.contains(orphanImage.getObjectKey())) {
+                    orphanImage.retryAt(now.plus(Duration.ofMillis(backoffMs(orphanImage.getAttempts()))));
+                    retries.add(orphanImage);
+                } else {
+                    deletedIds.add(orphanImage.getId());
+                }
+            }
+            if (!deletedIds.isEmpty()) {
+                orphanImageRepository.deleteAllByIdInBatch(deletedIds);
+            }
+            if (!retries.isEmpty()) {
+                orphanImageRepository.saveAll(retries);
+            }
+            // 마지막 묶음이거나 S3 가 전부 거절한 경우에는 다음 주기로 넘김
+            if (due.size() < batchSize || deletedIds.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    // 30초, 1분, 2분 ... 최대 maxBackoffMs
+    long backoffMs(int attempts) {
+        return Math.min(baseBackoffMs << Math.min(attempts, 20), maxBackoffMs);
+    }
+}
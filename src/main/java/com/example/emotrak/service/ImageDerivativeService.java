@@ -0,0 +1,135 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/*
+ * 게시글 이미지 파생본(썸네일/압축본) 백그라운드 생성
+ * 요청 스레드는 원본 업로드까지만 하고 바로 응답 (thumbUrl, displayUrl 은 null 이므로 클라이언트는 imgUrl 사용)
+ * - 원본을 임시 파일로 복사해 두고 (요청이 끝나면 업로드 임시 파일은 지워짐)
+ *   커밋 후 imageProcessingExecutor 에서 파생본 생성 -> S3 업로드 -> daily 에 URL 반영
+ * - 롤백되면 작업하지 않고, 대기열이 가득 차거나 실패하면 파생본 없이 유지
+ * - 그 사이 이미지가 바뀌었거나 글이 삭제되어 반영할 행이 없으면 올린 파생본을 삭제 대기열에 등록
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+    private final ExecutorService executor;
+    private final ImageThumbnailer imageThumbnailer;
+    private final FileUploadService fileUploadService;
+    private final BoardRepository boardRepository;
+    private final ImageDeleteQueue imageDeleteQueue;
+
+    public ImageDerivativeService(@Qualifier("imageProcessingExecutor") ExecutorService executor,
+                                  ImageThumbnailer imageThumbnailer,
+                                  FileUploadService fileUploadService,
+                                  BoardRepository boardRepository,
+                                  ImageDeleteQueue imageDeleteQueue) {
+        this.executor = executor;
+        this.imageThumbnailer = imageThumbnailer;
+        this.fileUploadService = fileUploadService;
+        this.boardRepository = boardRepository;
+        this.imageDeleteQueue = imageDeleteQueue;
+    }
+
+    // dailyId 글의 원본(imgUrl)에 대한 파생본 생성을 예약 (현재 트랜잭션이 커밋된 뒤 시작, 트랜잭션 밖이면 즉시)
+    public void schedule(MultipartFile file, Long dailyId, String imgUrl) {
+        Path source;
+        try {
+            source = Files.createTempFile("emotrak-image-", null);
+        } catch (IOException e) {
+            log.warn("파생 이미지용 임시 파일 생성 실패, 파생 이미지 없이 진행 : {}", imgUrl, e);
+            return;
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.copy(inputStream, source, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("파생 이미지용 임시 파일 복사 실패, 파생 이미지 없이 진행 : {}", imgUrl, e);
+            deleteQuietly(source);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(source, dailyId, imgUrl);
+                    } else {
+                        deleteQuietly(source);
+                    }
+                }
+            });
+        } else {
+            submit(source, dailyId, imgUrl);
+        }
+    }
+
+    private void submit(Path source, Long dailyId, String imgUrl) {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(source, dailyId, imgUrl);
+                } finally {
+                    deleteQuietly(source);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 처리 대기열이 가득 차서 파생 이미지 생성을 건너뜀 : {}", imgUrl);
+            deleteQuietly(source);
+        }
+    }
+
+    void process(Path source, Long dailyId, String imgUrl) {
+        ImageThumbnailer.Derivatives derivatives;
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            derivatives = imageThumbnailer.createDerivatives(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.warn("파생 이미지 생성 실패 : {}", imgUrl, e);
+            return;
+        }
+        if (derivatives == null) {
+            return;
+        }
+
+        List<String> uploaded = new ArrayList<>();
+        try {
+            String key = fileUploadService.toKey(imgUrl);
+            String thumbUrl = fileUploadService.uploadJpeg("thumb_" + key + ".jpg", derivatives.getThumb());
+            uploaded.add(thumbUrl);
+            String displayUrl = fileUploadService.uploadJpeg("display_" + key + ".jpg", derivatives.getDisplay());
+            uploaded.add(displayUrl);
+            if (boardRepository.updateDerivativeUrls(dailyId, imgUrl, thumbUrl, displayUrl) == 0) {
+                imageDeleteQueue.enqueueAll(uploaded);
+            }
+        } catch (RuntimeException e) {
+            log.warn("파생 이미지 업로드/반영 실패 : {}", imgUrl, e);
+            if (!uploaded.isEmpty()) {
+                imageDeleteQueue.enqueueAll(uploaded);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("임시 파일 삭제 실패 : {}", path, e);
+        }
+    }
+}
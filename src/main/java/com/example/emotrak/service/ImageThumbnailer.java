@@ -0,0 +1,112 @@
+package com.example.emotrak.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/*
+ * 업로드 이미지의 파생 이미지 생성 (공유게시판 그리드용 썸네일 + 상세 화면용 압축본)
+ * 원본은 한 번만 디코딩하고, 큰 원본은 디코딩 단계에서 서브샘플링해서 필요한 해상도만 메모리에 올림
+ * 요청 스레드에서는 호출하지 않음 (ImageDerivativeService 가 imageProcessingExecutor 에서 실행)
+ */
+@Component
+public class ImageThumbnailer {
+    private final int thumbSize;
+    private final int displaySize;
+    private final float jpegQuality;
+
+    public ImageThumbnailer(@Value("${app.image.thumb-size:320}") int thumbSize,
+                            @Value("${app.image.display-size:1280}") int displaySize,
+                            @Value("${app.image.jpeg-quality:0.8}") float jpegQuality) {
+        this.thumbSize = thumbSize;
+        this.displaySize = displaySize;
+        this.jpegQuality = jpegQuality;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Derivatives {
+        private byte[] thumb;
+        private byte[] display;
+    }
+
+    // 디코딩할 수 없는 형식이면 null
+    Derivatives createDerivatives(InputStream inputStream) throws IOException {
+        BufferedImage source = decode(inputStream);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage display = resize(source, displaySize);
+        // 썸네일은 원본 대신 이미 줄인 압축본에서 생성
+        BufferedImage thumb = resize(display, thumbSize);
+        return new Derivatives(encodeJpeg(thumb), encodeJpeg(display));
+    }
+
+    private BufferedImage decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                // 압축본 크기의 2배 이상이면 디코딩하면서 픽셀을 건너뛰어 읽음 (이후 리사이즈 품질은 유지)
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longSide / (displaySize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxSize 가 되도록 비율을 유지해서 축소 (확대하지 않음), 투명 영역은 흰색 배경으로 채움
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -1,37 +1,37 @@
 package com.example.emotrak.service;
 
+import com.example.emotrak.dto.oauth.KakaoUserInfoResponseDto;
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
 import com.example.emotrak.dto.user.OauthUserInfoDto;
-import com.example.emotrak.dto.user.TokenDto;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.UserRoleEnum;
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
-import com.example.emotrak.jwt.TokenProvider;
-import com.example.emotrak.jwt.Validation;
 import com.example.emotrak.repository.UserRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.emotrak.util.JsonMappers;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 import javax.servlet.http.HttpServletResponse;
-import javax.transaction.Transactional;
-import java.util.UUID;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-public class KakaoService {
-    private final PasswordEncoder passwordEncoder;
+public class KakaoService implements OAuthProviderAdapter {
+    // 응답 JSON 을 트리(JsonNode) 없이 바로 읽는 공용 reader
+    private static final ObjectReader TOKEN_READER = JsonMappers.readerFor(OAuthTokenResponseDto.class);
+    private static final ObjectReader USER_INFO_READER = JsonMappers.readerFor(KakaoUserInfoResponseDto.class);
+
     private final UserRepository userRepository;
-    private final TokenProvider tokenProvider;
-    private final Validation validation;
+    private final OAuthLoginEngine oAuthLoginEngine;
+    private final OAuthHttpClient oAuthHttpClient;
     private final RestTemplate rt;
 
     @Value("${kakao_client_id}")
@@ -40,21 +40,14 @@ public class KakaoService {
     @Value("${kakao_admin_key}")
     private String KakaoAdminKey;
 
-    @Transactional
-    public void kakaoLogin(String code, HttpServletResponse response) throws JsonProcessingException {
-        // 1. "인가 코드"로 "액세스 토큰" 요청
-        String accessToken = getToken(code);
-        // 2. 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기
-        OauthUserInfoDto oauthUserInfo = getKakaoUserInfo(accessToken);
-        // 3. 필요시에 회원가입
-        User kakaoUser = registerKakaoUserIfNeeded(oauthUserInfo);
-        // 4. JWT 토큰 반환
-        TokenDto tokenDto = tokenProvider.generateTokenDto(kakaoUser, kakaoUser.getRole());
-        validation.tokenToHeaders(tokenDto, response);
+    // 토큰 발급 -> 사용자 정보 조회 -> 필요시 회원가입 -> JWT 반환 (OAuthLoginEngine)
+    public CompletableFuture<Void> kakaoLogin(String code, HttpServletResponse response) {
+        return oAuthLoginEngine.login(this, code, null, response);
     }
 
     // 1. "인가 코드"로 "액세스 토큰" 요청
-    private String getToken(String code) throws JsonProcessingException {
+    @Override
+    public CompletableFuture<OAuthTokenResponseDto> requestToken(String code, String state) {
         // HTTP Header 생성
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
@@ -67,77 +60,49 @@ public class KakaoService {
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest =
                 new HttpEntity<>(body, headers);
-//        RestTemplate rt = new RestTemplate();
-//        rt.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
-        ResponseEntity<String> response = rt.exchange(
-                "https://kauth.kakao.com/oauth/token",
-                HttpMethod.POST,
-                kakaoTokenRequest,
-                String.class
-        );
-        // HTTP 응답 (JSON) -> 액세스 토큰 파싱
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        return jsonNode.get("access_token").asText();
+        return oAuthHttpClient.exchangeAsync("https://kauth.kakao.com/oauth/token", HttpMethod.POST, kakaoTokenRequest)
+                // HTTP 응답 (JSON) -> 액세스 토큰 파싱
+                .thenApply(json -> JsonMappers.readValue(TOKEN_READER, json));
     }
 
     // 2. 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기
-    private OauthUserInfoDto getKakaoUserInfo(String accessToken) throws JsonProcessingException {
+    @Override
+    public CompletableFuture<OauthUserInfoDto> requestUserInfo(String accessToken) {
         // HTTP Header 생성
         HttpHeaders headers = new HttpHeaders();
         headers.add("Authorization", "Bearer " + accessToken);
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-//        RestTemplate rt = new RestTemplate();
-//        rt.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
-        ResponseEntity<String> response = rt.exchange(
-                "https://kapi.kakao.com/v2/user/me",
-                HttpMethod.POST,
-                kakaoUserInfoRequest,
-                String.class
-        );
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        Long id = jsonNode.get("id").asLong();
-        String nickname = jsonNode.get("properties")
-                .get("nickname").asText();
-        String email = jsonNode.get("kakao_account")
-                .get("email").asText();
-        return new OauthUserInfoDto(String.valueOf(id), email, nickname);
+        return oAuthHttpClient.exchangeAsync("https://kapi.kakao.com/v2/user/me", HttpMethod.POST, kakaoUserInfoRequest)
+                .thenApply(json -> JsonMappers.<KakaoUserInfoResponseDto>readValue(USER_INFO_READER, json).toOauthUserInfo());
     }
 
-    // 3. 필요시에 회원가입
-    private User registerKakaoUserIfNeeded(OauthUserInfoDto oauthUserInfo) {
-        // DB 에 중복된 KakaoId 가 있는지 확인
-        Long kakaoId = Long.parseLong(oauthUserInfo.getId()); // String 을 Long 으로 변환
-        User kakaoUser = userRepository.findByKakaoId(kakaoId)
-                .orElse(null);
-        if (kakaoUser == null) {
-            // 카카오 사용자 email 동일한 email 가진 회원이 있는지 확인
-            String kakaoEmail = oauthUserInfo.getEmail();
-            User sameEmailUser = userRepository.findByEmail(kakaoEmail).orElse(null);
-            if (sameEmailUser != null) {
-                kakaoUser = sameEmailUser;
-                // 기존 회원정보에 카카오 Id 추가
-                kakaoUser = kakaoUser.kakaoIdUpdate(kakaoId);
-            } else {
-                // 신규 회원가입
-                String password = UUID.randomUUID().toString();
-                String encodedPassword = passwordEncoder.encode(password);
-                String email = oauthUserInfo.getEmail();
-                String nickname = oauthUserInfo.getNickname().replace("_", "");
-                boolean hasNickname = userRepository.existsByNickname(nickname);
-                if (hasNickname) {
-                    nickname = oauthUserInfo.getNickname() + "_" + userRepository.getUniqueNameSuffix(nickname);
-                }
-                kakaoUser = new User(encodedPassword, email, nickname, kakaoId, null, null, UserRoleEnum.USER);
-            }
-            userRepository.save(kakaoUser);
-        }
-        return kakaoUser;
+    // 3. 필요시에 회원가입 : KakaoId 또는 카카오 사용자 email 과 같은 회원
+    @Override
+    public List<User> findByProviderIdOrEmail(String providerId, String email) {
+        return userRepository.findByKakaoIdOrEmail(Long.parseLong(providerId), email); // String 을 Long 으로 변환
+    }
+
+    @Override
+    public boolean isLinked(User user, String providerId) {
+        return Long.valueOf(providerId).equals(user.getKakaoId());
+    }
+
+    // 기존 회원정보에 카카오 Id 추가
+    @Override
+    public void link(User user, String providerId) {
+        user.kakaoIdUpdate(Long.parseLong(providerId));
+    }
+
+    @Override
+    public User createUser(String encodedPassword, String email, String nickname, String providerId) {
+        return new User(encodedPassword, email, nickname, Long.parseLong(providerId), null, null, UserRoleEnum.USER);
+    }
+
+    @Override
+    public String nickname(OauthUserInfoDto userInfo) {
+        return userInfo.getNickname().replace("_", "");
     }
 
     // 카카오 연동해제를 위한 카카오 API 호출 (AdminKey 를 이용한 연동해제 적용)
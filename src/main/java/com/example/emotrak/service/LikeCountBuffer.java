@@ -0,0 +1,104 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.BoardRepository;
+import com.example.emotrak.repository.CommentRepository;
+import com.example.emotrak.util.StripedDeltaBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/*
+ * 좋아요 수 증감 버퍼
+ * 좋아요 토글마다 카운터 컬럼을 UPDATE 하면 인기글에서 같은 행에 잠금 경합이 생기므로,
+ * 증감값은 메모리에 모아두었다가 주기적으로 같은 증감값끼리 묶어 한 번의 UPDATE ... WHERE id IN (...) 으로 반영
+ * 응답의 좋아요 수는 DB 에 반영된 값 + 아직 반영되지 않은 증감값으로 계산
+ * 증감값은 트랜잭션이 커밋된 뒤에 쌓음 (롤백된 좋아요가 반영되지 않도록)
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final StripedDeltaBuffer dailyDeltas;
+    private final StripedDeltaBuffer commentDeltas;
+
+    public LikeCountBuffer(BoardRepository boardRepository,
+                           CommentRepository commentRepository,
+                           @Value("${app.like-buffer.stripes:16}") int stripes) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.dailyDeltas = new StripedDeltaBuffer(stripes);
+        this.commentDeltas = new StripedDeltaBuffer(stripes);
+    }
+
+    public void addDailyLike(Long dailyId, int delta) {
+        afterCommit(() -> dailyDeltas.add(dailyId, delta));
+    }
+
+    public void addCommentLike(Long commentId, int delta) {
+        afterCommit(() -> commentDeltas.add(commentId, delta));
+    }
+
+    // 좋아요를 모두 지운 글 (공유 중지) : 아직 반영되지 않은 증감값이 0 으로 초기화한 카운터에 더해지지 않도록 버림
+    public void discardDailyLikes(Long dailyId) {
+        afterCommit(() -> dailyDeltas.remove(dailyId));
+    }
+
+    public int dailyLikeCount(Long dailyId, int persistedCount) {
+        return (int) Math.max(persistedCount + dailyDeltas.pending(dailyId), 0);
+    }
+
+    public int commentLikeCount(Long commentId, int persistedCount) {
+        return (int) Math.max(persistedCount + commentDeltas.pending(commentId), 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.like-buffer.flush-interval-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        flush(dailyDeltas, boardRepository::updateLikeCounts);
+        flush(commentDeltas, commentRepository::updateLikeCounts);
+    }
+
+    private void flush(StripedDeltaBuffer buffer, BiConsumer<List<Long>, Integer> updater) {
+        Map<Long, Long> drained = buffer.drain();
+        if (drained.isEmpty()) return;
+
+        // 같은 증감값을 가진 id 끼리 묶어서 UPDATE 횟수를 줄임 (대부분 +1 / -1)
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        drained.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id));
+
+        idsByDelta.forEach((delta, ids) -> {
+            try {
+                updater.accept(ids, delta.intValue());
+            } catch (RuntimeException e) {
+                // 반영에 실패한 증감값은 버퍼에 되돌려 다음 주기에 다시 시도
+                ids.forEach(id -> buffer.add(id, delta));
+                log.warn("좋아요 수 반영 실패, 다음 주기에 재시도 : {}건", ids.size(), e);
+            }
+        });
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 즉시)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.util.LocalCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/*
+ * 인스턴스 메모리 인증 코드 저장소
+ * - 코드는 code-ttl-seconds, 인증 완료 상태는 verified-ttl-seconds 동안 유지 (LocalCache, 최대 max-size 개)
+ * - 이메일별로 max-attempts 번 넘게 틀리면 코드를 폐기
+ * - 코드 비교는 MessageDigest.isEqual (비교 시간으로 코드를 추측할 수 없도록)
+ */
+@Component
+public class LocalVerificationCodeStore implements VerificationCodeStore {
+
+    private final int maxAttempts;
+    private final LocalCache<String, PendingCode> codes;
+    private final LocalCache<String, Boolean> verified;
+
+    @Autowired
+    public LocalVerificationCodeStore(@Value("${app.verification.max-size:10000}") int maxSize,
+                                      @Value("${app.verification.code-ttl-seconds:300}") long codeTtlSeconds,
+                                      @Value("${app.verification.verified-ttl-seconds:1800}") long verifiedTtlSeconds,
+                                      @Value("${app.verification.max-attempts:5}") int maxAttempts) {
+        this(maxSize, codeTtlSeconds, verifiedTtlSeconds, maxAttempts, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 조정할 수 있도록 clock 주입
+    LocalVerificationCodeStore(int maxSize, long codeTtlSeconds, long verifiedTtlSeconds, int maxAttempts, LongSupplier clock) {
+        this.maxAttempts = maxAttempts;
+        this.codes = new LocalCache<>(maxSize, Duration.ofSeconds(codeTtlSeconds), clock);
+        this.verified = new LocalCache<>(maxSize, Duration.ofSeconds(verifiedTtlSeconds), clock);
+    }
+
+    @Override
+    public void save(String email, String code) {
+        String key = key(email);
+        verified.invalidate(key);
+        codes.put(key, new PendingCode(code));
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        String key = key(email);
+        PendingCode pending = codes.getIfPresent(key);
+        if (pending == null) return Result.EXPIRED;
+        if (pending.attempts.incrementAndGet() > maxAttempts) {
+            codes.invalidate(key);
+            return Result.TOO_MANY_ATTEMPTS;
+        }
+        if (code == null || !MessageDigest.isEqual(pending.code, code.getBytes(StandardCharsets.UTF_8))) {
+            return Result.MISMATCH;
+        }
+        codes.invalidate(key);
+        verified.put(key, Boolean.TRUE);
+        return Result.VERIFIED;
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        return verified.getIfPresent(key(email)) != null;
+    }
+
+    @Override
+    public boolean consumeVerified(String email) {
+        // 동시에 들어온 가입 요청 중 하나만 인증 완료 상태를 꺼내 씀
+        return verified.remove(key(email)) != null;
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static class PendingCode {
+        private final byte[] code;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private PendingCode(String code) {
+            this.code = code.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.util.LocalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.AddressException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 메일 발송 대기열
+ * - 요청 스레드는 대기열에 넣고 바로 반환, 발송은 workers 개의 발송 스레드가 처리
+ * - 발송 스레드마다 smtp 연결을 하나씩 열어 두고 재사용 (메일마다 연결/TLS/인증을 반복하지 않음)
+ *   idle-timeout-ms 동안 보낼 메일이 없으면 닫고, 재사용한 연결이 서버에서 끊겨 있으면 새 연결로 한 번 더 시도
+ * - 한 번에 batch-size 개까지 꺼내 같은 연결로 이어서 발송
+ * - 실패한 메일은 지수 백오프 후 다시 발송 (max-attempts 회까지), 주소가 잘못된 메일은 바로 버림
+ * - 같은 수신자에게는 per-recipient-interval-seconds 에 한 번만 접수 (MAIL_TOO_MANY_REQUESTS), 대기열이 가득 차면 MAIL_BUSY
+ * 인증 메일은 유효 시간이 짧으므로 DB 가 아닌 메모리 대기열을 사용 (종료 시 남은 메일은 버려짐)
+ */
+@Slf4j
+@Service
+public class MailOutbox {
+    private final JavaMailSenderImpl mailSender;
+    private final InternetAddress from;
+    private final int capacity;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long idleTimeoutMs;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    // 발송 시각(처음에는 접수 즉시, 재시도는 백오프 후)이 된 메일만 꺼내짐
+    private final DelayQueue<OutgoingMail> queue = new DelayQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LocalCache<String, Boolean> recentRecipients;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dropped;
+
+    private ExecutorService executor;
+
+    public MailOutbox(JavaMailSenderImpl mailSender,
+                      MeterRegistry meterRegistry,
+                      @Value("${spring.mail.username}") String fromAddress,
+                      @Value("${app.mail.from-name:Emotrak_Admin}") String fromName,
+                      @Value("${app.mail.capacity:1000}") int capacity,
+                      @Value("${app.mail.workers:2}") int workers,
+                      @Value("${app.mail.batch-size:20}") int batchSize,
+                      @Value("${app.mail.per-recipient-interval-seconds:60}") long perRecipientIntervalSeconds,
+                      @Value("${app.mail.idle-timeout-ms:10000}") long idleTimeoutMs,
+                      @Value("${app.mail.max-attempts:5}") int maxAttempts,
+                      @Value("${app.mail.base-backoff-ms:1000}") long baseBackoffMs,
+                      @Value("${app.mail.max-backoff-ms:60000}") long maxBackoffMs) {
+        this.mailSender = mailSender;
+        try {
+            this.from = new InternetAddress(fromAddress, fromName, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        this.capacity = capacity;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.recentRecipients = new LocalCache<>(capacity * 10, Duration.ofSeconds(perRecipientIntervalSeconds));
+        this.sent = meterRegistry.counter("emotrak.mail", "result", "sent");
+        this.retried = meterRegistry.counter("emotrak.mail", "result", "retry");
+        this.dropped = meterRegistry.counter("emotrak.mail", "result", "dropped");
+        meterRegistry.gauge("emotrak.mail.pending", pending);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (executor != null) return;
+        executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("mail-outbox-"));
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (executor == null) return;
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        executor = null;
+        if (pending.get() > 0) {
+            log.warn("발송하지 못한 메일 {}건을 버림", pending.get());
+        }
+    }
+
+    // html 본문 메일을 접수 (발송 결과는 기다리지 않음)
+    public void enqueue(String to, String subject, String html) {
+        String recipient = to.toLowerCase(Locale.ROOT);
+        if (recentRecipients.putIfAbsent(recipient, Boolean.TRUE) != null) {
+            throw new CustomException(CustomErrorCode.MAIL_TOO_MANY_REQUESTS);
+        }
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            recentRecipients.invalidate(recipient);
+            throw new CustomException(CustomErrorCode.MAIL_BUSY);
+        }
+        queue.add(new OutgoingMail(to, subject, html, 0, System.nanoTime()));
+    }
+
+    public int pending() {
+        return pending.get();
+    }
+
+    private void work() {
+        SmtpConnection connection = new SmtpConnection();
+        List<OutgoingMail> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                OutgoingMail first = queue.poll(idleTimeoutMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    connection.close();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                pending.addAndGet(-batch.size());
+                for (OutgoingMail mail : batch) {
+                    send(connection, mail);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void send(SmtpConnection connection, OutgoingMail mail) {
+        try {
+            connection.send(toMessage(mail));
+            sent.increment();
+        } catch (MessagingException | RuntimeException e) {
+            if (e instanceof MessagingException && isPermanent((MessagingException) e)) {
+                dropped.increment();
+                log.warn("잘못된 수신 주소, 메일을 버림", e);
+                return;
+            }
+            retry(mail, e);
+        }
+    }
+
+    private void retry(OutgoingMail mail, Exception cause) {
+        int attempts = mail.attempts + 1;
+        if (attempts >= maxAttempts) {
+            dropped.increment();
+            log.warn("메일 발송 {}회 실패, 메일을 버림", attempts, cause);
+            return;
+        }
+        long delayMs = backoffMs(mail.attempts);
+        log.warn("메일 발송 실패, {}ms 후 재시도 ({}회째)", delayMs, attempts, cause);
+        pending.incrementAndGet();
+        queue.add(new OutgoingMail(mail.to, mail.subject, mail.html, attempts,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs)));
+        retried.increment();
+    }
+
+    // 1초, 2초, 4초 ... 최대 maxBackoffMs
+    long backoffMs(int attempts) {
+        return Math.min(baseBackoffMs << Math.min(attempts, 20), maxBackoffMs);
+    }
+
+    private MimeMessage toMessage(OutgoingMail mail) throws MessagingException {
+        MimeMessage message = new MimeMessage(mailSender.getSession());
+        message.setFrom(from);
+        message.addRecipients(MimeMessage.RecipientType.TO, mail.to);
+        message.setSubject(mail.subject, "utf-8");
+        message.setText(mail.html, "utf-8", "html");
+        return message;
+    }
+
+    // 다시 보내도 성공할 수 없는 실패 (주소 형식 오류, 서버가 거절한 수신 주소)
+    private static boolean isPermanent(MessagingException e) {
+        if (e instanceof AddressException) return true;
+        if (e instanceof SendFailedException) {
+            Address[] invalid = ((SendFailedException) e).getInvalidAddresses();
+            return invalid != null && invalid.length > 0;
+        }
+        return false;
+    }
+
+    // 발송 스레드 하나가 계속 쓰는 smtp 연결 (Transport 는 스레드 간에 공유하지 않음)
+    private class SmtpConnection {
+        private Transport transport;
+
+        private void send(MimeMessage message) throws MessagingException {
+            message.saveChanges();
+            boolean reused = transport != null;
+            try {
+                sendOnce(message);
+            } catch (MessagingException e) {
+                close();
+                // 쉬는 동안 서버가 끊은 연결일 수 있으므로 새 연결로 한 번 더
+                if (!reused || isPermanent(e)) throw e;
+                sendOnce(message);
+            }
+        }
+
+        private void sendOnce(MimeMessage message) throws MessagingException {
+            if (transport == null) {
+                Transport newTransport = mailSender.getSession().getTransport(mailSender.getProtocol());
+                newTransport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+                transport = newTransport;
+            }
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+
+        private void close() {
+            if (transport == null) return;
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("smtp 연결 종료 실패", e);
+            }
+            transport = null;
+        }
+    }
+
+    private static class OutgoingMail implements Delayed {
+        private final String to;
+        private final String subject;
+        private final String html;
+        private final int attempts;
+        private final long sendAtNanos;
+
+        private OutgoingMail(String to, String subject, String html, int attempts, long sendAtNanos) {
+            this.to = to;
+            this.subject = subject;
+            this.html = html;
+            this.attempts = attempts;
+            this.sendAtNanos = sendAtNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(sendAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(sendAtNanos, ((OutgoingMail) other).sendAtNanos);
+        }
+    }
+}
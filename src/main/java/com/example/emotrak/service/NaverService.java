@@ -1,38 +1,36 @@
 package com.example.emotrak.service;
 
+import com.example.emotrak.dto.oauth.NaverUserInfoResponseDto;
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
 import com.example.emotrak.dto.user.OauthUserInfoDto;
-import com.example.emotrak.dto.user.TokenDto;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.UserRoleEnum;
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
-import com.example.emotrak.jwt.TokenProvider;
 import com.example.emotrak.repository.UserRepository;
-import com.example.emotrak.jwt.Validation;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.emotrak.util.JsonMappers;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import javax.servlet.http.HttpServletResponse;
-import javax.transaction.Transactional;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-public class NaverService {
+public class NaverService implements OAuthProviderAdapter {
+    // 응답 JSON 을 트리(JsonNode) 없이 바로 읽는 공용 reader
+    private static final ObjectReader TOKEN_READER = JsonMappers.readerFor(OAuthTokenResponseDto.class);
+    private static final ObjectReader USER_INFO_READER = JsonMappers.readerFor(NaverUserInfoResponseDto.class);
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final TokenProvider tokenProvider;
-    private final Validation validation;
+    private final OAuthLoginEngine oAuthLoginEngine;
+    private final OAuthHttpClient oAuthHttpClient;
     private final RestTemplate rt;
 
     @Value("${naver_client_id}")
@@ -41,24 +39,14 @@ public class NaverService {
     @Value("${naver_client_secret}")
     private String clientSecret;
 
-    @Transactional
-    public void naverLogin(String code, String state, HttpServletResponse response) throws JsonProcessingException {
-        // 1. "인가 코드"로 "액세스 토큰 & 리프레시 토큰" 요청
-        Map<String, String> tokens = getToken(code, state);
-        String accessToken = tokens.get("access_token");
-        String refreshToken = tokens.get("refresh_token");
-        // 2. 토큰으로 네이버 API 호출 : "액세스 토큰"으로 "네이버 사용자 정보" 가져오기
-        OauthUserInfoDto oauthUserInfo = getNaverUserInfo(accessToken);
-        // 3. 필요시에 회원가입
-        User naverUser = registerNaverUserIfNeeded(oauthUserInfo);
-        // 4. 사용자 엔티티에 리프레시 토큰 저장 (연동해제를 위해 DB 저장)
-        naverUser.updateNaverRefresh(refreshToken);
-        // 5. JWT 토큰 반환
-        TokenDto tokenDto = tokenProvider.generateTokenDto(naverUser, naverUser.getRole());
-        validation.tokenToHeaders(tokenDto,response);
+    // 토큰 발급 -> 사용자 정보 조회 -> 필요시 회원가입 -> 리프레시 토큰 저장 -> JWT 반환 (OAuthLoginEngine)
+    public CompletableFuture<Void> naverLogin(String code, String state, HttpServletResponse response) {
+        return oAuthLoginEngine.login(this, code, state, response);
     }
+
     // 1. "인가 코드"로 "액세스 토큰 & 리프레시 토큰" 요청
-    private Map<String, String> getToken(String code, String state) throws JsonProcessingException {
+    @Override
+    public CompletableFuture<OAuthTokenResponseDto> requestToken(String code, String state) {
         // HTTP Header 생성
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
@@ -73,77 +61,48 @@ public class NaverService {
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> tokenRequest =
                 new HttpEntity<>(body, headers);
-//        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://nid.naver.com/oauth2.0/token",
-                HttpMethod.POST,
-                tokenRequest,
-                String.class
-        );
-        // HTTP 응답 (JSON) -> 액세스 토큰 & 리프레시 토큰 파싱
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        String accessToken = jsonNode.get("access_token").asText();
-        String refreshToken = jsonNode.get("refresh_token").asText();
-
-        Map<String, String> tokens = new HashMap<>();
-        tokens.put("access_token", accessToken);
-        tokens.put("refresh_token", refreshToken);
-        return tokens;
-
+        return oAuthHttpClient.exchangeAsync("https://nid.naver.com/oauth2.0/token", HttpMethod.POST, tokenRequest)
+                // HTTP 응답 (JSON) -> 액세스 토큰 & 리프레시 토큰 파싱
+                .thenApply(json -> JsonMappers.readValue(TOKEN_READER, json));
     }
 
     // 2. 토큰으로 네이버 API 호출 : "액세스 토큰"으로 "네이버 사용자 정보" 가져오기
-    private OauthUserInfoDto getNaverUserInfo(String accessToken) throws JsonProcessingException {
+    @Override
+    public CompletableFuture<OauthUserInfoDto> requestUserInfo(String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.add("Authorization", "Bearer " + accessToken);
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
 
         HttpEntity<MultiValueMap<String, String>> naverUserInfoRequest = new HttpEntity<>(headers);
-//        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://openapi.naver.com/v1/nid/me",
-                HttpMethod.POST,
-                naverUserInfoRequest,
-                String.class
-        );
+        return oAuthHttpClient.exchangeAsync("https://openapi.naver.com/v1/nid/me", HttpMethod.POST, naverUserInfoRequest)
+                .thenApply(json -> JsonMappers.<NaverUserInfoResponseDto>readValue(USER_INFO_READER, json).toOauthUserInfo());
+    }
 
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        JsonNode responseNode = jsonNode.get("response");
-        String id = responseNode.get("id").asText(); // 변경된 부분(네이버의 경우 id 가 Long 값이다)
-        String email = responseNode.get("email").asText();
-        String nickname = responseNode.get("nickname").asText();
-        return new OauthUserInfoDto(id, email, nickname);
+    // 3. 필요시에 회원가입 : NaverId 또는 네이버 사용자 email 과 같은 회원
+    @Override
+    public List<User> findByProviderIdOrEmail(String providerId, String email) {
+        return userRepository.findByNaverIdOrEmail(providerId, email);
     }
 
-    // 3. 필요시에 회원가입
-    private User registerNaverUserIfNeeded (OauthUserInfoDto oauthUserInfo) {
-        String naverId = oauthUserInfo.getId();
-        User naverUser = userRepository.findByNaverId(naverId).
-                orElse(null);
-        if (naverUser == null) {
-            String naverEmail = oauthUserInfo.getEmail();
-            User sameEmailUser = userRepository.findByEmail(naverEmail).orElse(null);
-            if (sameEmailUser != null) {
-                naverUser = sameEmailUser;
-                naverUser = naverUser.naverIdUpdate(naverId);
-            } else {
-                String password = UUID.randomUUID().toString();
-                String encodedPassword = passwordEncoder.encode(password);
-                String email = oauthUserInfo.getEmail();
-                String nickname = oauthUserInfo.getNickname();
-                boolean hasNickname = userRepository.existsByNickname(nickname);
-                if (hasNickname) {
-                    nickname = oauthUserInfo.getNickname() + "_" + userRepository.getUniqueNameSuffix(nickname);
-                }
-                naverUser = new User(encodedPassword, email, nickname, null, naverId, null, UserRoleEnum.USER);
-            }
-            userRepository.save(naverUser);
-        }
-        return naverUser;
+    @Override
+    public boolean isLinked(User user, String providerId) {
+        return providerId.equals(user.getNaverId());
+    }
+
+    @Override
+    public void link(User user, String providerId) {
+        user.naverIdUpdate(providerId);
+    }
+
+    @Override
+    public User createUser(String encodedPassword, String email, String nickname, String providerId) {
+        return new User(encodedPassword, email, nickname, null, providerId, null, UserRoleEnum.USER);
+    }
+
+    // 4. 사용자 엔티티에 리프레시 토큰 저장 (연동해제를 위해 DB 저장)
+    @Override
+    public void afterLogin(User user, OAuthTokenResponseDto tokens) {
+        user.updateNaverRefresh(tokens.getRefreshToken());
     }
 
     // 네이버 연동해제
@@ -206,9 +165,8 @@ public class NaverService {
                     String.class
             );
             if (response.getStatusCode() == HttpStatus.OK) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                return jsonNode.get("access_token").asText();
+                OAuthTokenResponseDto tokenResponse = TOKEN_READER.readValue(response.getBody());
+                return tokenResponse.getAccessToken();
             }
             return null;
         } catch (Exception e) {
@@ -0,0 +1,49 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.NicknameSequenceRepository;
+import com.example.emotrak.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/*
+ * 소셜 가입 닉네임 발급 : 같은 닉네임이 있으면 "닉네임_숫자"
+ * - 평소에는 nickname_sequence 의 한 행을 증가시키고 닉네임 유니크 인덱스로 한 번 확인 (users 범위 조회 없음)
+ * - 카운터가 없거나(처음 쓰는 닉네임) 시퀀스를 거치지 않고 만들어진 닉네임(일반 가입, 닉네임 변경)과 겹치면
+ *   users 에서 실제 최대 접미사를 구해 카운터를 그 이후로 맞춤
+ * - 카운터 행 잠금은 가입 트랜잭션이 끝날 때까지 유지되므로 동시에 가입해도 같은 닉네임을 받지 않음
+ * 호출하는 쪽의 트랜잭션 안에서 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class NicknameAllocator {
+    private final NicknameSequenceRepository nicknameSequenceRepository;
+    private final UserRepository userRepository;
+
+    public String allocate(String nickname) {
+        long suffix = nicknameSequenceRepository.increment(nickname) == 1
+                ? nicknameSequenceRepository.lastAllocated()
+                : reseed(nickname);
+        String candidate = withSuffix(nickname, suffix);
+        // 카운터는 매번 커지므로 겹치는 동안 다시 맞추면 결국 빈 닉네임을 받음
+        while (userRepository.existsByNickname(candidate)) {
+            candidate = withSuffix(nickname, reseed(nickname));
+        }
+        return candidate;
+    }
+
+    // users 에서 다음 접미사를 구해 카운터를 생성하거나 올림 (닉네임 유니크 인덱스의 범위 조회)
+    private long reseed(String nickname) {
+        Long next = userRepository.findNicknameSuffix(nickname, likeEscape(nickname) + "!_%");
+        nicknameSequenceRepository.upsert(nickname, next == null ? 0 : next);
+        return nicknameSequenceRepository.lastAllocated();
+    }
+
+    private static String withSuffix(String nickname, long suffix) {
+        return suffix == 0 ? nickname : nickname + "_" + suffix;
+    }
+
+    // LIKE 패턴에서 닉네임 안의 %, _ 가 와일드카드로 해석되지 않도록 '!' 로 이스케이프
+    static String likeEscape(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.emotrak.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * OAuth 제공자 API 비동기 호출
+ * RestTemplate.exchange 와 같은 인자(url, method, HttpEntity)를 받아 응답 본문을 CompletableFuture 로 반환
+ * 응답을 기다리는 동안 호출 스레드를 점유하지 않으므로 토큰 발급/사용자 정보 조회를 서블릿 스레드 밖에서 이어서 처리할 수 있음
+ * 오류 응답은 RestTemplate 과 같은 예외(HttpClientErrorException, HttpServerErrorException, ResourceAccessException)로 완료
+ */
+@Component
+public class OAuthHttpClient {
+    private static final String METRIC_NAME = "emotrak.oauth.http.requests";
+
+    private final CloseableHttpAsyncClient httpAsyncClient;
+    private final MeterRegistry meterRegistry;
+
+    public OAuthHttpClient(CloseableHttpAsyncClient oauthHttpAsyncClient, MeterRegistry meterRegistry) {
+        this.httpAsyncClient = oauthHttpAsyncClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CompletableFuture<String> exchangeAsync(String url, HttpMethod method, HttpEntity<?> requestEntity) {
+        HttpUriRequest request = toRequest(url, method, requestEntity);
+        String host = request.getURI().getHost();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        httpAsyncClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(HttpResponse response) {
+                int status = response.getStatusLine().getStatusCode();
+                String body;
+                try {
+                    body = response.getEntity() == null ? null : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+                } catch (IOException | RuntimeException e) {
+                    failed(e);
+                    return;
+                }
+                record(sample, host, status);
+                if (status >= 200 && status < 300) {
+                    result.complete(body);
+                } else {
+                    result.completeExceptionally(errorFor(status, body));
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                record(sample, host, 0);
+                result.completeExceptionally(new ResourceAccessException("I/O error on " + method + " request for \"" + url + "\": " + e.getMessage(),
+                        e instanceof IOException ? (IOException) e : new IOException(e)));
+            }
+
+            @Override
+            public void cancelled() {
+                record(sample, host, 0);
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private HttpUriRequest toRequest(String url, HttpMethod method, HttpEntity<?> requestEntity) {
+        RequestBuilder builder = RequestBuilder.create(method.name()).setUri(URI.create(url));
+        HttpHeaders headers = requestEntity.getHeaders();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                builder.addHeader(header.getKey(), value);
+            }
+        }
+        Object body = requestEntity.getBody();
+        if (body instanceof MultiValueMap) {
+            // application/x-www-form-urlencoded 폼 (토큰 발급 요청)
+            List<BasicNameValuePair> params = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : ((MultiValueMap<?, ?>) body).entrySet()) {
+                for (Object value : (List<?>) entry.getValue()) {
+                    params.add(new BasicNameValuePair(String.valueOf(entry.getKey()), String.valueOf(value)));
+                }
+            }
+            builder.setEntity(new StringEntity(URLEncodedUtils.format(params, StandardCharsets.UTF_8),
+                    ContentType.APPLICATION_FORM_URLENCODED.withCharset(StandardCharsets.UTF_8)));
+        } else if (body != null) {
+            builder.setEntity(new StringEntity(body.toString(), StandardCharsets.UTF_8));
+        }
+        return builder.build();
+    }
+
+    private Exception errorFor(int status, String body) {
+        byte[] bytes = body == null ? null : body.getBytes(StandardCharsets.UTF_8);
+        HttpStatus httpStatus = HttpStatus.resolve(status);
+        if (status >= 400 && status < 500) {
+            httpStatus = httpStatus == null ? HttpStatus.BAD_REQUEST : httpStatus;
+            return HttpClientErrorException.create(httpStatus, httpStatus.getReasonPhrase(), HttpHeaders.EMPTY, bytes, StandardCharsets.UTF_8);
+        }
+        // 5xx 와 따라가지 않은 3xx 는 제공자 쪽 오류로 처리
+        httpStatus = httpStatus == null || !httpStatus.is5xxServerError() ? HttpStatus.BAD_GATEWAY : httpStatus;
+        return HttpServerErrorException.create(httpStatus, httpStatus.getReasonPhrase(), HttpHeaders.EMPTY, bytes, StandardCharsets.UTF_8);
+    }
+
+    // status 0 은 응답을 받지 못함 (연결 실패, timeout)
+    private void record(Timer.Sample sample, String host, int status) {
+        String outcome = status == 0 ? "IO_ERROR" : status < 300 ? "SUCCESS"
+                : status < 400 ? "REDIRECTION" : status < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+        sample.stop(Timer.builder(METRIC_NAME)
+                .tag("host", host == null ? "none" : host)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
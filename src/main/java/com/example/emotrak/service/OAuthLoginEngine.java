@@ -0,0 +1,109 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import com.example.emotrak.dto.user.TokenDto;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.jwt.TokenProvider;
+import com.example.emotrak.jwt.Validation;
+import com.example.emotrak.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/*
+ * 제공자와 상관없는 소셜 로그인 흐름
+ * 1. 토큰 발급, 2. 사용자 정보 조회 : 제공자 API 를 비동기로 호출 (응답을 기다리는 동안 스레드를 점유하지 않음)
+ * 3. 유저 조회/가입, 4. JWT 발급 : 크기가 제한된 oauthLoginExecutor 에서 하나의 트랜잭션으로 처리
+ *    - 제공자 id 또는 이메일로 한 번에 조회하고, 신규 가입 시 닉네임은 NicknameAllocator 의 닉네임별 카운터로 발급
+ *    - 대기열이 가득 차면 OAUTH_LOGIN_BUSY 로 바로 실패
+ * 제공자를 추가할 때는 OAuthProviderAdapter 만 구현
+ */
+@Slf4j
+@Service
+public class OAuthLoginEngine {
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenProvider tokenProvider;
+    private final Validation validation;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final NicknameAllocator nicknameAllocator;
+
+    public OAuthLoginEngine(UserRepository userRepository,
+                            PasswordEncoder passwordEncoder,
+                            TokenProvider tokenProvider,
+                            Validation validation,
+                            TransactionTemplate transactionTemplate,
+                            @Qualifier("oauthLoginExecutor") ExecutorService executor,
+                            UserAvailabilityIndex userAvailabilityIndex,
+                            NicknameAllocator nicknameAllocator) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenProvider = tokenProvider;
+        this.validation = validation;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.userAvailabilityIndex = userAvailabilityIndex;
+        this.nicknameAllocator = nicknameAllocator;
+    }
+
+    // 로그인이 끝나면 응답 헤더에 JWT 를 담고 완료
+    public CompletableFuture<Void> login(OAuthProviderAdapter adapter, String code, String state, HttpServletResponse response) {
+        return adapter.requestToken(code, state)
+                .thenCompose(tokens -> adapter.requestUserInfo(tokens.getAccessToken())
+                        .thenCompose(userInfo -> signIn(adapter, tokens, userInfo)))
+                .thenAccept(tokenDto -> validation.tokenToHeaders(tokenDto, response));
+    }
+
+    private CompletableFuture<TokenDto> signIn(OAuthProviderAdapter adapter, OAuthTokenResponseDto tokens, OauthUserInfoDto userInfo) {
+        try {
+            return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+                User user = findOrRegister(adapter, userInfo);
+                adapter.afterLogin(user, tokens);
+                return tokenProvider.generateTokenDto(user, user.getRole());
+            }), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("소셜 로그인 대기열이 가득 차서 요청을 거절함");
+            return CompletableFuture.failedFuture(new CustomException(CustomErrorCode.OAUTH_LOGIN_BUSY));
+        }
+    }
+
+    // 3. 필요시에 회원가입
+    private User findOrRegister(OAuthProviderAdapter adapter, OauthUserInfoDto userInfo) {
+        String providerId = userInfo.getId();
+        List<User> candidates = adapter.findByProviderIdOrEmail(providerId, userInfo.getEmail());
+        // 이미 연동된 유저
+        for (User candidate : candidates) {
+            if (adapter.isLinked(candidate, providerId)) {
+                return candidate;
+            }
+        }
+        // 같은 이메일로 가입한 유저에 제공자 계정 연동
+        if (!candidates.isEmpty()) {
+            User sameEmailUser = candidates.get(0);
+            adapter.link(sameEmailUser, providerId);
+            userRepository.save(sameEmailUser);
+            return sameEmailUser;
+        }
+        // 신규 회원가입
+        String encodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
+        String nickname = adapter.nickname(userInfo);
+        User user = adapter.createUser(encodedPassword, userInfo.getEmail(), nicknameAllocator.allocate(nickname), providerId);
+        userRepository.save(user);
+        userAvailabilityIndex.add(user.getEmail(), user.getNickname());
+        return user;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import com.example.emotrak.entity.User;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * 소셜 로그인 제공자(카카오, 네이버, 구글)별로 다른 부분
+ * 로그인 흐름(토큰 발급 -> 사용자 정보 조회 -> 유저 조회/가입 -> JWT 발급)은 OAuthLoginEngine 이 공통으로 처리
+ */
+public interface OAuthProviderAdapter {
+
+    // 1. "인가 코드"로 "액세스 토큰" 요청 (state 는 제공자에 따라 state/scope 로 사용)
+    CompletableFuture<OAuthTokenResponseDto> requestToken(String code, String state);
+
+    // 2. "액세스 토큰"으로 "사용자 정보" 요청
+    CompletableFuture<OauthUserInfoDto> requestUserInfo(String accessToken);
+
+    // 3. 제공자 id 또는 이메일이 같은 유저 (한 번의 쿼리)
+    List<User> findByProviderIdOrEmail(String providerId, String email);
+
+    // 이미 이 제공자 계정과 연동된 유저인지
+    boolean isLinked(User user, String providerId);
+
+    // 같은 이메일의 기존 유저에 제공자 계정 연동
+    void link(User user, String providerId);
+
+    User createUser(String encodedPassword, String email, String nickname, String providerId);
+
+    // 가입 시 사용할 닉네임
+    default String nickname(OauthUserInfoDto userInfo) {
+        return userInfo.getNickname();
+    }
+
+    // 로그인 후 처리 (연동해제를 위한 리프레시 토큰 저장 등)
+    default void afterLogin(User user, OAuthTokenResponseDto tokens) {
+    }
+}
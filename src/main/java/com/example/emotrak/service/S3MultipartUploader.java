@@ -0,0 +1,148 @@
+package com.example.emotrak.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/*
+ * 큰 파일을 S3 멀티파트 업로드로 스트리밍 전송
+ * 입력 스트림을 partSize 만큼씩 읽어 파트 단위로 병렬 업로드하므로 파일 전체를 메모리에 올리지 않음
+ * 동시에 메모리에 올라가는 파트 수는 모든 업로드를 통틀어 maxBufferedParts 개로 제한 (최대 partSize * maxBufferedParts)
+ * 업로드 중 실패하면 S3 에 남은 파트가 과금되지 않도록 멀티파트 업로드를 중단(abort)
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+    private final AmazonS3 amazonS3;
+    private final ExecutorService executor;
+    private final Semaphore bufferedParts;
+    private final int partSize;
+    private final long threshold;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Qualifier("s3UploadExecutor") ExecutorService executor,
+                               @Value("${app.s3-upload.max-buffered-parts:16}") int maxBufferedParts,
+                               @Value("${app.s3-upload.part-size:5MB}") DataSize partSize,
+                               @Value("${app.s3-upload.multipart-threshold:10MB}") DataSize threshold) {
+        this.amazonS3 = amazonS3;
+        this.executor = executor;
+        this.bufferedParts = new Semaphore(maxBufferedParts);
+        this.partSize = (int) partSize.toBytes();
+        this.threshold = threshold.toBytes();
+    }
+
+    // 이 크기 이상이면 멀티파트로 업로드
+    public boolean isMultipart(long contentLength) {
+        return contentLength >= threshold;
+    }
+
+    public void upload(String bucketName, String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, objectMetadata)).getUploadId();
+
+        List<Future<PartETag>> parts = new ArrayList<>();
+        try {
+            long remaining = contentLength;
+            int partNumber = 1;
+            while (remaining > 0) {
+                int size = (int) Math.min(partSize, remaining);
+                // 메모리에 올라간 파트가 한도에 도달하면 앞선 파트 전송이 끝날 때까지 대기
+                bufferedParts.acquire();
+                byte[] buffer;
+                try {
+                    buffer = readPart(inputStream, size);
+                } catch (IOException e) {
+                    bufferedParts.release();
+                    throw e;
+                }
+                UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withPartSize(size)
+                        .withInputStream(new ByteArrayInputStream(buffer));
+                try {
+                    parts.add(executor.submit(() -> {
+                        try {
+                            return amazonS3.uploadPart(uploadPartRequest).getPartETag();
+                        } finally {
+                            bufferedParts.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    // 종료 중인 스레드풀이면 작업이 실행되지 않으므로 직접 반환
+                    bufferedParts.release();
+                    throw e;
+                }
+                remaining -= size;
+            }
+
+            List<PartETag> partETags = new ArrayList<>();
+            for (Future<PartETag> part : parts) {
+                partETags.add(part.get());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucketName, key, uploadId, parts);
+            throw new IOException("멀티파트 업로드 중단", e);
+        } catch (ExecutionException e) {
+            abort(bucketName, key, uploadId, parts);
+            // 파트 업로드에서 발생한 AmazonServiceException/AmazonClientException 은 그대로 전달
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(bucketName, key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    // 정확히 size 바이트를 읽어옴 (그보다 먼저 스트림이 끝나면 Content-Length 와 맞지 않는 요청)
+    private byte[] readPart(InputStream inputStream, int size) throws IOException {
+        byte[] buffer = new byte[size];
+        int read = inputStream.readNBytes(buffer, 0, size);
+        if (read < size) {
+            throw new IOException("업로드 파일이 예상보다 짧습니다: " + read + " < " + size);
+        }
+        return buffer;
+    }
+
+    private void abort(String bucketName, String key, String uploadId, List<Future<PartETag>> parts) {
+        // 이미 넘긴 파트가 끝나기를 기다린 뒤 중단해야 S3 에 파트가 남지 않음 (실행 전 취소하면 메모리 한도 반환도 누락됨)
+        for (Future<PartETag> part : parts) {
+            try {
+                part.get();
+            } catch (ExecutionException | CancellationException ignored) {
+                // 실패한 파트는 중단 요청으로 함께 정리
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("멀티파트 업로드 중단 실패 : key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+}
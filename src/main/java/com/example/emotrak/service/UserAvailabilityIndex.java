@@ -0,0 +1,163 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.UserRepository;
+import com.example.emotrak.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/*
+ * 가입된 이메일/닉네임의 Bloom filter (이메일 중복확인, 닉네임 중복확인 API 용)
+ * - 필터에 확실히 없으면 DB 조회 없이 "사용 가능", 있을 수도 있으면 DB 로 확인
+ * - 시작 시 users 를 스트리밍으로 한 번 읽어 만들고, 가입/닉네임 변경/소셜 가입 시 추가
+ * - 삭제(탈퇴, 이전 닉네임)는 반영할 수 없으므로 rebuild-cron 주기로 새로 만들어 교체 (그 전까지는 DB 로 확인될 뿐)
+ * - 만들어지기 전이나 생성에 실패하면 항상 DB 로 확인
+ * - 값은 소문자로 넣고 조회 (DB 의 대소문자 구분 없는 비교와 맞춤)
+ * 중복확인은 안내용이며, 회원가입/닉네임 변경은 항상 DB 로 다시 확인함
+ */
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedUsers;
+    private final double fpp;
+
+    private volatile Filters current;
+    // 새로 만드는 중인 필터 : 만드는 동안 들어온 추가도 놓치지 않도록 양쪽에 넣음
+    private volatile Filters building;
+
+    private final Counter emailNegative;
+    private final Counter emailDbCheck;
+    private final Counter nicknameNegative;
+    private final Counter nicknameDbCheck;
+
+    public UserAvailabilityIndex(UserRepository userRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.user-availability.expected-users:100000}") long expectedUsers,
+                                 @Value("${app.user-availability.fpp:0.01}") double fpp) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedUsers = expectedUsers;
+        this.fpp = fpp;
+        this.emailNegative = meterRegistry.counter("emotrak.user.availability", "field", "email", "result", "negative");
+        this.emailDbCheck = meterRegistry.counter("emotrak.user.availability", "field", "email", "result", "db");
+        this.nicknameNegative = meterRegistry.counter("emotrak.user.availability", "field", "nickname", "result", "negative");
+        this.nicknameDbCheck = meterRegistry.counter("emotrak.user.availability", "field", "nickname", "result", "db");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.user-availability.rebuild-cron:0 0 5 * * *}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long users = userRepository.count();
+            Filters filters = new Filters(Math.max(expectedUsers, users * 2), fpp);
+            building = filters;
+            Long scanned = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<Object[]> rows = userRepository.streamEmailsAndNicknames()) {
+                    for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                        filters.add((String) row[0], (String) row[1]);
+                        count++;
+                    }
+                }
+                return count;
+            });
+            current = filters;
+            log.info("이메일/닉네임 필터 생성 : users={}, {}ms", scanned, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("이메일/닉네임 필터 생성 실패, 기존 필터(없으면 DB)로 중복확인", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    // false 면 가입된 이메일이 확실히 아님
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        if (filters == null || filters.emails.mightContain(normalize(email))) {
+            emailDbCheck.increment();
+            return true;
+        }
+        emailNegative.increment();
+        return false;
+    }
+
+    // false 면 사용 중인 닉네임이 확실히 아님
+    public boolean mightContainNickname(String nickname) {
+        Filters filters = current;
+        if (filters == null || filters.nicknames.mightContain(normalize(nickname))) {
+            nicknameDbCheck.increment();
+            return true;
+        }
+        nicknameNegative.increment();
+        return false;
+    }
+
+    // 회원가입 (일반/소셜)
+    public void add(String email, String nickname) {
+        apply(filters -> filters.add(email, nickname));
+    }
+
+    // 닉네임 변경 (이전 닉네임은 다음 rebuild 까지 남음)
+    public void addNickname(String nickname) {
+        apply(filters -> filters.add(null, nickname));
+    }
+
+    /*
+     * 현재 트랜잭션이 커밋된 뒤 반영 (트랜잭션 밖이면 즉시)
+     * 커밋 후에 building 을 확인하므로, 그 시점에 building 이 없으면 이후 시작하는 스캔이 커밋된 행을 읽음
+     */
+    private void apply(Consumer<Filters> update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(update);
+                }
+            });
+        } else {
+            applyNow(update);
+        }
+    }
+
+    private void applyNow(Consumer<Filters> update) {
+        Filters filters = current;
+        if (filters != null) update.accept(filters);
+        Filters next = building;
+        if (next != null) update.accept(next);
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+
+        private Filters(long expectedInsertions, double fpp) {
+            this.emails = BloomFilter.create(expectedInsertions, fpp);
+            this.nicknames = BloomFilter.create(expectedInsertions, fpp);
+        }
+
+        private void add(String email, String nickname) {
+            if (email != null) emails.put(normalize(email));
+            if (nickname != null) nicknames.put(normalize(nickname));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*
+ * 탈퇴 유저 데이터 정리 작업
+ * 회원탈퇴 요청은 탈퇴 표시와 공유 해제만 하고 바로 응답하며, 실제 데이터는 이 작업이 백그라운드에서 삭제
+ * 한 번에 지우면 잠금이 길어지므로 id 를 chunkSize 개씩 나누어 묶음마다 별도 트랜잭션으로 삭제하고,
+ * 중간에 실패해도 다음 주기에 남은 묶음부터 이어서 진행
+ * 진행 상황은 emotrak.user.purge.* 메트릭으로 확인
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+    private final UserRepository userRepository;
+    private final LikesRepository likesRepository;
+    private final ReportRepository reportRepository;
+    private final CommentRepository commentRepository;
+    private final BoardRepository boardRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EmotionStatRepository emotionStatRepository;
+    private final ImageDeleteQueue imageDeleteQueue;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int usersPerRun;
+    private final Pageable chunk;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter purgedUsers;
+    private final Timer purgeTimer;
+    private final AtomicLong pendingUsers = new AtomicLong();
+
+    public UserPurgeService(UserRepository userRepository,
+                            LikesRepository likesRepository,
+                            ReportRepository reportRepository,
+                            CommentRepository commentRepository,
+                            BoardRepository boardRepository,
+                            RefreshTokenRepository refreshTokenRepository,
+                            EmotionStatRepository emotionStatRepository,
+                            ImageDeleteQueue imageDeleteQueue,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.user-purge.users-per-run:10}") int usersPerRun,
+                            @Value("${app.user-purge.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.likesRepository = likesRepository;
+        this.reportRepository = reportRepository;
+        this.commentRepository = commentRepository;
+        this.boardRepository = boardRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.emotionStatRepository = emotionStatRepository;
+        this.imageDeleteQueue = imageDeleteQueue;
+        this.transactionTemplate = transactionTemplate;
+        this.usersPerRun = usersPerRun;
+        this.chunk = PageRequest.of(0, chunkSize);
+        this.meterRegistry = meterRegistry;
+        this.purgedUsers = meterRegistry.counter("emotrak.user.purge.users");
+        this.purgeTimer = meterRegistry.timer("emotrak.user.purge.duration");
+        meterRegistry.gauge("emotrak.user.purge.pending", pendingUsers);
+    }
+
+    @Scheduled(fixedDelayString = "${app.user-purge.interval-ms:60000}")
+    public void purgeWithdrawnUsers() {
+        pendingUsers.set(userRepository.countByWithdrawnTrue());
+        List<Long> userIds = userRepository.findWithdrawnUserIds(PageRequest.of(0, usersPerRun));
+        for (Long userId : userIds) {
+            try {
+                purgeTimer.record(() -> purge(userId));
+                purgedUsers.increment();
+                pendingUsers.decrementAndGet();
+            } catch (RuntimeException e) {
+                log.warn("탈퇴 유저 데이터 정리 실패, 다음 주기에 재시도 : userId={}", userId, e);
+            }
+        }
+    }
+
+    void purge(Long userId) {
+        // 1. 내가 누른 좋아요 : 좋아요를 받은 게시글/댓글의 카운터를 같은 트랜잭션에서 차감
+        purgeInChunks("likes", () -> likesRepository.findIdsByUserId(userId, chunk), likeIds -> {
+            boardRepository.subtractLikeCountByLikeIds(likeIds);
+            commentRepository.subtractLikeCountByLikeIds(likeIds);
+            likesRepository.deleteAllByIdInBatch(likeIds);
+            return likeIds.size();
+        });
+
+        // 2. 내가 쓴 댓글 : 댓글의 좋아요/신고를 먼저 지우고 게시글 댓글 수 차감
+        purgeInChunks("comment", () -> commentRepository.findIdsByUserId(userId, chunk), commentIds -> {
+            int rows = likesRepository.deleteByCommentIds(commentIds);
+            rows += reportRepository.deleteByCommentIds(commentIds);
+            boardRepository.subtractCommentCountByCommentIds(commentIds);
+            commentRepository.deleteAllByIdInBatch(commentIds);
+            return rows + commentIds.size();
+        });
+
+        // 3. 내가 한 신고
+        purgeInChunks("report", () -> reportRepository.findIdsByUserId(userId, chunk), reportIds -> {
+            reportRepository.deleteAllByIdInBatch(reportIds);
+            return reportIds.size();
+        });
+
+        // 4. 내가 쓴 게시글 : 게시글에 달린 좋아요/신고/댓글까지 지우고, 이미지는 S3 삭제 대기열에 등록
+        purgeInChunks("daily", () -> boardRepository.findIdsByUserId(userId, chunk), dailyIds -> {
+            imageDeleteQueue.enqueueAll(boardRepository.findImgUrlsByIds(dailyIds));
+            int rows = likesRepository.deleteByDailyIds(dailyIds);
+            rows += reportRepository.deleteByDailyIds(dailyIds);
+            rows += commentRepository.deleteByDailyIds(dailyIds);
+            boardRepository.deleteAllByIdInBatch(dailyIds);
+            return rows + dailyIds.size();
+        });
+
+        // 5. 남은 토큰, 그래프 집계와 유저 행
+        transactionTemplate.executeWithoutResult(status -> {
+            emotionStatRepository.deleteByUserId(userId);
+            userRepository.findById(userId).ifPresent(refreshTokenRepository::deleteByUser);
+            userRepository.deleteById(userId);
+        });
+    }
+
+    private void purgeInChunks(String table, ChunkSource source, Function<List<Long>, Integer> deleter) {
+        Counter rows = meterRegistry.counter("emotrak.user.purge.rows", "table", table);
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = source.next();
+                return ids.isEmpty() ? 0 : deleter.apply(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                return;
+            }
+            rows.increment(deleted);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkSource {
+        List<Long> next();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.user.SignupRequestDto;
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/*
+ * 회원가입/닉네임/비밀번호/이메일 입력 검증
+ * - 정규식은 클래스 로딩 시 한 번만 컴파일 (Pattern 은 thread-safe)
+ * - 비용이 싼 검사부터 : 공백 -> 형식(정규식) -> DB 중복 확인 -> 해시(BCrypt) 비교
+ *   형식이 틀린 요청은 DB 조회나 해시 계산 없이 바로 실패
+ */
+@Component
+@RequiredArgsConstructor
+public class UserValidator {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9_\\.\\-]+@[A-Za-z0-9\\-]+\\.[A-Za-z0-9\\-]+$");
+    // 특수문자 일부를 제외하는 1~8자 닉네임
+    private static final Pattern NICKNAME_PATTERN = Pattern.compile("^[ㄱ-ㅎ|가-힣|a-z|A-Z|\\d$@!%*#?&()^]{1,8}$");
+    //숫자와 영문자가 포함되어야 하며 8자~15자 사이 인 값
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d|$@!%*#?&()^]{8,15}$");
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder encoder;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+
+    // 회원가입 : 공백 -> 형식 -> 이메일/닉네임 중복 (한 번의 쿼리)
+    public void validateSignup(SignupRequestDto signupRequestDto) {
+        String email = signupRequestDto.getEmail();
+        String password = signupRequestDto.getPassword();
+        String nickname = signupRequestDto.getNickname();
+
+        if (!StringUtils.hasLength(email)) throw new CustomException(CustomErrorCode.EMAIL_BLANK);
+        if (!StringUtils.hasLength(password)) throw new CustomException(CustomErrorCode.PASSWORD_BLANK);
+        if (!StringUtils.hasLength(nickname)) throw new CustomException(CustomErrorCode.NICKNAME_BLANK);
+
+        checkEmailPattern(email);
+        checkNicknamePattern(nickname);
+        checkPasswordPattern(password);
+
+        // 클라이언트에서 중복을 확인하지만 서버에서도 한번더 중복을 확인함.
+        List<String> duplicates = userRepository.findEmailsByEmailOrNickname(email, nickname);
+        // DB 비교는 대소문자를 구분하지 않으므로 같은 기준으로 어느 쪽이 중복인지 판단
+        if (duplicates.stream().anyMatch(email::equalsIgnoreCase)) throw new CustomException(CustomErrorCode.DUPLICATE_EMAIL);
+        if (!duplicates.isEmpty()) throw new CustomException(CustomErrorCode.DUPLICATE_NICKNAME);
+    }
+
+    // 이메일 중복 체크 (회원가입 인증 메일 발송 전) : 필터에 확실히 없으면 DB 조회 생략
+    public void validateNewEmail(String email) {
+        checkEmail(email);
+        if (userAvailabilityIndex.mightContainEmail(email) && userRepository.existsByEmail(email)) {
+            throw new CustomException(CustomErrorCode.DUPLICATE_EMAIL);
+        }
+    }
+
+    // 닉네임 중복확인 API : validateNewNickname 과 같지만 필터에 확실히 없으면 DB 조회 생략
+    public void validateAvailableNickname(String nickname, String currentNickname) {
+        checkNewNickname(nickname, currentNickname);
+        if (userAvailabilityIndex.mightContainNickname(nickname) && userRepository.existsByNickname(nickname)) {
+            throw new CustomException(CustomErrorCode.DUPLICATE_NICKNAME);
+        }
+    }
+
+    // 새 닉네임 : 공백 -> 현재와 같은지 -> 형식 -> 중복 (currentNickname 은 비로그인이면 null)
+    public void validateNewNickname(String nickname, String currentNickname) {
+        checkNewNickname(nickname, currentNickname);
+        if (userRepository.existsByNickname(nickname)) throw new CustomException(CustomErrorCode.DUPLICATE_NICKNAME);
+    }
+
+    // 새 비밀번호 : 공백 -> 형식 -> 현재 비밀번호와 같은지 (BCrypt 비교는 마지막에)
+    public void validateNewPassword(String password, String currentEncodedPassword) {
+        checkPassword(password);
+        if (encoder.matches(password, currentEncodedPassword)) throw new CustomException(CustomErrorCode.SAME_PASSWORD);
+    }
+
+    // DB 조회 없이 공백과 형식만 확인
+    public void checkEmail(String email) {
+        if (!StringUtils.hasLength(email)) throw new CustomException(CustomErrorCode.EMAIL_BLANK);
+        checkEmailPattern(email);
+    }
+
+    public void checkNickname(String nickname) {
+        if (!StringUtils.hasLength(nickname)) throw new CustomException(CustomErrorCode.NICKNAME_BLANK);
+        checkNicknamePattern(nickname);
+    }
+
+    public void checkPassword(String password) {
+        if (!StringUtils.hasLength(password)) throw new CustomException(CustomErrorCode.PASSWORD_BLANK);
+        checkPasswordPattern(password);
+    }
+
+    private static void checkNewNickname(String nickname, String currentNickname) {
+        if (!StringUtils.hasLength(nickname)) throw new CustomException(CustomErrorCode.NICKNAME_BLANK);
+        if (nickname.equals(currentNickname)) throw new CustomException(CustomErrorCode.SAME_NICKNAME);
+        checkNicknamePattern(nickname);
+    }
+
+    private static void checkEmailPattern(String email) {
+        if (!EMAIL_PATTERN.matcher(email).find()) throw new CustomException(CustomErrorCode.NOT_EMAIL_PATTERN);
+    }
+
+    private static void checkNicknamePattern(String nickname) {
+        if (!NICKNAME_PATTERN.matcher(nickname).find()) throw new CustomException(CustomErrorCode.NOT_NICKNAME_PATTERN);
+    }
+
+    private static void checkPasswordPattern(String password) {
+        if (!PASSWORD_PATTERN.matcher(password).find()) throw new CustomException(CustomErrorCode.NOT_PASSWORD_PATTERN);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.emotrak.service;
+
+/*
+ * 이메일 인증 코드 저장소 (키 : 이메일)
+ * 기본 구현은 인스턴스 메모리(LocalVerificationCodeStore)이므로, 여러 인스턴스에서 발송과 확인이 다른 서버로 갈 수 있으면
+ * 공용 저장소(예: Redis)를 쓰는 구현을 빈으로 등록해 교체
+ * 구현은 이메일 하나당 상수 시간에 조회/갱신해야 하며, 시도 횟수 증가와 비교는 원자적으로 처리해야 함
+ */
+public interface VerificationCodeStore {
+
+    // 새 코드 저장 (이전 코드, 시도 횟수, 인증 완료 상태는 모두 초기화)
+    void save(String email, String code);
+
+    // 코드 확인 : 맞으면 코드를 지우고 인증 완료 상태로 바꿈
+    Result verify(String email, String code);
+
+    // 인증 완료 상태인지 확인만 함 (꺼내 쓰지 않음)
+    boolean isVerified(String email);
+
+    // 인증 완료 상태를 한 번만 꺼내 씀 (회원가입), 인증하지 않았거나 만료되었으면 false
+    boolean consumeVerified(String email);
+
+    enum Result {
+        VERIFIED,
+        MISMATCH,
+        // 코드가 없거나 만료됨
+        EXPIRED,
+        // 틀린 횟수가 너무 많아 코드가 폐기됨 (다시 발송해야 함)
+        TOO_MANY_ATTEMPTS
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.viewer.ViewerFlagDto;
+import com.example.emotrak.repository.LikesRepository;
+import com.example.emotrak.util.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 조회자 상태 (게시글/댓글 좋아요, 신고 여부) 조회
+ * 화면에 보이는 게시글/댓글 id 목록을 받아 좋아요/신고 여부를 한 번의 쿼리로 조회하고,
+ * 요청한 id 순서대로 비트셋(liked/reported)으로 반환
+ * 유저별로 짧게(ttl) 결과를 기억해 같은 화면을 다시 볼 때는 처음 보는 id 만 조회하고,
+ * 좋아요/신고를 하면 트랜잭션 커밋 후 해당 유저의 캐시를 무효화
+ */
+@Service
+public class ViewerStateService {
+    private static final int LIKED = 1;
+    private static final int REPORTED = 2;
+    // IN 절이 비지 않도록 넘기는 존재하지 않는 id
+    private static final List<Long> NONE = List.of(0L);
+
+    private final LikesRepository likesRepository;
+    private final LocalCache<Long, KnownFlags> cache;
+    private final int maxIdsPerUser;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ViewerStateService(LikesRepository likesRepository,
+                              @Value("${app.viewer-state.max-users:10000}") int maxUsers,
+                              @Value("${app.viewer-state.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${app.viewer-state.max-ids-per-user:2000}") int maxIdsPerUser) {
+        this.likesRepository = likesRepository;
+        this.cache = new LocalCache<>(maxUsers, Duration.ofSeconds(ttlSeconds));
+        this.maxIdsPerUser = maxIdsPerUser;
+    }
+
+    // userId 가 null(비회원)이면 조회 없이 모두 false
+    public ViewerState lookup(Long userId, List<Long> dailyIds, List<Long> commentIds) {
+        if (userId == null || (dailyIds.isEmpty() && commentIds.isEmpty())) {
+            return ViewerState.EMPTY;
+        }
+        // 캐시 조회 전에 읽어야 조회 직후 커밋된 무효화도 감지됨
+        long before = invalidations.get();
+        KnownFlags cached = cache.getIfPresent(userId);
+        KnownFlags known = cached == null ? KnownFlags.EMPTY : cached;
+
+        List<Long> unknownDailies = known.unknown(known.dailies, dailyIds);
+        List<Long> unknownComments = known.unknown(known.comments, commentIds);
+        if (!unknownDailies.isEmpty() || !unknownComments.isEmpty()) {
+            Map<Long, Integer> dailyFlags = new HashMap<>();
+            Map<Long, Integer> commentFlags = new HashMap<>();
+            for (ViewerFlagDto flag : likesRepository.findViewerFlags(userId,
+                    unknownDailies.isEmpty() ? NONE : unknownDailies,
+                    unknownComments.isEmpty() ? NONE : unknownComments)) {
+                switch (flag.getKind()) {
+                    case ViewerFlagDto.DAILY_LIKE: dailyFlags.merge(flag.getTargetId(), LIKED, (a, b) -> a | b); break;
+                    case ViewerFlagDto.DAILY_REPORT: dailyFlags.merge(flag.getTargetId(), REPORTED, (a, b) -> a | b); break;
+                    case ViewerFlagDto.COMMENT_LIKE: commentFlags.merge(flag.getTargetId(), LIKED, (a, b) -> a | b); break;
+                    case ViewerFlagDto.COMMENT_REPORT: commentFlags.merge(flag.getTargetId(), REPORTED, (a, b) -> a | b); break;
+                    default: break;
+                }
+            }
+            // 캐시에 있던 인스턴스는 고치지 않고 새로 만듦, 조회했지만 내역이 없는 id 도 "없음(0)" 으로 기억
+            known = known.with(unknownDailies, dailyFlags, unknownComments, commentFlags);
+            // 조회 중에 무효화가 있었거나 너무 많이 쌓였으면 캐시에 남기지 않음
+            // 저장한 뒤에 한 번 더 확인 (확인과 저장 사이에 커밋된 무효화는 저장한 값을 지움)
+            if (invalidations.get() == before && known.size() <= maxIdsPerUser) {
+                cache.put(userId, known);
+                if (invalidations.get() != before) {
+                    cache.invalidate(userId);
+                }
+            }
+        }
+        return new ViewerState(known.bits(known.dailies, dailyIds), known.bits(known.comments, commentIds));
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 해당 유저의 캐시 제거 (트랜잭션 밖이면 즉시)
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    private void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    // 유저 한 명의 id 별 상태 (LIKED | REPORTED 비트, 0 이면 조회했지만 내역 없음), 만든 뒤에는 바뀌지 않음
+    private static class KnownFlags {
+        private static final KnownFlags EMPTY = new KnownFlags(Map.of(), Map.of());
+
+        private final Map<Long, Integer> dailies;
+        private final Map<Long, Integer> comments;
+
+        private KnownFlags(Map<Long, Integer> dailies, Map<Long, Integer> comments) {
+            this.dailies = dailies;
+            this.comments = comments;
+        }
+
+        // 기존 상태에 새로 조회한 id 들을 더한 새 인스턴스
+        private KnownFlags with(List<Long> dailyIds, Map<Long, Integer> dailyFlags,
+                                List<Long> commentIds, Map<Long, Integer> commentFlags) {
+            return new KnownFlags(merge(dailies, dailyIds, dailyFlags), merge(comments, commentIds, commentFlags));
+        }
+
+        private static Map<Long, Integer> merge(Map<Long, Integer> known, List<Long> ids, Map<Long, Integer> flags) {
+            if (ids.isEmpty()) {
+                return known;
+            }
+            Map<Long, Integer> merged = new HashMap<>(known);
+            for (Long id : ids) {
+                merged.put(id, flags.getOrDefault(id, 0));
+            }
+            return merged;
+        }
+
+        private List<Long> unknown(Map<Long, Integer> flags, List<Long> ids) {
+            List<Long> unknown = new ArrayList<>();
+            for (Long id : ids) {
+                if (!flags.containsKey(id)) {
+                    unknown.add(id);
+                }
+            }
+            return unknown;
+        }
+
+        private int[] bits(Map<Long, Integer> flags, List<Long> ids) {
+            int[] bits = new int[ids.size()];
+            for (int i = 0; i < ids.size(); i++) {
+                bits[i] = flags.getOrDefault(ids.get(i), 0);
+            }
+            return bits;
+        }
+
+        private int size() {
+            return dailies.size() + comments.size();
+        }
+    }
+
+    /*
+     * 요청한 id 순서(index) 기준 좋아요/신고 비트셋
+     * 예) lookup(userId, [10, 11], [..]) 에서 isDailyLiked(1) 은 게시글 11 의 좋아요 여부
+     */
+    public static class ViewerState {
+        static final ViewerState EMPTY = new ViewerState(new int[0], new int[0]);
+
+        private final BitSet likedDailies = new BitSet();
+        private final BitSet reportedDailies = new BitSet();
+        private final BitSet likedComments = new BitSet();
+        private final BitSet reportedComments = new BitSet();
+
+        private ViewerState(int[] dailyFlags, int[] commentFlags) {
+            fill(dailyFlags, likedDailies, reportedDailies);
+            fill(commentFlags, likedComments, reportedComments);
+        }
+
+        private static void fill(int[] flags, BitSet liked, BitSet reported) {
+            for (int i = 0; i < flags.length; i++) {
+                liked.set(i, (flags[i] & LIKED) != 0);
+                reported.set(i, (flags[i] & REPORTED) != 0);
+            }
+        }
+
+        public boolean isDailyLiked(int index) {
+            return likedDailies.get(index);
+        }
+
+        public boolean isDailyReported(int index) {
+            return reportedDailies.get(index);
+        }
+
+        public boolean isCommentLiked(int index) {
+            return likedComments.get(index);
+        }
+
+        public boolean isCommentReported(int index) {
+            return reportedComments.get(index);
+        }
+    }
+}
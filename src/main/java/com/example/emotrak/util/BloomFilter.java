@@ -0,0 +1,93 @@
+package com.example.emotrak.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 문자열 Bloom filter
+ * mightContain 이 false 면 확실히 없는 값, true 면 있을 수도 있는 값 (오탐률 fpp 이하)
+ * 삭제는 지원하지 않으므로, 지워진 값은 필터를 새로 만들 때까지 "있을 수도 있음" 으로 남음
+ * 비트 배열을 AtomicLongArray 로 두어 잠금 없이 여러 스레드에서 put/mightContain 가능
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    // 예상 원소 수와 목표 오탐률로 비트 수(m)와 해시 수(k)를 계산
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions must be positive");
+        if (fpp <= 0 || fpp >= 1) throw new IllegalArgumentException("fpp must be between 0 and 1");
+        long bitSize = Math.max(64, (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(hash1 + i * hash2))) return false;
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // 두 해시의 조합(h1 + i * h2)으로 k 개의 해시를 대신함
+    private long index(int combinedHash) {
+        // 음수면 비트를 뒤집어 양수로
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) return;
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // 문자 단위 64비트 해시 (FNV-1a 후 murmur3 fmix64 로 비트를 고르게 섞음)
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
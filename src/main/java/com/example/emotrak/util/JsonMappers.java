@@ -0,0 +1,44 @@
+package com.example.emotrak.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.UncheckedIOException;
+
+/*
+ * 애플리케이션 공용 ObjectMapper
+ * ObjectMapper 는 생성 비용(직렬화기 캐시, 설정)이 크므로 요청마다 만들지 않고 하나를 공유 (설정 후에는 thread-safe)
+ * 타입별 ObjectReader/ObjectWriter 를 상수로 만들어 두면 JsonNode 트리 없이 스트리밍 파서로 바로 객체에 읽어 씀
+ */
+public final class JsonMappers {
+    // 외부 API 응답에는 사용하지 않는 필드가 많으므로 모르는 필드는 무시
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private JsonMappers() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static ObjectReader readerFor(Class<?> type) {
+        return MAPPER.readerFor(type);
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return MAPPER.writerFor(type);
+    }
+
+    // CompletableFuture 단계(람다) 안에서 쓸 수 있도록 파싱 오류를 unchecked 예외로 던짐
+    public static <T> T readValue(ObjectReader reader, String json) {
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
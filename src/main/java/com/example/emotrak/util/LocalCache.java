@@ -0,0 +1,125 @@
+package com.example.emotrak.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/*
+ * 인스턴스 내부(in-process) 캐시
+ * - 최대 maxSize 개까지 보관하고, 넘치면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 저장 후 ttl 이 지나면 만료되어 조회되지 않음
+ * 값 로딩(DB 조회 등)은 잠금 밖에서 하고, 맵 접근만 짧게 동기화
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 조정할 수 있도록 clock 주입
+    public LocalCache(int maxSize, Duration ttl, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalCache.this.maxSize;
+            }
+        };
+    }
+
+    public V getIfPresent(K key) {
+        long now = clock.getAsLong();
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt - now <= 0) {
+                map.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        long expiresAt = clock.getAsLong() + ttlNanos;
+        synchronized (map) {
+            map.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    // 유효한 값이 없을 때만 저장하고 null 반환, 있으면 저장하지 않고 기존 값 반환 (확인과 저장이 한 번의 잠금 안에서)
+    public V putIfAbsent(K key, V value) {
+        long now = clock.getAsLong();
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (entry != null && entry.expiresAt - now > 0) {
+                return entry.value;
+            }
+            map.put(key, new Entry<>(value, now + ttlNanos));
+            return null;
+        }
+    }
+
+    // 유효한 값이 있으면 제거하고 반환, 없거나 만료되었으면 null (조회와 제거가 한 번의 잠금 안에서)
+    public V remove(K key) {
+        long now = clock.getAsLong();
+        synchronized (map) {
+            Entry<V> entry = map.remove(key);
+            if (entry == null || entry.expiresAt - now <= 0) {
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (map) {
+            map.remove(key);
+        }
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        synchronized (map) {
+            Iterator<K> iterator = map.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (predicate.test(iterator.next())) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.emotrak.util;
+
+/*
+ * 값 하나만 바뀌는 메일 본문 템플릿
+ * 생성할 때 자리표시자 앞뒤를 미리 잘라 두고, render 는 앞 + 값 + 뒤 를 한 번에 이어붙임 (발송마다 문자열을 다시 만들지 않음)
+ */
+public class MailTemplate {
+
+    private final String prefix;
+    private final String suffix;
+
+    private MailTemplate(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    public static MailTemplate compile(String template, String placeholder) {
+        int index = template.indexOf(placeholder);
+        if (index < 0 || template.indexOf(placeholder, index + 1) >= 0) {
+            throw new IllegalArgumentException("template must contain exactly one " + placeholder);
+        }
+        return new MailTemplate(template.substring(0, index), template.substring(index + placeholder.length()));
+    }
+
+    public String render(String value) {
+        return new StringBuilder(prefix.length() + value.length() + suffix.length())
+                .append(prefix).append(value).append(suffix)
+                .toString();
+    }
+}
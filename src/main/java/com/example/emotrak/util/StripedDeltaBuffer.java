@@ -0,0 +1,85 @@
+package com.example.emotrak.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * id 별 증감값(delta)을 모아두는 버퍼
+ * 키 해시로 stripe 를 나누어 stripe 마다 잠금을 따로 두므로, 서로 다른 글의 증감은 경합하지 않음
+ * drain 은 stripe 단위로 맵을 통째로 교체해서 가져가므로 drain 중에 들어온 증감값도 유실되지 않고 다음 drain 에 포함됨
+ */
+public class StripedDeltaBuffer {
+
+    private final Stripe[] stripes;
+
+    public StripedDeltaBuffer(int stripeCount) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void add(Long key, long delta) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.deltas.merge(key, delta, Long::sum);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 아직 반영되지 않은 증감값
+    public long pending(Long key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            return stripe.deltas.getOrDefault(key, 0L);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 아직 반영되지 않은 증감값을 버림
+    public void remove(Long key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.deltas.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 쌓인 증감값을 모두 꺼내고 버퍼를 비움 (합이 0 인 항목은 제외)
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, Long> deltas;
+            stripe.lock.lock();
+            try {
+                if (stripe.deltas.isEmpty()) continue;
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) drained.put(key, delta);
+            });
+        }
+        return drained;
+    }
+
+    private Stripe stripeFor(Long key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, Long> deltas = new HashMap<>();
+    }
+}
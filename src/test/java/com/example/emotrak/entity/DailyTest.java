@@ -18,7 +18,7 @@ class DailyTest {
         Emotion emotion = new Emotion();
         emotion.setId(1L);
 
-        Daily daily = new Daily(1L, 2023, 5, 1, emotion, user, "내용", 5, "img", false, false, false);
+        Daily daily = new Daily(1L, 2023, 5, 1, emotion, user, "내용", 5, "img", "thumb", "display", false, false, false, 3, 2);
         assertEquals(1L, daily.getId());
         assertEquals(2023, daily.getDailyYear());
         assertEquals(5, daily.getDailyMonth());
@@ -28,9 +28,13 @@ class DailyTest {
         assertEquals("내용", daily.getDetail());
         assertEquals(5, daily.getStar());
         assertEquals("img", daily.getImgUrl());
+        assertEquals("thumb", daily.getThumbUrl());
+        assertEquals("display", daily.getDisplayUrl());
         assertEquals(false, daily.isShare());
         assertEquals(false, daily.isHasRestrict());
         assertEquals(false, daily.isDraw());
+        assertEquals(3, daily.getLikeCount());
+        assertEquals(2, daily.getCommentCount());
     }
     @Test
     @DisplayName("@Setter 테스트")
@@ -0,0 +1,88 @@
+package com.example.emotrak.jwt;
+
+import com.example.emotrak.entity.RefreshToken;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.jwt.RefreshTokenStore.ActiveToken;
+import com.example.emotrak.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenStore refreshTokenStore;
+    private User user;
+    private Date expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, 100, 300);
+        user = new User("qwer1234!", "user12312@gmail.com", "비둘기5", UserRoleEnum.USER);
+        user.setId(1L);
+        expiresAt = new Date(System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    @DisplayName("토큰 원문이 아닌 해시로 저장하고, 저장한 토큰은 DB 조회 없이 확인")
+    void saveStoresHash() {
+        refreshTokenStore.save(user, "token-a", expiresAt);
+
+        verify(refreshTokenRepository, times(1)).save(argThat(saved ->
+                saved.getTokenHash().equals(RefreshTokenStore.hash("token-a")) && !saved.getTokenHash().contains("token-a")));
+        ActiveToken active = refreshTokenStore.find("token-a");
+        assertEquals(1L, active.getUserId());
+        assertEquals(user.getEmail(), active.getEmail());
+        assertEquals(expiresAt.getTime(), active.getExpiresAt());
+        verify(refreshTokenRepository, never()).findByTokenHashWithUser(any());
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 한 번만 조회하고 이후에는 메모리에서 확인")
+    void loadOnceOnMiss() {
+        String tokenHash = RefreshTokenStore.hash("token-a");
+        when(refreshTokenRepository.findByTokenHashWithUser(tokenHash))
+                .thenReturn(Optional.of(new RefreshToken(1L, user, tokenHash, expiresAt)));
+
+        assertNotNull(refreshTokenStore.find("token-a"));
+        assertNotNull(refreshTokenStore.find("token-a"));
+
+        verify(refreshTokenRepository, times(1)).findByTokenHashWithUser(tokenHash);
+    }
+
+    @Test
+    @DisplayName("새 토큰으로 교체되면 이전 토큰은 사용할 수 없음")
+    void rotationInvalidatesPreviousToken() {
+        refreshTokenStore.save(user, "token-a", expiresAt);
+        refreshTokenStore.save(user, "token-b", expiresAt);
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenStore.hash("token-a"))).thenReturn(Optional.empty());
+
+        assertNull(refreshTokenStore.find("token-a"));
+        assertNotNull(refreshTokenStore.find("token-b"));
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 사용할 수 없음")
+    void revoke() {
+        refreshTokenStore.save(user, "token-a", expiresAt);
+        when(refreshTokenRepository.findByTokenHashWithUser(RefreshTokenStore.hash("token-a"))).thenReturn(Optional.empty());
+
+        refreshTokenStore.revoke(user);
+
+        verify(refreshTokenRepository, times(1)).deleteByUser(user);
+        assertNull(refreshTokenStore.find("token-a"));
+    }
+}
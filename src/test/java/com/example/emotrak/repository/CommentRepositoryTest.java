@@ -0,0 +1,35 @@
+package com.example.emotrak.repository;
+
+import com.example.emotrak.dto.comment.CommentDetailDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentRepositoryTest {
+
+    @Test
+    @DisplayName("게시글 상세의 댓글 조회는 탈퇴한 유저의 댓글을 제외")
+    void commentSlicesExcludeWithdrawnUsers() {
+        List<Method> commentSlices = Arrays.stream(CommentRepository.class.getDeclaredMethods())
+                .filter(method -> method.getReturnType() == Slice.class
+                        && ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0] == CommentDetailDto.class)
+                .collect(Collectors.toList());
+
+        assertFalse(commentSlices.isEmpty());
+        for (Method method : commentSlices) {
+            String query = method.getAnnotation(Query.class).value().replaceAll("\\s+", " ");
+            assertTrue(query.contains(" JOIN users u ON c.user_id = u.id AND u.withdrawn = false "), method.getName());
+            assertFalse(query.contains("LEFT JOIN users"), method.getName());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.emotrak.security;
+
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+    private static final String EMAIL = "user12312@gmail.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new UserDetailsServiceImpl(userRepository), 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 evict 하면 커밋 후에 제거")
+    void evictAfterCommit() {
+        when(userRepository.findByEmail(EMAIL))
+                .thenReturn(Optional.of(new User("encodedPassword", EMAIL, "비둘기", UserRoleEnum.USER)));
+        principalCache.load(EMAIL, "USER");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // 커밋 전 : 캐시에서 응답
+        principalCache.evict(EMAIL);
+        principalCache.load(EMAIL, "USER");
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+
+        // 커밋 후 : 다시 조회
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        principalCache.load(EMAIL, "USER");
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 조회한 사용자 정보를 캐시에 남기지 않음")
+    void evictDuringLoad() {
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            principalCache.evict(EMAIL);
+            return Optional.of(new User("encodedPassword", EMAIL, "비둘기", UserRoleEnum.USER));
+        });
+
+        principalCache.load(EMAIL, "USER");
+        principalCache.load(EMAIL, "USER");
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+}
@@ -5,6 +5,7 @@ import com.example.emotrak.dto.report.ReportQueryDto;
 import com.example.emotrak.dto.report.ReportQueryDtoImpl;
 import com.example.emotrak.dto.report.ReportResponseDto;
 import com.example.emotrak.entity.Daily;
+import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.Report;
 import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.repository.*;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -48,6 +50,15 @@ class AdminServiceTest {
     @Mock
     private ReportRepository reportRepository;
 
+    @Mock
+    private DailyMonthCache dailyMonthCache;
+
+    @Mock
+    private BoardFeedCache boardFeedCache;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
     private Long boardId = 1L;
     private Daily daily;
     private Report report;
@@ -58,6 +69,11 @@ class AdminServiceTest {
     void setUp() {
         daily = new Daily();
         daily.setId(boardId);
+        User owner = new User();
+        owner.setId(2L);
+        daily.setUser(owner);
+        daily.setDailyYear(2023);
+        daily.setDailyMonth(4);
 
         report = new Report();
         report.setId(1L);
@@ -227,8 +243,26 @@ class AdminServiceTest {
             Mockito.verify(commentRepository).deleteByDaily(boardId);
             Mockito.verify(likesRepository).deleteBoardLike(boardId);
             Mockito.verify(reportRepository).deleteAllByDaily(daily);
+            Mockito.verify(dailyMonthCache).evict(2L, 2023, 4);
             assertEquals(daily.isHasRestrict(), true);
         }
+
+        @Test
+        @DisplayName("좋아요/댓글을 지운 뒤 카운터와 버퍼의 증감값도 초기화")
+        public void restrictBoard_ResetCounts() {
+            // given
+            Mockito.when(boardRepository.findById(boardId)).thenReturn(Optional.of(daily));
+
+            // when
+            adminService.restrictBoard(boardId);
+
+            // then
+            InOrder inOrder = inOrder(commentRepository, likesRepository, boardRepository, likeCountBuffer);
+            inOrder.verify(commentRepository).deleteByDaily(boardId);
+            inOrder.verify(likesRepository).deleteBoardLike(boardId);
+            inOrder.verify(boardRepository).resetCounts(boardId);
+            inOrder.verify(likeCountBuffer).discardDailyLikes(boardId);
+        }
         @Nested
         @DisplayName("실패 케이스")
         class restrictBoardFail {
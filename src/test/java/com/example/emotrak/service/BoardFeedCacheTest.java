@@ -0,0 +1,87 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.board.BoardImgPageRequestDto;
+import com.example.emotrak.dto.board.EmotionFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFeedCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BoardFeedCache boardFeedCache = new BoardFeedCache(meterRegistry, 100, 60, 2);
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 DB 조회는 한 번만")
+    void coalesceConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoardImgPageRequestDto page = new BoardImgPageRequestDto();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BoardImgPageRequestDto> first = executor.submit(() -> boardFeedCache.get("recent", EmotionFilter.parse("1"), 1, 20, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return page;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<BoardImgPageRequestDto> second = executor.submit(() -> boardFeedCache.get("recent", EmotionFilter.parse("1"), 1, 20, () -> {
+                loads.incrementAndGet();
+                return new BoardImgPageRequestDto();
+            }));
+            // 두 번째 요청이 진행 중인 조회를 기다리도록 잠시 후 첫 조회 완료
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(page, first.get(5, TimeUnit.SECONDS));
+            assertSame(page, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐싱하지 않고 다음 요청에서 다시 조회")
+    void doNotCacheFailure() {
+        assertThrows(IllegalStateException.class, () -> boardFeedCache.get("popular", EmotionFilter.parse("1"), 1, 20, () -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        BoardImgPageRequestDto page = new BoardImgPageRequestDto();
+        assertSame(page, boardFeedCache.get("popular", EmotionFilter.parse("1"), 1, 20, () -> page));
+    }
+
+    @Test
+    @DisplayName("maxPage 보다 뒤 페이지는 캐싱하지 않음")
+    void skipDeepPages() {
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            boardFeedCache.get("recent", EmotionFilter.parse("1"), 3, 20, () -> {
+                loads.incrementAndGet();
+                return new BoardImgPageRequestDto();
+            });
+        }
+
+        assertEquals(2, loads.get());
+        assertEquals(0.0, meterRegistry.get("emotrak.cache.size").tag("cache", "boardFeed").gauge().value());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,27 +1,35 @@
 package com.example.emotrak.service;
 
 import com.example.emotrak.dto.board.*;
+import com.example.emotrak.dto.comment.CommentCursor;
 import com.example.emotrak.dto.comment.CommentDetailDto;
 import com.example.emotrak.dto.comment.CommentDetailDtoImpl;
 import com.example.emotrak.dto.like.LikeResponseDto;
 import com.example.emotrak.dto.report.ReportRequestDto;
+import com.example.emotrak.dto.viewer.ViewerFlagDto;
+import com.example.emotrak.dto.viewer.ViewerFlagDtoImpl;
 import com.example.emotrak.entity.*;
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,10 +40,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -56,6 +65,20 @@ class BoardServiceTest {
     private ReportRepository reportRepository;
     @Mock
     private LikesRepository likesRepository;
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+    @Mock
+    private ImageDeleteQueue imageDeleteQueue;
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+    @Mock
+    private EmotionStatRepository emotionStatRepository;
+    @Mock
+    private DailyMonthCache dailyMonthCache;
+    @Mock
+    private ViewerStateService viewerStateService;
+    @Spy
+    private BoardFeedCache boardFeedCache = new BoardFeedCache(new SimpleMeterRegistry(), 100, 10, 5);
 
     private User user;
     private BoardRequestDto boardRequestDto;
@@ -80,6 +103,9 @@ class BoardServiceTest {
         invalidImage = new MockMultipartFile("invalidImage","invalidImage.jpg", "invalid/imageType", "someImageData".getBytes());
         // BoardService 의 allowedImageContentTypes 필드에 목록 설정
         ReflectionTestUtils.setField(boardService, "allowedImageContentTypes", allowedImageContentTypes);
+        // 상세 조회는 실제 BoardDetailLoader 로 목 저장소를 조회
+        ReflectionTestUtils.setField(boardService, "boardDetailLoader",
+                new BoardDetailLoader(boardRepository, commentRepository, new ViewerStateService(likesRepository, 100, 30, 2000)));
     }
 
     @Nested
@@ -91,10 +117,17 @@ class BoardServiceTest {
             // given
             when(boardRepository.countDailyPostsByUserAndDate(user, boardRequestDto.getYear(), boardRequestDto.getMonth(), boardRequestDto.getDay())).thenReturn(1L);
             when(emotionRepository.findById(1L)).thenReturn(Optional.of(emotion));
+            when(fileUploadService.uploadImage(validImage)).thenReturn(new UploadedImageDto("imgUrl", null, null));
             // when
             boardService.createDaily(boardRequestDto, user, validImage);
-            // then
-            verify(boardRepository, times(1)).save(Mockito.any(Daily.class));
+            // then : 원본만 저장하고 파생 이미지는 커밋 후 생성하도록 예약
+            ArgumentCaptor<Daily> dailyCaptor = ArgumentCaptor.forClass(Daily.class);
+            verify(boardRepository, times(1)).save(dailyCaptor.capture());
+            assertEquals("imgUrl", dailyCaptor.getValue().getImgUrl());
+            assertNull(dailyCaptor.getValue().getThumbUrl());
+            verify(imageDerivativeService, times(1)).schedule(validImage, dailyCaptor.getValue().getId(), "imgUrl");
+            verify(emotionStatRepository, times(1)).add(user.getId(), 2023, 4, emotion.getId(), 1, 5);
+            verify(dailyMonthCache, times(1)).evict(user.getId(), 2023, 4);
         }
 
         @Test
@@ -114,7 +147,7 @@ class BoardServiceTest {
             MultipartFile invalidImage = new MockMultipartFile("image", "test.jpg", "invalid/content-type", new byte[0]);
             // when, then
             assertThrows(CustomException.class, () -> boardService.validateImage(invalidImage));
-            verify(fileUploadService, times(0)).uploadFile(any());
+            verify(fileUploadService, times(0)).uploadImage(any());
         }
 
         @Test
@@ -126,7 +159,7 @@ class BoardServiceTest {
             // when
            boardService.createDaily(boardRequestDto, user, null);
             // then
-            verify(fileUploadService, never()).uploadFile(any(MultipartFile.class)); // 파일 업로드가 호출되지 않았는지 검증
+            verify(fileUploadService, never()).uploadImage(any(MultipartFile.class)); // 파일 업로드가 호출되지 않았는지 검증
             verify(boardRepository, times(1)).save(any(Daily.class)); // Daily 객체가 저장되었는지 검증
         }
 
@@ -139,7 +172,7 @@ class BoardServiceTest {
             when(emotionRepository.findById(invalidEmoId)).thenReturn(Optional.empty());
             // when, then
             assertThrows(CustomException.class, () -> boardService.createDaily(invalidBoardRequestDto, user, null));
-            verify(fileUploadService, never()).uploadFile(any(MultipartFile.class));
+            verify(fileUploadService, never()).uploadImage(any(MultipartFile.class));
         }
     }
 
@@ -152,13 +185,19 @@ class BoardServiceTest {
             // given
             when(boardRepository.findById(anyLong())).thenReturn(Optional.of(daily));
             when(emotionRepository.findById(emotion.getId())).thenReturn(Optional.of(emotion));
-            when(fileUploadService.uploadFile(validImage)).thenReturn("newImageUrl");
+            daily.updateImage(new UploadedImageDto(daily.getImgUrl(), "oldThumbUrl", null));
+            when(fileUploadService.uploadImage(validImage)).thenReturn(new UploadedImageDto("newImageUrl", null, null));
             // when
+            String oldImgUrl = daily.getImgUrl();
             boardService.updateDaily(daily.getId(), boardRequestDto, user, validImage);
             // then
             verify(boardRepository, times(1)).findById(daily.getId());
             verify(emotionRepository, times(1)).findById(emotion.getId());
-            verify(fileUploadService, times(1)).uploadFile(validImage);
+            verify(fileUploadService, times(1)).uploadImage(validImage);
+            verify(imageDeleteQueue, times(1)).enqueueAll(List.of(oldImgUrl, "oldThumbUrl"));
+            assertEquals("newImageUrl", daily.getImgUrl());
+            assertNull(daily.getThumbUrl());
+            verify(imageDerivativeService, times(1)).schedule(validImage, daily.getId(), "newImageUrl");
         }
 
         @Test
@@ -170,7 +209,7 @@ class BoardServiceTest {
             when(boardRepository.findById(anyLong())).thenReturn(Optional.of(daily));
             // when, then
             assertThrows(CustomException.class, () -> boardService.updateDaily(daily.getId(), boardRequestDto, nonAuthorUser, validImage));
-            verify(fileUploadService, never()).uploadFile(any(MultipartFile.class));
+            verify(fileUploadService, never()).uploadImage(any(MultipartFile.class));
         }
 
         @Test
@@ -185,7 +224,7 @@ class BoardServiceTest {
             when(boardRepository.findById(anyLong())).thenReturn(Optional.of(restrictedSharedDaily));
             // when, then
             assertThrows(CustomException.class, () -> boardService.updateDaily(restrictedSharedDaily.getId(), boardRequestDto, user, validImage));
-            verify(fileUploadService, never()).uploadFile(any(MultipartFile.class));
+            verify(fileUploadService, never()).uploadImage(any(MultipartFile.class));
         }
 
         @Test
@@ -194,13 +233,12 @@ class BoardServiceTest {
             // given
             when(boardRepository.findById(anyLong())).thenReturn(Optional.of(daily));
             when(emotionRepository.findById(emotion.getId())).thenReturn(Optional.of(emotion));
-            doNothing().when(fileUploadService).deleteFile(anyString());
             BoardRequestDto deleteImgBoardRequestDto = new BoardRequestDto(true, 2023, 4, 22, emotion.getId(), 5, "저는 테스트입니다.", true, true);
             // when
             boardService.updateDaily(daily.getId(), deleteImgBoardRequestDto, user, null);
             // then
-            verify(fileUploadService, times(1)).deleteFile(anyString());
-            verify(fileUploadService, never()).uploadFile(any(MultipartFile.class));
+            verify(imageDeleteQueue, times(1)).enqueueAll(List.of("imgUrl"));
+            verify(fileUploadService, never()).uploadImage(any(MultipartFile.class));
         }
 
         @Test
@@ -225,7 +263,7 @@ class BoardServiceTest {
             when(emotionRepository.findById(invalidEmoId)).thenReturn(Optional.empty());
             // when, then
             assertThrows(CustomException.class, () -> boardService.updateDaily(daily.getId(), invalidBoardRequestDto, user, null));
-            verify(fileUploadService, never()).uploadFile(any(MultipartFile.class));
+            verify(fileUploadService, never()).uploadImage(any(MultipartFile.class));
         }
 
         @Test
@@ -258,7 +296,9 @@ class BoardServiceTest {
             boardService.deleteDaily(daily.getId(), user);
 
             // then
-            verify(fileUploadService, times(1)).deleteFile(daily.getImgUrl());
+            verify(imageDeleteQueue, times(1)).enqueueAll(List.of(daily.getImgUrl()));
+            verify(emotionStatRepository, times(1)).add(user.getId(), daily.getDailyYear(), daily.getDailyMonth(), emotion.getId(), -1, -daily.getStar());
+            verify(fileUploadService, never()).deleteFile(anyString());
             verify(likesRepository, times(1)).deleteCommentLike(daily.getId());
             verify(reportRepository, times(1)).deleteCommentByDaily(daily.getId());
             verify(commentRepository, times(1)).deleteByDaily(daily.getId());
@@ -280,7 +320,7 @@ class BoardServiceTest {
 
             // then
             verify(boardRepository, times(1)).findById(daily.getId());
-            verify(fileUploadService, never()).deleteFile(anyString());
+            verify(imageDeleteQueue, times(1)).enqueueAll(List.of());
             verify(likesRepository, times(1)).deleteCommentLike(daily.getId());
             verify(reportRepository, times(1)).deleteCommentByDaily(daily.getId());
             verify(commentRepository, times(1)).deleteByDaily(daily.getId());
@@ -334,12 +374,10 @@ class BoardServiceTest {
                 Page<BoardImgRequestDto> boardImgRequestDtoPage = new PageImpl<>(boardImgRequestDtoList);
 
                 String emo = "1,2,3,4,5,6";
-                Stream<String> stringStream = Arrays.stream(emo.split(","));
-                List<Long> emoList = stringStream.parallel().mapToLong(Long::parseLong).boxed().collect(Collectors.toList());
 
                 // Mocking repository
                 Pageable pageable = PageRequest.of(0, 20);
-                Mockito.when(boardRepository.getBoardImagesRecent(emoList, pageable)).thenReturn(boardImgRequestDtoPage);
+                Mockito.when(boardRepository.getBoardImagesRecentAll(pageable)).thenReturn(boardImgRequestDtoPage);
 
                 // when
                 BoardImgPageRequestDto boardImgPageRequestDto = boardService.getBoardImages(1, 20, emo, "recent", user);
@@ -360,12 +398,10 @@ class BoardServiceTest {
                 Page<BoardImgRequestDto> boardImgRequestDtoPage = new PageImpl<>(boardImgRequestDtoList);
 
                 String emo = "1,2,3,4,5,6";
-                Stream<String> stringStream = Arrays.stream(emo.split(","));
-                List<Long> emoList = stringStream.parallel().mapToLong(Long::parseLong).boxed().collect(Collectors.toList());
 
                 // Mocking repository
                 Pageable pageable = PageRequest.of(0, 20);
-                Mockito.when(boardRepository.getBoardImagesPopular(emoList, pageable)).thenReturn(boardImgRequestDtoPage);
+                Mockito.when(boardRepository.getBoardImagesPopularAll(pageable)).thenReturn(boardImgRequestDtoPage);
 
                 // when
                 BoardImgPageRequestDto boardImgPageRequestDto = boardService.getBoardImages(1, 20, emo, "popular", user);
@@ -374,6 +410,26 @@ class BoardServiceTest {
                 assertEquals(boardImgPageRequestDto.getBoardImgRequestDtoList().size(), 3);
             }
 
+            @Test
+            @DisplayName("같은 피드 페이지는 캐시에서 응답하고, 무효화 후에는 다시 조회")
+            void getDailyRecentCached() {
+                // given
+                Page<BoardImgRequestDto> boardImgRequestDtoPage = new PageImpl<>(List.of(new BoardImgRequestDto(1L, "imgUrl", "jingulee", 1L)));
+                Pageable pageable = PageRequest.of(0, 20);
+                when(boardRepository.getBoardImagesRecent(List.of(1L, 2L), pageable)).thenReturn(boardImgRequestDtoPage);
+
+                // when
+                BoardImgPageRequestDto first = boardService.getBoardImages(1, 20, "1,2", "recent", null);
+                BoardImgPageRequestDto second = boardService.getBoardImages(1, 20, "2,1", "recent", user);
+                boardFeedCache.evictAll();
+                boardService.getBoardImages(1, 20, "1,2", "recent", null);
+
+                // then : 감정 순서만 다른 요청은 같은 캐시를 쓰고, 무효화 후에만 다시 조회
+                assertSame(first, second);
+                verify(boardRepository, times(2)).getBoardImagesRecent(List.of(1L, 2L), pageable);
+                verify(boardRepository, never()).getBoardImagesRecent(List.of(2L, 1L), pageable);
+            }
+
             @Test
             @DisplayName("내 글만 보기")
             void getDailyMine() {
@@ -423,6 +479,78 @@ class BoardServiceTest {
                 verify(boardRepository, times(1)).getBoardImagesMine(0L, pageable);
             }
         }
+
+        @Test
+        @DisplayName("실패 케이스 - 잘못된 감정 필터")
+        void getDailyInvalidEmotion() {
+            for (String emo : List.of("1,7", "0", "1,,2", "a", "")) {
+                CustomException exception = assertThrows(CustomException.class,
+                        () -> boardService.getBoardImages(1, 20, emo, "recent", null));
+                assertEquals(CustomErrorCode.INVALID_EMOTION_FILTER, exception.getErrorCode());
+            }
+            verifyNoInteractions(boardRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("공유게시판 커서 조회")
+    class getBoardImagesByCursor {
+        @Test
+        @DisplayName("최신순 커서 조회 - 다음 커서 생성")
+        void getDailyRecentByCursor() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2023, 5, 1, 12, 0);
+            List<BoardImgRequestDto> boardImgRequestDtoList = new ArrayList<>();
+            boardImgRequestDtoList.add(new BoardImgRequestDto(9L, "imgUrl", "thumbUrl", "jingulee", 1L, createdAt, 0));
+            boardImgRequestDtoList.add(new BoardImgRequestDto(8L, "imgUrl", "thumbUrl", "jingulee", 1L, createdAt.minusHours(1), 0));
+            Pageable pageable = PageRequest.of(0, 2);
+            Slice<BoardImgRequestDto> slice = new SliceImpl<>(boardImgRequestDtoList, pageable, true);
+
+            String cursor = new BoardCursor(null, createdAt.plusHours(1), 10L).encode();
+            // 여섯 감정을 모두 고르면 IN 절 없는 쿼리 사용
+            when(boardRepository.getBoardImagesRecentAllAfter(createdAt.plusHours(1), 10L, pageable)).thenReturn(slice);
+
+            // when
+            BoardImgPageRequestDto boardImgPageRequestDto = boardService.getBoardImagesByCursor(cursor, 2, "1,2,3,4,5,6", "recent", null);
+
+            // then
+            assertEquals(false, boardImgPageRequestDto.isLastPage());
+            assertEquals(2, boardImgPageRequestDto.getBoardImgRequestDtoList().size());
+            BoardCursor nextCursor = BoardCursor.decode(boardImgPageRequestDto.getNextCursor(), false);
+            assertEquals(8L, nextCursor.getId());
+            assertEquals(createdAt.minusHours(1), nextCursor.getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("인기순 커서 조회 - 마지막 페이지")
+        void getDailyPopularByCursor() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2023, 5, 1, 12, 0);
+            List<BoardImgRequestDto> boardImgRequestDtoList = new ArrayList<>();
+            boardImgRequestDtoList.add(new BoardImgRequestDto(3L, "imgUrl", "thumbUrl", "jingulee", 1L, createdAt, 2));
+            Pageable pageable = PageRequest.of(0, 2);
+            Slice<BoardImgRequestDto> slice = new SliceImpl<>(boardImgRequestDtoList, pageable, false);
+
+            String cursor = new BoardCursor(5, createdAt, 4L).encode();
+            List<Long> emoList = Arrays.asList(1L, 2L);
+            when(boardRepository.getBoardImagesPopularAfter(emoList, 5, createdAt, 4L, pageable)).thenReturn(slice);
+
+            // when
+            BoardImgPageRequestDto boardImgPageRequestDto = boardService.getBoardImagesByCursor(cursor, 2, "1,2", "popular", user);
+
+            // then
+            assertEquals(true, boardImgPageRequestDto.isLastPage());
+            assertEquals(null, boardImgPageRequestDto.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서")
+        void invalidCursor() {
+            // when & then
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> boardService.getBoardImagesByCursor("not-a-cursor", 24, "1,2,3,4,5,6", "popular", user));
+            assertThat(exception.getErrorCode()).isEqualTo(CustomErrorCode.INVALID_CURSOR);
+        }
     }
 
     @Nested
@@ -467,16 +595,14 @@ class BoardServiceTest {
                 boardGetDetailDto.setNickname(user.getNickname());
                 boardGetDetailDto.setLikeCount(0);
                 boardGetDetailDto.setHasRestrict(daily.isHasRestrict());
-                boardGetDetailDto.setHasLike(false);
                 boardGetDetailDto.setDraw(daily.isDraw());
-                boardGetDetailDto.setHasReport(false);
                 boardGetDetailDto.setCommentCount(2);
 
                 // given
                 Pageable pageable = PageRequest.of(0, 20);
-                BoardDetailResponseDto expectedResponse = new BoardDetailResponseDto(boardGetDetailDto, commentDetailDtoPage);
+                BoardDetailResponseDto expectedResponse = new BoardDetailResponseDto(boardGetDetailDto, commentDetailDtoPage, false, false);
                 when(boardRepository.getDailyDetail(user.getId(), daily.getId())).thenReturn(Optional.of(boardGetDetailDto));
-                when(commentRepository.getCommentDetail(user.getId(), daily.getId(), pageable)).thenReturn(commentDetailDtoPage);
+                when(commentRepository.getCommentSlice(user.getId(), daily.getId(), pageable)).thenReturn(commentDetailDtoPage);
 
                 // when
                 BoardDetailResponseDto actualResponse = boardService.getBoardDetail(daily.getId(), user, 1);
@@ -496,12 +622,99 @@ class BoardServiceTest {
                 assertEquals(expectedResponse.isDraw(), actualResponse.isDraw());
                 assertEquals(expectedResponse.isHasReport(), actualResponse.isHasReport());
                 assertEquals(expectedResponse.getTotalComments(), actualResponse.getTotalComments());
-                assertEquals(expectedResponse.getCommentDetailDtoList(), actualResponse.getCommentDetailDtoList());
+                assertEquals(expectedResponse.getCommentDetailDtoList().stream().map(CommentDetailDto::getId).collect(Collectors.toList()),
+                        actualResponse.getCommentDetailDtoList().stream().map(CommentDetailDto::getId).collect(Collectors.toList()));
                 assertEquals(expectedResponse.getCommentDetailDtoList().size(), 2);
 
                 verify(boardRepository, times(1)).getDailyDetail(user.getId(), daily.getId());
             }
 
+            @Test
+            @DisplayName("게시글/댓글 좋아요, 신고 여부는 한 번의 쿼리로 조회")
+            void getBoardDetailViewerFlags() {
+                // given
+                List<CommentDetailDto> rows = new ArrayList<>();
+                for (long id = 1; id <= 3; id++) {
+                    CommentDetailDto row = new CommentDetailDtoImpl();
+                    row.setId(id);
+                    row.setComment("댓글" + id);
+                    row.setLikesCnt((int) id);
+                    row.setCursorCreatedAt("2023-04-01T12:00:0" + id + ".123456");
+                    rows.add(row);
+                }
+                BoardGetDetailDto boardGetDetailDto = new BoardGetDetailDtoImpl();
+                boardGetDetailDto.setShare(true);
+                boardGetDetailDto.setUserId(2L);
+                boardGetDetailDto.setDailyId(daily.getId());
+                boardGetDetailDto.setCommentCount(23);
+
+                Pageable pageable = PageRequest.of(0, 20);
+                when(boardRepository.getDailyDetail(user.getId(), daily.getId())).thenReturn(Optional.of(boardGetDetailDto));
+                when(commentRepository.getCommentSlice(user.getId(), daily.getId(), pageable)).thenReturn(new SliceImpl<>(rows, pageable, true));
+                when(likesRepository.findViewerFlags(user.getId(), List.of(daily.getId()), List.of(1L, 2L, 3L))).thenReturn(List.of(
+                        new ViewerFlagDtoImpl(ViewerFlagDto.DAILY_LIKE, daily.getId()),
+                        new ViewerFlagDtoImpl(ViewerFlagDto.COMMENT_LIKE, 1L),
+                        new ViewerFlagDtoImpl(ViewerFlagDto.COMMENT_REPORT, 2L),
+                        new ViewerFlagDtoImpl(ViewerFlagDto.COMMENT_LIKE, 3L)));
+
+                // when
+                BoardDetailResponseDto response = boardService.getBoardDetail(daily.getId(), user, 1);
+
+                // then
+                List<CommentDetailDto> comments = response.getCommentDetailDtoList();
+                assertEquals(List.of(true, false, true), comments.stream().map(CommentDetailDto::getHasLike).collect(Collectors.toList()));
+                assertEquals(List.of(false, true, false), comments.stream().map(CommentDetailDto::getHasReport).collect(Collectors.toList()));
+                assertEquals(List.of(1, 2, 3), comments.stream().map(CommentDetailDto::getLikesCnt).collect(Collectors.toList()));
+                assertEquals(false, response.isLastPage());
+                CommentCursor nextCursor = CommentCursor.decode(response.getNextCursor());
+                assertEquals(LocalDateTime.of(2023, 4, 1, 12, 0, 3, 123_456_000), nextCursor.getCreatedAt());
+                assertEquals(3L, nextCursor.getId());
+                assertEquals(23, response.getTotalComments());
+                assertEquals(true, response.isHasLike());
+                assertEquals(false, response.isHasReport());
+                verify(likesRepository, times(1)).findViewerFlags(anyLong(), anyCollection(), anyCollection());
+            }
+
+            @Test
+            @DisplayName("댓글 더 보기 - 커서의 (작성 시각, id) 이후부터 조회")
+            void getBoardDetailAfter() {
+                // given
+                CommentDetailDto row = new CommentDetailDtoImpl();
+                row.setId(21L);
+                BoardGetDetailDto boardGetDetailDto = new BoardGetDetailDtoImpl();
+                boardGetDetailDto.setShare(true);
+                boardGetDetailDto.setUserId(2L);
+                boardGetDetailDto.setDailyId(daily.getId());
+
+                LocalDateTime createdAt = LocalDateTime.of(2023, 4, 1, 12, 0, 0, 123_456_000);
+                String cursor = new CommentCursor(createdAt, 20L).encode();
+                Pageable pageable = PageRequest.of(0, 20);
+                when(boardRepository.getDailyDetail(0L, daily.getId())).thenReturn(Optional.of(boardGetDetailDto));
+                when(commentRepository.getCommentSliceAfter(0L, daily.getId(), createdAt, 20L, pageable)).thenReturn(new SliceImpl<>(List.of(row), pageable, false));
+
+                // when
+                BoardDetailResponseDto response = boardService.getBoardDetailAfter(daily.getId(), null, cursor);
+
+                // then
+                assertEquals(1, response.getCommentDetailDtoList().size());
+                assertEquals(21L, response.getCommentDetailDtoList().get(0).getId());
+                assertEquals(true, response.isLastPage());
+                assertNull(response.getNextCursor());
+                verify(commentRepository, never()).getCommentSlice(anyLong(), anyLong(), any(Pageable.class));
+            }
+
+            @Test
+            @DisplayName("댓글 더 보기 - 잘못된 커서면 INVALID_CURSOR")
+            void getBoardDetailAfterInvalidCursor() {
+                // when
+                CustomException exception = assertThrows(CustomException.class,
+                        () -> boardService.getBoardDetailAfter(daily.getId(), null, "20"));
+
+                // then
+                assertEquals(CustomErrorCode.INVALID_CURSOR, exception.getErrorCode());
+                verifyNoInteractions(commentRepository);
+            }
+
             @Test
             @DisplayName("공유된 글 조회 비회원")
             void getBoardDetailNonUser() {
@@ -538,16 +751,14 @@ class BoardServiceTest {
                 boardGetDetailDto.setNickname(user.getNickname());
                 boardGetDetailDto.setLikeCount(0);
                 boardGetDetailDto.setHasRestrict(daily.isHasRestrict());
-                boardGetDetailDto.setHasLike(false);
                 boardGetDetailDto.setDraw(daily.isDraw());
-                boardGetDetailDto.setHasReport(false);
                 boardGetDetailDto.setCommentCount(2);
 
                 // given
                 Pageable pageable = PageRequest.of(0, 20);
-                BoardDetailResponseDto expectedResponse = new BoardDetailResponseDto(boardGetDetailDto, commentDetailDtoPage);
+                BoardDetailResponseDto expectedResponse = new BoardDetailResponseDto(boardGetDetailDto, commentDetailDtoPage, false, false);
                 when(boardRepository.getDailyDetail(0L, daily.getId())).thenReturn(Optional.of(boardGetDetailDto));
-                when(commentRepository.getCommentDetail(0L, daily.getId(), pageable)).thenReturn(commentDetailDtoPage);
+                when(commentRepository.getCommentSlice(0L, daily.getId(), pageable)).thenReturn(commentDetailDtoPage);
 
                 // when
                 BoardDetailResponseDto actualResponse = boardService.getBoardDetail(daily.getId(), null, 1);
@@ -567,11 +778,13 @@ class BoardServiceTest {
                 assertEquals(expectedResponse.isDraw(), actualResponse.isDraw());
                 assertEquals(expectedResponse.isHasReport(), actualResponse.isHasReport());
                 assertEquals(expectedResponse.getTotalComments(), actualResponse.getTotalComments());
-                assertEquals(expectedResponse.getCommentDetailDtoList(), actualResponse.getCommentDetailDtoList());
+                assertEquals(expectedResponse.getCommentDetailDtoList().stream().map(CommentDetailDto::getId).collect(Collectors.toList()),
+                        actualResponse.getCommentDetailDtoList().stream().map(CommentDetailDto::getId).collect(Collectors.toList()));
                 assertEquals(expectedResponse.getCommentDetailDtoList().size(), 2);
 
                 verify(boardRepository, times(1)).getDailyDetail(0L, daily.getId());
-                verify(commentRepository, times(1)).getCommentDetail(0L, daily.getId(), pageable);
+                verify(commentRepository, times(1)).getCommentSlice(0L, daily.getId(), pageable);
+                verify(likesRepository, never()).findViewerFlags(anyLong(), anyCollection(), anyCollection());
             }
 
             @Test
@@ -613,19 +826,17 @@ class BoardServiceTest {
                 boardGetDetailDto.setNickname(user.getNickname());
                 boardGetDetailDto.setLikeCount(0);
                 boardGetDetailDto.setHasRestrict(daily.isHasRestrict());
-                boardGetDetailDto.setHasLike(false);
                 boardGetDetailDto.setDraw(daily.isDraw());
-                boardGetDetailDto.setHasReport(false);
                 boardGetDetailDto.setCommentCount(2);
 
                 Pageable pageable = PageRequest.of(0, 20);
                 when(boardRepository.getDailyDetail(user.getId(), daily.getId())).thenReturn(Optional.of(boardGetDetailDto));
-                when(commentRepository.getCommentDetail(user.getId(), daily.getId(), pageable)).thenReturn(commentDetailDtoPage);
+                when(commentRepository.getCommentSlice(user.getId(), daily.getId(), pageable)).thenReturn(commentDetailDtoPage);
 
                 boardService.getBoardDetail(daily.getId(), user, page);
 
                 verify(boardRepository, times(1)).getDailyDetail(user.getId(), daily.getId());
-                verify(commentRepository, times(1)).getCommentDetail(user.getId(), daily.getId(), pageable);
+                verify(commentRepository, times(1)).getCommentSlice(user.getId(), daily.getId(), pageable);
             }
         }
 
@@ -675,9 +886,7 @@ class BoardServiceTest {
                 boardGetDetailDto.setNickname(user.getNickname());
                 boardGetDetailDto.setLikeCount(0);
                 boardGetDetailDto.setHasRestrict(daily.isHasRestrict());
-                boardGetDetailDto.setHasLike(false);
                 boardGetDetailDto.setDraw(daily.isDraw());
-                boardGetDetailDto.setHasReport(false);
                 boardGetDetailDto.setCommentCount(2);
 
                 // given
@@ -693,7 +902,7 @@ class BoardServiceTest {
                 assertEquals("공유 중지된 글입니다.", customException.getErrorCode().getMessage());
 
                 verify(boardRepository, times(1)).getDailyDetail(otherUser.getId(), daily.getId());
-                verify(commentRepository, times(0)).getCommentDetail(otherUser.getId(), daily.getId(), pageable);
+                verify(commentRepository, times(0)).getCommentSlice(otherUser.getId(), daily.getId(), pageable);
             }
 
             @Test
@@ -718,9 +927,7 @@ class BoardServiceTest {
                 boardGetDetailDto.setNickname(user.getNickname());
                 boardGetDetailDto.setLikeCount(0);
                 boardGetDetailDto.setHasRestrict(daily.isHasRestrict());
-                boardGetDetailDto.setHasLike(false);
                 boardGetDetailDto.setDraw(daily.isDraw());
-                boardGetDetailDto.setHasReport(false);
                 boardGetDetailDto.setCommentCount(2);
 
                 // given
@@ -736,7 +943,7 @@ class BoardServiceTest {
                 assertEquals("공유 중지된 글입니다.", customException.getErrorCode().getMessage());
 
                 verify(boardRepository, times(1)).getDailyDetail(0L, daily.getId());
-                verify(commentRepository, times(0)).getCommentDetail(0L, daily.getId(), pageable);
+                verify(commentRepository, times(0)).getCommentSlice(0L, daily.getId(), pageable);
             }
 
             @Test
@@ -769,33 +976,54 @@ class BoardServiceTest {
         void toggleBoardLike() {
             // given
             Long id = 1L;
+            daily.setId(id);
             when(boardRepository.findById(id)).thenReturn(Optional.of(daily));
-            when(likesRepository.findByUserAndDaily(user, daily)).thenReturn(Optional.empty());
+            when(likesRepository.deleteUserDailyLike(user.getId(), id)).thenReturn(0);
+            when(likesRepository.insertUserDailyLike(user.getId(), id)).thenReturn(1);
+            when(likeCountBuffer.dailyLikeCount(id, daily.getLikeCount())).thenReturn(0);
 
             // when: 좋아요 추가
             LikeResponseDto likeResponseDto = boardService.boardLikes(user, id);
 
-            // then: 좋아요가 추가되었는지 확인
+            // then: 좋아요가 추가되고 버퍼에 +1 이 쌓였는지 확인
             assertThat(likeResponseDto.isHasLike()).isTrue();
-            verify(likesRepository, times(1)).save(Mockito.any(Likes.class));
-            verify(likesRepository, times(1)).countByDaily(daily);
+            assertEquals(1, likeResponseDto.getLikesCount());
+            verify(likesRepository, times(1)).insertUserDailyLike(user.getId(), id);
+            verify(likeCountBuffer, times(1)).addDailyLike(id, 1);
 
             // given: 이미 좋아요가 눌러진 상태
-            Likes likes = new Likes(daily, user);
-            likes.setId(1L);
-            when(likesRepository.findByUserAndDaily(user, daily)).thenReturn(Optional.of(likes));
-            doNothing().when(likesRepository).deleteById(Mockito.anyLong());
+            when(likesRepository.deleteUserDailyLike(user.getId(), id)).thenReturn(1);
+            when(likeCountBuffer.dailyLikeCount(id, daily.getLikeCount())).thenReturn(1);
 
             // when: 좋아요 취소
             likeResponseDto = boardService.boardLikes(user, id);
 
-            // then: 좋아요가 취소되었는지 확인
+            // then: 좋아요가 취소되고 버퍼에 -1 이 쌓였는지 확인
             assertThat(likeResponseDto.isHasLike()).isFalse();
-            verify(likesRepository, times(1)).deleteById(likes.getId());
-            verify(likesRepository, times(2)).countByDaily(daily);
+            assertEquals(0, likeResponseDto.getLikesCount());
+            verify(likesRepository, times(1)).insertUserDailyLike(user.getId(), id);
+            verify(likeCountBuffer, times(1)).addDailyLike(id, -1);
+            verify(likesRepository, never()).countByDaily(daily);
+            verify(viewerStateService, times(2)).evict(user.getId());
         }
 
+        @Test
+        @DisplayName("동시에 들어온 중복 좋아요는 카운트하지 않음")
+        void duplicateBoardLike() {
+            // given
+            Long id = 1L;
+            daily.setId(id);
+            when(boardRepository.findById(id)).thenReturn(Optional.of(daily));
+            when(likesRepository.deleteUserDailyLike(user.getId(), id)).thenReturn(0);
+            when(likesRepository.insertUserDailyLike(user.getId(), id)).thenReturn(0);
+
+            // when
+            LikeResponseDto likeResponseDto = boardService.boardLikes(user, id);
 
+            // then
+            assertThat(likeResponseDto.isHasLike()).isTrue();
+            verify(likeCountBuffer, never()).addDailyLike(anyLong(), anyInt());
+        }
 
         @Test
         @DisplayName("존재하지 않는 게시글 좋아요")
@@ -809,8 +1037,9 @@ class BoardServiceTest {
                     "게시글이 존재하지 않는 경우에는 CustomException 이 발생해야 합니다.");
 
             // then
-            verify(likesRepository, never()).save(any());
-            verify(likesRepository, never()).deleteById(anyLong());
+            verify(likesRepository, never()).insertUserDailyLike(any(), any());
+            verify(likesRepository, never()).deleteUserDailyLike(any(), any());
+            verify(likeCountBuffer, never()).addDailyLike(any(), anyInt());
         }
     }
 
@@ -833,6 +1062,7 @@ class BoardServiceTest {
             boardService.createReport(reportRequestDto, user, daily.getId());
             // then
             verify(reportRepository, times(1)).save(Mockito.any(Report.class));
+            verify(viewerStateService, times(1)).evict(user.getId());
         }
 
         @Test
@@ -36,6 +36,10 @@ class CommentServiceTest {
     private ReportRepository reportRepository;
     @Mock
     private LikesRepository likesRepository;
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+    @Mock
+    private ViewerStateService viewerStateService;
 
     private Long dailyId;
     private CommentRequestDto commentRequestDto;
@@ -71,6 +75,7 @@ class CommentServiceTest {
              * verify 메서드를 사용해서 호출 횟수나 파라미터 값을 검증
              */
             verify(commentRepository, times(1)).saveAndFlush(Mockito.any(Comment.class));
+            verify(boardRepository, times(1)).updateCommentCount(any(), eq(1));
         }
 
         @Test
@@ -81,6 +86,7 @@ class CommentServiceTest {
             // when, then
             assertThrows(CustomException.class, () -> commentService.createComment(dailyId, commentRequestDto, user));
             verify(commentRepository, Mockito.never()).saveAndFlush(Mockito.any(Comment.class));
+            verify(boardRepository, Mockito.never()).updateCommentCount(any(), anyInt());
         }
     }
 
@@ -149,6 +155,7 @@ class CommentServiceTest {
             verify(likesRepository, times(1)).deleteAllByComment(comment);
             verify(reportRepository, times(1)).deleteAllByComment(comment);
             verify(commentRepository, times(1)).delete(comment);
+            verify(boardRepository, times(1)).updateCommentCount(comment.getDaily().getId(), -1);
         }
 
         @Test
@@ -163,6 +170,7 @@ class CommentServiceTest {
             verify(likesRepository, times(1)).deleteAllByComment(comment);
             verify(reportRepository, times(1)).deleteAllByComment(comment);
             verify(commentRepository, times(1)).delete(comment);
+            verify(boardRepository, times(1)).updateCommentCount(comment.getDaily().getId(), -1);
         }
 
         @Test
@@ -198,27 +206,31 @@ class CommentServiceTest {
         @DisplayName("댓글 좋아요 추가 및 삭제")
         void toggleCommentLike() {
             // given
+            comment.setId(commentId);
             when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-            when(likesRepository.findByUserAndComment(user, comment)).thenReturn(Optional.empty());
+            when(likesRepository.deleteUserCommentLike(user.getId(), commentId)).thenReturn(0);
+            when(likesRepository.insertUserCommentLike(user.getId(), commentId)).thenReturn(1);
 
             // when: 좋아요 추가
             LikeResponseDto likeResponseDto = commentService.commentLikes(user, commentId);
 
-            // then: 좋아요가 추가되었는지 확인
+            // then: 좋아요가 추가되고 버퍼에 +1 이 쌓였는지 확인
             assertThat(likeResponseDto.isHasLike()).isTrue();
-            verify(likesRepository, times(1)).save(any(Likes.class));
-            verify(likesRepository, times(1)).countByComment(comment);
+            verify(likesRepository, times(1)).insertUserCommentLike(user.getId(), commentId);
+            verify(likeCountBuffer, times(1)).addCommentLike(commentId, 1);
 
             // given: 이미 좋아요가 눌러진 상태
-            when(likesRepository.findByUserAndComment(user, comment)).thenReturn(Optional.of(new Likes(comment, user)));
+            when(likesRepository.deleteUserCommentLike(user.getId(), commentId)).thenReturn(1);
 
             // when: 좋아요 취소
             likeResponseDto = commentService.commentLikes(user, commentId);
 
-            // then: 좋아요가 취소되었는지 확인
+            // then: 좋아요가 취소되고 버퍼에 -1 이 쌓였는지 확인
             assertThat(likeResponseDto.isHasLike()).isFalse();
-            verify(likesRepository, times(1)).deleteByUserAndComment(user, comment);
-            verify(likesRepository, times(2)).countByComment(comment);
+            verify(likesRepository, times(1)).insertUserCommentLike(user.getId(), commentId);
+            verify(likeCountBuffer, times(1)).addCommentLike(commentId, -1);
+            verify(likeCountBuffer, times(2)).commentLikeCount(commentId, comment.getLikeCount());
+            verify(likesRepository, never()).countByComment(comment);
         }
 
         @Test
@@ -231,8 +243,8 @@ class CommentServiceTest {
             assertThrows(CustomException.class, () -> commentService.commentLikes(user, commentId),
                     "댓글이 존재하지 않는 경우에는 CustomException 이 발생해야 합니다.");
             // then
-            verify(likesRepository, Mockito.never()).save(Mockito.any());
-            verify(likesRepository, Mockito.never()).delete(Mockito.any());
+            verify(likesRepository, Mockito.never()).insertUserCommentLike(Mockito.any(), Mockito.any());
+            verify(likesRepository, Mockito.never()).deleteUserCommentLike(Mockito.any(), Mockito.any());
         }
     }
 
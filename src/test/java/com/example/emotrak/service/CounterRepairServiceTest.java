@@ -0,0 +1,66 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.BoardRepository;
+import com.example.emotrak.repository.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CounterRepairServiceTest {
+    @InjectMocks
+    private CounterRepairService counterRepairService;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counterRepairService, "chunkSize", 1000L);
+    }
+
+    @Test
+    @DisplayName("id 구간 단위로 카운터 보정")
+    void repairCountsByChunk() {
+        // given
+        when(boardRepository.findMaxId()).thenReturn(2500L);
+        when(commentRepository.findMaxId()).thenReturn(1000L);
+
+        // when
+        counterRepairService.repairCounts();
+
+        // then
+        verify(likeCountBuffer, times(1)).flush();
+        verify(boardRepository, times(1)).repairCounts(1L, 1000L);
+        verify(boardRepository, times(1)).repairCounts(1001L, 2000L);
+        verify(boardRepository, times(1)).repairCounts(2001L, 3000L);
+        verify(commentRepository, times(1)).repairLikeCounts(1L, 1000L);
+        verify(commentRepository, times(1)).repairLikeCounts(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 보정하지 않음")
+    void repairCountsEmpty() {
+        // given
+        when(boardRepository.findMaxId()).thenReturn(0L);
+        when(commentRepository.findMaxId()).thenReturn(0L);
+
+        // when
+        counterRepairService.repairCounts();
+
+        // then
+        verify(boardRepository, never()).repairCounts(anyLong(), anyLong());
+        verify(commentRepository, never()).repairLikeCounts(anyLong(), anyLong());
+    }
+}
@@ -9,6 +9,7 @@ import com.example.emotrak.entity.Emotion;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.repository.DailyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -24,6 +26,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +35,8 @@ class DailyServiceTest {
     private DailyService dailyService;
     @Mock
     private DailyRepository dailyRepository;
+    @Spy
+    private DailyMonthCache dailyMonthCache = new DailyMonthCache(new SimpleMeterRegistry(), 100, 600);
 
     private int year;
     private int month;
@@ -87,6 +92,37 @@ class DailyServiceTest {
             assertEquals(dailyResponseDto.getMonth(), month);
             assertEquals(dailyResponseDto.getContents(), dailyMonthResponseDtoList);
         }
+
+        @Test
+        @DisplayName("같은 달을 다시 조회하면 캐시에서 응답")
+        public void getDailyMonthCached() {
+            // given
+            List<DailyMonthResponseDto> dailyMonthResponseDtoList = List.of(new DailyMonthResponseDto(1L, 1, 1L, "내용입니다.", "imgUrl"));
+            Mockito.when(dailyRepository.getDailyMonth(year, month, user.getId())).thenReturn(dailyMonthResponseDtoList);
+
+            // when
+            DailyResponseDto first = dailyService.getDailyMonth(year, month, user);
+            DailyResponseDto second = dailyService.getDailyMonth(year, month, user);
+
+            // then
+            assertSame(first, second);
+            Mockito.verify(dailyRepository, Mockito.times(1)).getDailyMonth(year, month, user.getId());
+        }
+
+        @Test
+        @DisplayName("무효화 후에는 다시 DB 조회")
+        public void getDailyMonthAfterEvict() {
+            // given
+            Mockito.when(dailyRepository.getDailyMonth(year, month, user.getId())).thenReturn(new ArrayList<>());
+            dailyService.getDailyMonth(year, month, user);
+
+            // when
+            dailyMonthCache.evict(user.getId(), year, month);
+            dailyService.getDailyMonth(year, month, user);
+
+            // then
+            Mockito.verify(dailyRepository, Mockito.times(2)).getDailyMonth(year, month, user.getId());
+        }
     }
     @Nested
     @DisplayName("일별 내역 조회")
@@ -0,0 +1,38 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.user.EmailVerifyRequestDto;
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class EmailSendServiceTest {
+    @InjectMocks
+    private EmailSendService emailSendService;
+
+    @Mock
+    private MailOutbox mailOutbox;
+    @Mock
+    private UserValidator userValidator;
+    @Mock
+    private VerificationCodeStore verificationCodeStore;
+
+    @Test
+    @DisplayName("인증번호 확인 요청에 이메일이 없으면 예외")
+    void verifyCodeWithoutEmail() {
+        CustomException customException = assertThrows(CustomException.class,
+                () -> emailSendService.verifyCode(new EmailVerifyRequestDto(null, "123456")));
+
+        assertEquals(CustomErrorCode.EMAIL_BLANK, customException.getErrorCode());
+        verifyNoInteractions(verificationCodeStore);
+    }
+}
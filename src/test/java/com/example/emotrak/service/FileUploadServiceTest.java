@@ -5,6 +5,7 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.example.emotrak.dto.board.UploadedImageDto;
 import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -39,6 +41,9 @@ class FileUploadServiceTest {
     @Mock
     private AmazonS3 amazonS3;
 
+    @Mock
+    private S3MultipartUploader multipartUploader;
+
     @Captor
     private ArgumentCaptor<String> stringArgumentCaptor;
 
@@ -80,6 +85,24 @@ class FileUploadServiceTest {
             assertEquals("http://" + replacement + "/" + bucketName + "/" + generatedFilename, uploadedUrl);
         }
 
+        @Test
+        @DisplayName("큰 파일은 멀티파트 업로드로 전송")
+        void uploadFile_multipart() throws IOException {
+            // given
+            MockMultipartFile file = new MockMultipartFile("file", "large.jpg", "image/jpg", new byte[64]);
+            when(multipartUploader.isMultipart(64L)).thenReturn(true);
+            when(amazonS3.getUrl(eq(bucketName), anyString())).thenAnswer(invocation ->
+                    new URL("http://" + target + "/" + bucketName + "/" + invocation.getArgument(1)));
+
+            // when
+            String uploadedUrl = fileUploadService.uploadFile(file);
+
+            // then
+            verify(multipartUploader, times(1)).upload(eq(bucketName), stringArgumentCaptor.capture(), any(InputStream.class), eq(64L), eq("image/jpg"));
+            verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+            assertEquals("http://" + replacement + "/" + bucketName + "/" + stringArgumentCaptor.getValue(), uploadedUrl);
+        }
+
         @Test
         @DisplayName("파일 업로드 실패 - IOException 테스트")
         void uploadFile_failure_ioException() {
@@ -198,6 +221,28 @@ class FileUploadServiceTest {
     }
 
 
+    @Nested
+    @DisplayName("게시글 이미지 업로드")
+    class UploadImage {
+        @Test
+        @DisplayName("원본만 올리고 파생 이미지 없이 바로 반환")
+        void uploadImage_originalOnly() {
+            // given
+            MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png", new byte[16]);
+            when(amazonS3.getUrl(eq(bucketName), anyString())).thenAnswer(invocation ->
+                    new URL("http://" + target + "/" + bucketName + "/" + invocation.getArgument(1)));
+
+            // when
+            UploadedImageDto uploadedImage = fileUploadService.uploadImage(file);
+
+            // then
+            verify(amazonS3, times(1)).putObject(any(PutObjectRequest.class));
+            assertTrue(uploadedImage.getImgUrl().startsWith("http://" + replacement + "/"));
+            assertNull(uploadedImage.getThumbUrl());
+            assertNull(uploadedImage.getDisplayUrl());
+        }
+    }
+
     @Nested
     @DisplayName("다중파일 삭제")
     class DeleteFiles {
@@ -229,6 +274,28 @@ class FileUploadServiceTest {
             }
         }
 
+        @Test
+        @DisplayName("다중 파일 삭제 - 1000개 단위로 나누어 요청")
+        void deleteFiles_splitByMaxKeys() {
+            // given
+            List<String> fileUrls = new ArrayList<>();
+            for (int i = 0; i < 2500; i++) {
+                fileUrls.add("http://" + replacement + "/" + bucketName + "/testFile" + i + ".jpg");
+            }
+
+            // when
+            fileUploadService.deleteFiles(fileUrls);
+
+            // then
+            ArgumentCaptor<DeleteObjectsRequest> argumentCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+            verify(amazonS3, times(3)).deleteObjects(argumentCaptor.capture());
+            List<DeleteObjectsRequest> requests = argumentCaptor.getAllValues();
+            assertEquals(1000, requests.get(0).getKeys().size());
+            assertEquals(1000, requests.get(1).getKeys().size());
+            assertEquals(500, requests.get(2).getKeys().size());
+            assertEquals("testFile2499.jpg", requests.get(2).getKeys().get(499).getKey());
+        }
+
         @Test
         @DisplayName("다중 파일 삭제 실패 - 기타 예외 테스트")
         void deleteFiles_failure_otherException() {
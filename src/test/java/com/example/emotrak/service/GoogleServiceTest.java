@@ -27,10 +27,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -51,121 +53,105 @@ class GoogleServiceTest {
     private Validation validation;
     @MockBean
     private RestTemplate rt;
+    @MockBean
+    private OAuthHttpClient oAuthHttpClient;
+    @MockBean
+    private NicknameAllocator nicknameAllocator;
 
     @Nested
     @DisplayName("GoogleLogin")
     class googleLogin {
         @Test
         @DisplayName("정상적인 로그인")
-        void GoogleLoginTest() throws JsonProcessingException {
+        void GoogleLoginTest() {
             // 구글 OAuth2 인증 응답을 Mocking
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh\"}";
 
             // 사용자 정보에 대한 구글 API 응답을 Mocking
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"1234\",\"email\":\"mock_email\",\"name\":\"mock_name\"}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"sub\":\"1234\",\"email\":\"mock_email\",\"name\":\"mock_name\"}";
 
             // 인증 코드로 액세스 토큰 요청을 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 액세스 토큰으로 사용자 정보 요청을 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // TokenDto Mocking
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 로그인 메서드 호출
-            googleService.googleLogin("mock_auth_code", "mock_scope", new MockHttpServletResponse());
+            googleService.googleLogin("mock_auth_code", "mock_scope", new MockHttpServletResponse()).join();
 
             // 액세스 토큰 요청과 사용자 정보 요청이 각각 한 번씩 호출되었음을 검증
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
         }
 
         @Test
         @DisplayName("구글유저가 존재하는 경우")
-        void ExistingUser() throws JsonProcessingException {
+        void ExistingUser() {
             // Mock Responses
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
+            String mockUserInfoResponse = "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}";
 
             // Mock User
             User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mocknickname", null, null, "1234", UserRoleEnum.USER);
 
             // Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
-            when(userRepository.findByGoogleId("1234")).thenReturn(Optional.of(mockUser));
+            when(userRepository.findByGoogleIdOrEmail(eq("1234"), any())).thenReturn(List.of(mockUser));
 
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
 
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_code", "mock_scope", new MockHttpServletResponse());
+            googleService.googleLogin("mock_code", "mock_scope", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByGoogleId 호출 검증
-            verify(userRepository, times(1)).findByGoogleId("1234");
+            // verify userRepository.findByGoogleIdOrEmail 호출 검증 (GoogleId)
+            verify(userRepository, times(1)).findByGoogleIdOrEmail(eq("1234"), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(0)).save(any(User.class)); // User should not be saved again as it already exists
@@ -173,40 +159,32 @@ class GoogleServiceTest {
 
         @Test
         @DisplayName("중복된 이메일을 가진 사용자가 있는 경우")
-        void ExistingUserWithSameEmail() throws JsonProcessingException {
+        void ExistingUserWithSameEmail() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"mock_id\", \"email\":\"mock@email.com\", \"name\":\"mock_nickname\"}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"sub\":\"mock_id\", \"email\":\"mock@email.com\", \"name\":\"mock_nickname\"}";
 
             // Mock User
-            User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mock_nickname", null, null, "mock_id", UserRoleEnum.USER);
+            User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mock_nickname", null, null, null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 Google API 호출 : "액세스 토큰"으로 "구글 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.of(mockUser));
+            when(userRepository.findByGoogleIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of(mockUser));
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -216,28 +194,26 @@ class GoogleServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_auth_code", "mock_scope", new MockHttpServletResponse());
+            googleService.googleLogin("mock_auth_code", "mock_scope", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByEmail 호출 검증
-            verify(userRepository, times(1)).findByEmail("mock@email.com");
+            // verify userRepository.findByGoogleIdOrEmail 호출 검증 (이메일)
+            verify(userRepository, times(1)).findByGoogleIdOrEmail(any(), eq("mock@email.com"));
 
-            // verify userRepository.findByGoogleId 호출 검증
-            verify(userRepository, times(1)).findByGoogleId("mock_id");
+            // verify userRepository.findByGoogleIdOrEmail 호출 검증 (GoogleId)
+            verify(userRepository, times(1)).findByGoogleIdOrEmail(eq("mock_id"), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -248,40 +224,32 @@ class GoogleServiceTest {
 
         @Test
         @DisplayName("중복된 이메일을 가진 사용자가 없는 경우")
-        void NoExistingUserWithSameEmail() throws JsonProcessingException {
+        void NoExistingUserWithSameEmail() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"mock_id\", \"email\":\"mock@email.com\", \"name\":\"mock_nickname\"}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"sub\":\"mock_id\", \"email\":\"mock@email.com\", \"name\":\"mock_nickname\"}";
 
             // Mock User
             User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mock_nickname", null, null, "mock_id", UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 Google API 호출 : "액세스 토큰"으로 "구글 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
+            when(userRepository.findByGoogleIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -291,28 +259,26 @@ class GoogleServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_auth_code", "mock_scope", new MockHttpServletResponse());
+            googleService.googleLogin("mock_auth_code", "mock_scope", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByEmail 호출 검증
-            verify(userRepository, times(1)).findByEmail("mock@email.com");
+            // verify userRepository.findByGoogleIdOrEmail 호출 검증 (이메일)
+            verify(userRepository, times(1)).findByGoogleIdOrEmail(any(), eq("mock@email.com"));
 
-            // verify userRepository.findByGoogleId 호출 검증
-            verify(userRepository, times(1)).findByGoogleId("mock_id");
+            // verify userRepository.findByGoogleIdOrEmail 호출 검증 (GoogleId)
+            verify(userRepository, times(1)).findByGoogleIdOrEmail(eq("mock_id"), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -323,38 +289,28 @@ class GoogleServiceTest {
 
         @Test
         @DisplayName("중복된 닉네임이 존재할 경우")
-        void testHasNickname() throws JsonProcessingException {
+        void testHasNickname() {
             // Mock Responses
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
+            String mockUserInfoResponse = "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}";
 
             // Mock User
             User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mocknickname", null, null, "1234", UserRoleEnum.USER);
 
             // Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
-
-            when(userRepository.findByGoogleId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(true);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
+            when(userRepository.findByGoogleIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname_1");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
@@ -362,25 +318,23 @@ class GoogleServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_code", "mock_state", new MockHttpServletResponse());
+            googleService.googleLogin("mock_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(1)).getUniqueNameSuffix("mocknickname");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("mocknickname");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -389,47 +343,38 @@ class GoogleServiceTest {
             ArgumentCaptor<User> argument = ArgumentCaptor.forClass(User.class);
             verify(userRepository).save(argument.capture());
             // 캡쳐된 User 객체의 닉네임 접미사 검증
-            assertEquals("mocknickname_0", argument.getValue().getNickname());
+            assertEquals("mocknickname_1", argument.getValue().getNickname());
         }
 
         @Test
         @DisplayName("중복된 닉네임이 존재하지 않을 경우")
-        void testNoNickname() throws JsonProcessingException {
+        void testNoNickname() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}";
 
             // Mock User
             User mockUser = new User("encodedPassword", "mock@email.com", "mocknickname", null, null, "1234", UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 구글 API 호출 : "액세스 토큰"으로 "구글 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByGoogleId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(false);
+            when(userRepository.findByGoogleIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -439,25 +384,23 @@ class GoogleServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_auth_code", "mock_state", new MockHttpServletResponse());
+            googleService.googleLogin("mock_auth_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(0)).getUniqueNameSuffix("mocknickname");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("mocknickname");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -472,38 +415,28 @@ class GoogleServiceTest {
 
         @Test
         @DisplayName("닉네임이 null 인경우")
-        void testNullNickname() throws JsonProcessingException {
+        void testNullNickname() {
             // Mock Responses
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"1234\", \"email\":\"mock@email.com\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
+            String mockUserInfoResponse = "{\"sub\":\"1234\", \"email\":\"mock@email.com\"}";
 
             // Mock User
             User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "google", null, null, "1234", UserRoleEnum.USER);
 
             // Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
-
-            when(userRepository.findByGoogleId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("google")).thenReturn(true);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
+            when(userRepository.findByGoogleIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("google")).thenReturn("google_1");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
@@ -511,25 +444,23 @@ class GoogleServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_code", "mock_state", new MockHttpServletResponse());
+            googleService.googleLogin("mock_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(1)).getUniqueNameSuffix("google");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("google");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -538,43 +469,33 @@ class GoogleServiceTest {
             ArgumentCaptor<User> argument = ArgumentCaptor.forClass(User.class);
             verify(userRepository).save(argument.capture());
             // 캡쳐된 User 객체의 닉네임 접미사 검증
-            assertEquals("google_0", argument.getValue().getNickname());
+            assertEquals("google_1", argument.getValue().getNickname());
         }
 
         @Test
         @DisplayName("리프레시토큰이 null 인경우")
-        void testNoRefreshToken() throws JsonProcessingException {
+        void testNoRefreshToken() {
             // Mock Responses
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
+            String mockUserInfoResponse = "{\"sub\":\"1234\", \"email\":\"mock@email.com\", \"name\":\"mocknickname\"}";
 
             // Mock User
             User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mocknickname", null, null, "1234", UserRoleEnum.USER);
 
             // Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
-
-            when(userRepository.findByGoogleId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(false);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
+            when(userRepository.findByGoogleIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
@@ -582,21 +503,19 @@ class GoogleServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            googleService.googleLogin("mock_code", "mock_state", new MockHttpServletResponse());
+            googleService.googleLogin("mock_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://oauth2.googleapis.com/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://www.googleapis.com/oauth2/v3/userinfo"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
             // verify userRepository.save 호출 검증
@@ -0,0 +1,107 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.graph.GraphPercentageDto;
+import com.example.emotrak.dto.graph.GraphResponseDto;
+import com.example.emotrak.entity.Emotion;
+import com.example.emotrak.entity.EmotionStat;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.repository.EmotionRepository;
+import com.example.emotrak.repository.EmotionStatRepository;
+import com.example.emotrak.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GraphServiceTest {
+    @Mock
+    private EmotionStatRepository emotionStatRepository;
+    @Mock
+    private EmotionRepository emotionRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GraphService graphService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        graphService = new GraphService(emotionStatRepository, emotionRepository, userRepository, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(graphService, "rebuildChunkSize", 1000L);
+        user = new User("qwer1234!", "user@test.com", "tester", UserRoleEnum.USER);
+        user.setId(1L);
+    }
+
+    private List<Emotion> emotions() {
+        List<Emotion> emotionList = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            emotionList.add(new Emotion(id));
+        }
+        return emotionList;
+    }
+
+    @Test
+    @DisplayName("집계 테이블로 월별 평균 별점과 비율 계산")
+    void graph() {
+        // given : 4월에 기쁨 2건(별점 합 7), 슬픔 1건(별점 2)
+        when(emotionRepository.findAll(any(Sort.class))).thenReturn(emotions());
+        when(emotionStatRepository.findAllByUserIdAndDailyYear(1L, 2023)).thenReturn(List.of(
+                new EmotionStat(1L, 1L, 2023, 4, 1L, 2, 7),
+                new EmotionStat(2L, 1L, 2023, 4, 6L, 1, 2),
+                new EmotionStat(3L, 1L, 2023, 5, 2L, 0, 0)));
+
+        // when
+        List<GraphResponseDto> graph = graphService.graph(2023, user);
+
+        // then
+        assertEquals(12, graph.size());
+        GraphResponseDto april = graph.get(3);
+        assertEquals(4, april.getMonth());
+        assertEquals(6, april.getGraph().size());
+        GraphPercentageDto joy = april.getGraph().get(0);
+        assertEquals(1L, joy.getId());
+        assertEquals(3.5f, joy.getCount());
+        assertEquals(66.67f, joy.getPercentage());
+        GraphPercentageDto sad = april.getGraph().get(5);
+        assertEquals(2.0f, sad.getCount());
+        assertEquals(33.33f, sad.getPercentage());
+        // 작성 수가 0이 된 집계 행은 데이터가 없는 것으로 처리
+        assertEquals(0f, graph.get(4).getGraph().get(1).getPercentage());
+        assertEquals(0f, graph.get(0).getGraph().get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("유저 id 구간 단위로 재집계")
+    void rebuild() {
+        // given
+        when(userRepository.findMaxId()).thenReturn(1500L);
+        when(emotionStatRepository.insertByUserIdRange(anyLong(), anyLong())).thenReturn(10, 5);
+
+        // when
+        int rows = graphService.rebuild();
+
+        // then
+        assertEquals(15, rows);
+        verify(emotionStatRepository, times(1)).deleteByUserIdRange(1L, 1000L);
+        verify(emotionStatRepository, times(1)).insertByUserIdRange(1L, 1000L);
+        verify(emotionStatRepository, times(1)).deleteByUserIdRange(1001L, 2000L);
+        verify(emotionStatRepository, times(1)).insertByUserIdRange(1001L, 2000L);
+    }
+}
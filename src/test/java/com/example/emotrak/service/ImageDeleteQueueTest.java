@@ -0,0 +1,145 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.entity.OrphanImage;
+import com.example.emotrak.repository.OrphanImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeleteQueueTest {
+    private static final String BUCKET = "test-bucket";
+
+    @Mock
+    private OrphanImageRepository orphanImageRepository;
+
+    private InMemoryAmazonS3 amazonS3;
+    private ImageDeleteQueue imageDeleteQueue;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new InMemoryAmazonS3();
+        FileUploadService fileUploadService = new FileUploadService(amazonS3, mock(S3MultipartUploader.class));
+        ReflectionTestUtils.setField(fileUploadService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(fileUploadService, "target", "s3.amazonaws.com");
+        ReflectionTestUtils.setField(fileUploadService, "replacement", "cloudfront.net");
+        imageDeleteQueue = new ImageDeleteQueue(orphanImageRepository, fileUploadService, 1000, 30000, 3600000);
+    }
+
+    private List<OrphanImage> orphanImages(int from, int count) {
+        List<OrphanImage> orphanImages = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            String key = "img" + i + ".png";
+            amazonS3.put(BUCKET, key, new byte[]{1});
+            OrphanImage orphanImage = new OrphanImage(key);
+            ReflectionTestUtils.setField(orphanImage, "id", (long) i);
+            orphanImages.add(orphanImage);
+        }
+        return orphanImages;
+    }
+
+    @Test
+    @DisplayName("요청 처리 중에는 S3 를 호출하지 않고 키만 적재")
+    void enqueueOnly() {
+        // when
+        imageDeleteQueue.enqueueAll(Arrays.asList("https://cloudfront.net/test-bucket/a.png", null));
+        imageDeleteQueue.enqueueAll(Collections.emptyList());
+
+        // then
+        ArgumentCaptor<List<OrphanImage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orphanImageRepository, times(1)).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("a.png", captor.getValue().get(0).getObjectKey());
+        assertEquals(0, amazonS3.deleteObjectsCalls());
+    }
+
+    @Test
+    @DisplayName("1000개 단위로 나누어 삭제")
+    void drainInBatches() {
+        // given
+        List<OrphanImage> first = orphanImages(1, 1000);
+        List<OrphanImage> second = orphanImages(1001, 500);
+        when(orphanImageRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenReturn(first, second);
+
+        // when
+        imageDeleteQueue.drain();
+
+        // then
+        assertEquals(2, amazonS3.deleteObjectsCalls());
+        assertEquals(0, amazonS3.size());
+        verify(orphanImageRepository, times(2)).deleteAllByIdInBatch(any());
+        verify(orphanImageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("일부 키 삭제 실패 시 해당 키만 백오프 후 재시도")
+    void drainPartialFailure() {
+        // given
+        List<OrphanImage> due = orphanImages(1, 3);
+        amazonS3.failOn("img2.png");
+        when(orphanImageRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenReturn(due);
+
+        // when
+        imageDeleteQueue.drain();
+
+        // then
+        verify(orphanImageRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(orphanImageRepository, times(1)).saveAll(List.of(due.get(1)));
+        assertEquals(1, due.get(1).getAttempts());
+        assertTrue(due.get(1).getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+        assertTrue(amazonS3.exists(BUCKET, "img2.png"));
+        assertFalse(amazonS3.exists(BUCKET, "img1.png"));
+    }
+
+    @Test
+    @DisplayName("S3 장애 시 묶음 전체를 재시도로 남기고 이번 주기 종료")
+    void drainS3Unavailable() {
+        // given
+        List<OrphanImage> due = orphanImages(1, 1000);
+        amazonS3.setUnavailable(true);
+        when(orphanImageRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenReturn(due);
+
+        // when
+        imageDeleteQueue.drain();
+
+        // then
+        assertEquals(1, amazonS3.deleteObjectsCalls());
+        verify(orphanImageRepository, never()).deleteAllByIdInBatch(any());
+        verify(orphanImageRepository, times(1)).saveAll(due);
+        assertEquals(1000, amazonS3.size());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 지수적으로 늘어나고 최대값에서 멈춤")
+    void backoff() {
+        assertEquals(30000, imageDeleteQueue.backoffMs(0));
+        assertEquals(60000, imageDeleteQueue.backoffMs(1));
+        assertEquals(3600000, imageDeleteQueue.backoffMs(30));
+    }
+
+    @Test
+    @DisplayName("대기열이 비어 있으면 S3 를 호출하지 않음")
+    void drainEmpty() {
+        when(orphanImageRepository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        imageDeleteQueue.drain();
+
+        assertEquals(0, amazonS3.deleteObjectsCalls());
+    }
+}
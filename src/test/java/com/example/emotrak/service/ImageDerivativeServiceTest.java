@@ -0,0 +1,134 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.BoardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+    private static final String IMG_URL = "http://cloudfront.net/bucket/key.png";
+
+    @Mock
+    private FileUploadService fileUploadService;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private ImageDeleteQueue imageDeleteQueue;
+
+    private ExecutorService executor;
+    private ImageDerivativeService imageDerivativeService;
+    private MockMultipartFile file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newSingleThreadExecutor();
+        imageDerivativeService = new ImageDerivativeService(executor, new ImageThumbnailer(320, 1280, 0.8f),
+                fileUploadService, boardRepository, imageDeleteQueue);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(640, 640, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        file = new MockMultipartFile("image", "image.png", "image/png", outputStream.toByteArray());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void stubUpload() {
+        when(fileUploadService.toKey(IMG_URL)).thenReturn("key.png");
+        when(fileUploadService.uploadJpeg(eq("thumb_key.png.jpg"), any())).thenReturn("thumbUrl");
+        when(fileUploadService.uploadJpeg(eq("display_key.png.jpg"), any())).thenReturn("displayUrl");
+    }
+
+    private void awaitWorker() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("백그라운드에서 파생본을 올리고 daily 에 반영")
+    void scheduleUploadsAndUpdates() throws InterruptedException {
+        // given
+        stubUpload();
+        when(boardRepository.updateDerivativeUrls(1L, IMG_URL, "thumbUrl", "displayUrl")).thenReturn(1);
+
+        // when
+        imageDerivativeService.schedule(file, 1L, IMG_URL);
+        awaitWorker();
+
+        // then
+        verify(boardRepository, times(1)).updateDerivativeUrls(1L, IMG_URL, "thumbUrl", "displayUrl");
+        verifyNoInteractions(imageDeleteQueue);
+    }
+
+    @Test
+    @DisplayName("그 사이 이미지가 바뀌었거나 글이 삭제되었으면 올린 파생본을 삭제 대기열에 등록")
+    void enqueueDeleteWhenRowChanged() throws InterruptedException {
+        // given
+        stubUpload();
+        when(boardRepository.updateDerivativeUrls(1L, IMG_URL, "thumbUrl", "displayUrl")).thenReturn(0);
+
+        // when
+        imageDerivativeService.schedule(file, 1L, IMG_URL);
+        awaitWorker();
+
+        // then
+        verify(imageDeleteQueue, times(1)).enqueueAll(List.of("thumbUrl", "displayUrl"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 시작하고, 롤백되면 생성하지 않음")
+    void waitForCommit() throws InterruptedException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        imageDerivativeService.schedule(file, 1L, IMG_URL);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        awaitWorker();
+
+        // then
+        verifyNoInteractions(fileUploadService, boardRepository, imageDeleteQueue);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드를 막지 않고 건너뜀")
+    void rejectWhenSaturated() {
+        // given
+        executor.shutdown();
+
+        // when
+        imageDerivativeService.schedule(file, 1L, IMG_URL);
+
+        // then
+        verifyNoInteractions(fileUploadService, boardRepository, imageDeleteQueue);
+    }
+}
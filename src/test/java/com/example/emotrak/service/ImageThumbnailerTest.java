@@ -0,0 +1,59 @@
+package com.example.emotrak.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageThumbnailerTest {
+    private final ImageThumbnailer imageThumbnailer = new ImageThumbnailer(320, 1280, 0.8f);
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private BufferedImage read(byte[] jpeg) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(jpeg));
+    }
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율을 유지해서 썸네일과 압축본 생성")
+    void createDerivatives() throws IOException {
+        // when
+        ImageThumbnailer.Derivatives derivatives = imageThumbnailer.createDerivatives(new ByteArrayInputStream(png(4000, 2000)));
+
+        // then
+        BufferedImage thumb = read(derivatives.getThumb());
+        BufferedImage display = read(derivatives.getDisplay());
+        assertEquals(320, thumb.getWidth());
+        assertEquals(160, thumb.getHeight());
+        assertEquals(1280, display.getWidth());
+        assertEquals(640, display.getHeight());
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 확대하지 않음")
+    void noUpscale() throws IOException {
+        // when
+        ImageThumbnailer.Derivatives derivatives = imageThumbnailer.createDerivatives(new ByteArrayInputStream(png(100, 50)));
+
+        // then
+        assertEquals(100, read(derivatives.getThumb()).getWidth());
+        assertEquals(100, read(derivatives.getDisplay()).getWidth());
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 파생 이미지 없음")
+    void notAnImage() throws IOException {
+        assertNull(imageThumbnailer.createDerivatives(new ByteArrayInputStream("not an image".getBytes())));
+    }
+}
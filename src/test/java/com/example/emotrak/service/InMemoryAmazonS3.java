@@ -0,0 +1,197 @@
+package com.example.emotrak.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.util.IOUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 테스트용 메모리 S3
+ * 실제 S3 와 같이 DeleteObjects 한 번에 1000개 초과 키를 보내면 거절하고,
+ * failOn 으로 지정한 키는 MultiObjectDeleteException 으로 일부 실패를 흉내냄
+ * 멀티파트 업로드는 파트를 모아 두었다가 complete 시점에 파트 번호 순으로 이어 붙임
+ */
+class InMemoryAmazonS3 extends AbstractAmazonS3 {
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger deleteObjectsCalls = new AtomicInteger();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+    private final AtomicInteger abortedUploads = new AtomicInteger();
+    private volatile int failOnPartNumber;
+    private volatile boolean unavailable;
+
+    void put(String bucketName, String key, byte[] content) {
+        objects.put(bucketName + "/" + key, content);
+    }
+
+    boolean exists(String bucketName, String key) {
+        return objects.containsKey(bucketName + "/" + key);
+    }
+
+    int size() {
+        return objects.size();
+    }
+
+    void failOn(String key) {
+        failingKeys.add(key);
+    }
+
+    void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    int deleteObjectsCalls() {
+        return deleteObjectsCalls.get();
+    }
+
+    byte[] get(String bucketName, String key) {
+        return objects.get(bucketName + "/" + key);
+    }
+
+    void failOnPart(int partNumber) {
+        this.failOnPartNumber = partNumber;
+    }
+
+    int openMultipartUploads() {
+        return multipartUploads.size();
+    }
+
+    int abortedUploads() {
+        return abortedUploads.get();
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+        checkAvailable();
+        try {
+            put(putObjectRequest.getBucketName(), putObjectRequest.getKey(), IOUtils.toByteArray(putObjectRequest.getInputStream()));
+        } catch (IOException e) {
+            throw new SdkClientException(e);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return exists(bucketName, objectName);
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.amazonaws.com/" + key);
+        } catch (MalformedURLException e) {
+            throw new SdkClientException(e);
+        }
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        checkAvailable();
+        objects.remove(bucketName + "/" + key);
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+        deleteObjectsCalls.incrementAndGet();
+        checkAvailable();
+        List<DeleteObjectsRequest.KeyVersion> keys = deleteObjectsRequest.getKeys();
+        if (keys.size() > FileUploadService.MAX_DELETE_KEYS) {
+            AmazonS3Exception e = new AmazonS3Exception("The XML you provided was not well-formed");
+            e.setErrorCode("MalformedXML");
+            e.setStatusCode(400);
+            throw e;
+        }
+        List<DeleteObjectsResult.DeletedObject> deleted = new ArrayList<>();
+        List<MultiObjectDeleteException.DeleteError> errors = new ArrayList<>();
+        for (DeleteObjectsRequest.KeyVersion keyVersion : keys) {
+            if (failingKeys.contains(keyVersion.getKey())) {
+                MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+                error.setKey(keyVersion.getKey());
+                error.setCode("InternalError");
+                errors.add(error);
+                continue;
+            }
+            objects.remove(deleteObjectsRequest.getBucketName() + "/" + keyVersion.getKey());
+            DeleteObjectsResult.DeletedObject deletedObject = new DeleteObjectsResult.DeletedObject();
+            deletedObject.setKey(keyVersion.getKey());
+            deleted.add(deletedObject);
+        }
+        if (!errors.isEmpty()) {
+            throw new MultiObjectDeleteException(errors, deleted);
+        }
+        return new DeleteObjectsResult(deleteObjectsRequest.getQuiet() ? Collections.emptyList() : deleted);
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        checkAvailable();
+        String uploadId = "upload-" + uploadIds.incrementAndGet();
+        multipartUploads.put(uploadId, new ConcurrentHashMap<>());
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        checkAvailable();
+        if (request.getPartNumber() == failOnPartNumber) {
+            throw new SdkClientException("Unable to execute HTTP request: Connection reset");
+        }
+        Map<Integer, byte[]> parts = multipartUploads.get(request.getUploadId());
+        if (parts == null) {
+            throw new AmazonS3Exception("NoSuchUpload");
+        }
+        try {
+            parts.put(request.getPartNumber(), IOUtils.toByteArray(request.getInputStream()));
+        } catch (IOException e) {
+            throw new SdkClientException(e);
+        }
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        checkAvailable();
+        Map<Integer, byte[]> parts = multipartUploads.remove(request.getUploadId());
+        if (parts == null) {
+            throw new AmazonS3Exception("NoSuchUpload");
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        request.getPartETags().stream()
+                .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+                .forEach(partETag -> content.writeBytes(parts.get(partETag.getPartNumber())));
+        put(request.getBucketName(), request.getKey(), content.toByteArray());
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.getUploadId());
+        abortedUploads.incrementAndGet();
+    }
+
+    private void checkAvailable() {
+        if (unavailable) {
+            throw new SdkClientException("Unable to execute HTTP request: Connect timed out");
+        }
+    }
+}
@@ -7,7 +7,6 @@ import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.jwt.TokenProvider;
 import com.example.emotrak.jwt.Validation;
 import com.example.emotrak.repository.UserRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,7 +24,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,40 +48,36 @@ class KakaoServiceTest {
     private Validation validation;
     @MockBean
     private RestTemplate rt;
+    @MockBean
+    private OAuthHttpClient oAuthHttpClient;
+    @MockBean
+    private NicknameAllocator nicknameAllocator;
 
     @Nested
     @DisplayName("KakaoLogin")
     class kakaoLogin {
         @Test
         @DisplayName("정상적인 로그인")
-        void KakaoLoginTest() throws JsonProcessingException {
+        void KakaoLoginTest() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}";
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // Mock TokenDto
             TokenDto mockTokenDto = new TokenDto("Bearer","mock_access_token", "mock_refresh_token", 123L);
@@ -91,83 +87,71 @@ class KakaoServiceTest {
 
 
             // 테스트 수행
-            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse());
+            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse()).join();
 
             // Then
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
         }
 
         @Test
         @DisplayName("카카오유저가 존재하는 경우")
-        void ExistingUser() throws JsonProcessingException {
+        void ExistingUser() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}";
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
             User existingUser = new User("encodedPassword", "existing_user_email", "existing_user_nickname", 1234L, null, null, UserRoleEnum.USER);
-            when(userRepository.findByKakaoId(1234L)).thenReturn(Optional.of(existingUser));
+            when(userRepository.findByKakaoIdOrEmail(eq(1234L), any())).thenReturn(List.of(existingUser));
 
             // Mock TokenDto
             TokenDto mockTokenDto = new TokenDto("Bearer","mock_access_token", "mock_refresh_token", 123L);
             when(tokenProvider.generateTokenDto(existingUser, existingUser.getRole())).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse());
+            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByKakaoId 호출 검증
-            verify(userRepository, times(1)).findByKakaoId(1234L);
+            // verify userRepository.findByKakaoIdOrEmail 호출 검증 (KakaoId)
+            verify(userRepository, times(1)).findByKakaoIdOrEmail(eq(1234L), any());
 
             // verify tokenProvider.generateTokenDto 호출 검증
             verify(tokenProvider, times(1)).generateTokenDto(existingUser, existingUser.getRole());
@@ -175,40 +159,32 @@ class KakaoServiceTest {
 
         @Test
         @DisplayName("중복된 이메일을 가진 사용자가 있는 경우")
-        void ExistingUserWithSameEmail() throws JsonProcessingException {
+        void ExistingUserWithSameEmail() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}";
 
             // Mock User
-            User mockUser = new User("encodedPassword", "mock@email.com", "mock_nickname", 1234L, null, null, UserRoleEnum.USER);
+            User mockUser = new User("encodedPassword", "mock@email.com", "mock_nickname", null, null, null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.of(mockUser));
+            when(userRepository.findByKakaoIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of(mockUser));
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -219,28 +195,26 @@ class KakaoServiceTest {
 
 
             // 테스트 수행
-            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse());
+            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByEmail 호출 검증
-            verify(userRepository, times(1)).findByEmail("mock@email.com");
+            // verify userRepository.findByKakaoIdOrEmail 호출 검증 (이메일)
+            verify(userRepository, times(1)).findByKakaoIdOrEmail(any(), eq("mock@email.com"));
 
-            // verify userRepository.findByKakaoId 호출 검증
-            verify(userRepository, times(1)).findByKakaoId(1234L);
+            // verify userRepository.findByKakaoIdOrEmail 호출 검증 (KakaoId)
+            verify(userRepository, times(1)).findByKakaoIdOrEmail(eq(1234L), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -251,40 +225,31 @@ class KakaoServiceTest {
 
         @Test
         @DisplayName("중복된 이메일을 가진 사용자가 없는 경우")
-        void NoExistingUserWithSameEmail() throws JsonProcessingException {
+        void NoExistingUserWithSameEmail() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"id\":1234, \"properties\":{\"nickname\":\"mock_nickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}";
 
             // Mock User
             User mockUser = new User("encodedPassword", "mock@email.com", "mock_nickname", 1234L, null, null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
             // UserRepository Mocking
-            when(userRepository.findByKakaoId(1234L)).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
+            when(userRepository.findByKakaoIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -294,28 +259,26 @@ class KakaoServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse());
+            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByEmail 호출 검증
-            verify(userRepository, times(1)).findByEmail("mock@email.com");
+            // verify userRepository.findByKakaoIdOrEmail 호출 검증 (이메일)
+            verify(userRepository, times(1)).findByKakaoIdOrEmail(any(), eq("mock@email.com"));
 
-            // verify userRepository.findByKakaoId 호출 검증
-            verify(userRepository, times(1)).findByKakaoId(1234L);
+            // verify userRepository.findByKakaoIdOrEmail 호출 검증 (KakaoId)
+            verify(userRepository, times(1)).findByKakaoIdOrEmail(eq(1234L), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -326,42 +289,33 @@ class KakaoServiceTest {
 
         @Test
         @DisplayName("중복된 닉네임이 존재할 경우")
-        void testHasNickname() throws JsonProcessingException  {
+        void testHasNickname()  {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"id\":1234, \"properties\":{\"nickname\":\"mocknickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"id\":1234, \"properties\":{\"nickname\":\"mocknickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}";
 
             // Mock User
             User mockUser = new User("encodedPassword", "mock@email.com", "mocknickname", 1234L, null, null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByKakaoId(1234L)).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(true);
+            when(userRepository.findByKakaoIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname_1");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -371,25 +325,23 @@ class KakaoServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse());
+            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(1)).getUniqueNameSuffix("mocknickname");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("mocknickname");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -399,46 +351,37 @@ class KakaoServiceTest {
             verify(userRepository).save(argument.capture());
 
             // 캡쳐된 User 객체의 닉네임 접미사 검증
-            assertEquals("mocknickname_0", argument.getValue().getNickname());
+            assertEquals("mocknickname_1", argument.getValue().getNickname());
         }
 
         @Test
         @DisplayName("중복된 닉네임이 존재하지 않을 경우")
-        void testNoNickname() throws JsonProcessingException {
+        void testNoNickname() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\"}";
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"id\":1234, \"properties\":{\"nickname\":\"mocknickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"id\":1234, \"properties\":{\"nickname\":\"mocknickname\"}, \"kakao_account\":{\"email\":\"mock@email.com\"}}";
 
             // Mock User
             User mockUser = new User("encodedPassword", "mock@email.com", "mocknickname", 1234L, null, null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByKakaoId(1234L)).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(false);
+            when(userRepository.findByKakaoIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -448,25 +391,23 @@ class KakaoServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse());
+            kakaoService.kakaoLogin("mock_auth_code", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kauth.kakao.com/oauth/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://kapi.kakao.com/v2/user/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(0)).getUniqueNameSuffix("mocknickname");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("mocknickname");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
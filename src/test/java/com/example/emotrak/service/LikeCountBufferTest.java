@@ -0,0 +1,125 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.BoardRepository;
+import com.example.emotrak.repository.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountBufferTest {
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private LikeCountBuffer likeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        likeCountBuffer = new LikeCountBuffer(boardRepository, commentRepository, 4);
+    }
+
+    @Test
+    @DisplayName("같은 증감값끼리 묶어서 반영")
+    void flushGroupedByDelta() {
+        // given
+        likeCountBuffer.addDailyLike(1L, 1);
+        likeCountBuffer.addDailyLike(2L, 1);
+        likeCountBuffer.addDailyLike(3L, 1);
+        likeCountBuffer.addDailyLike(3L, 1);
+        likeCountBuffer.addDailyLike(4L, 1);
+        likeCountBuffer.addDailyLike(4L, -1);
+        likeCountBuffer.addCommentLike(5L, -1);
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        verify(boardRepository, times(1)).updateLikeCounts(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1));
+        verify(boardRepository, times(1)).updateLikeCounts(List.of(3L), 2);
+        verify(commentRepository, times(1)).updateLikeCounts(List.of(5L), -1);
+        verifyNoMoreInteractions(boardRepository, commentRepository);
+        assertEquals(0, likeCountBuffer.dailyLikeCount(3L, 0));
+    }
+
+    @Test
+    @DisplayName("반영 전 좋아요 수는 DB 값 + 버퍼 증감값")
+    void likeCountIncludesPending() {
+        likeCountBuffer.addDailyLike(1L, 1);
+        likeCountBuffer.addDailyLike(1L, 1);
+        likeCountBuffer.addCommentLike(2L, -1);
+
+        assertEquals(12, likeCountBuffer.dailyLikeCount(1L, 10));
+        assertEquals(0, likeCountBuffer.commentLikeCount(2L, 0));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감값은 커밋 후에만 쌓이고, 롤백되면 버려짐")
+    void addAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            likeCountBuffer.addDailyLike(1L, 1);
+            assertEquals(0, likeCountBuffer.dailyLikeCount(1L, 0));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, likeCountBuffer.dailyLikeCount(1L, 0));
+
+        // 롤백 : afterCommit 이 호출되지 않음
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            likeCountBuffer.addCommentLike(2L, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        likeCountBuffer.flush();
+        verify(boardRepository, times(1)).updateLikeCounts(List.of(1L), 1);
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 버퍼에 되돌려 다음 주기에 재시도")
+    void requeueOnFailure() {
+        // given
+        likeCountBuffer.addDailyLike(1L, 1);
+        doThrow(new QueryTimeoutException("timeout")).when(boardRepository).updateLikeCounts(anyList(), anyInt());
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        assertEquals(1, likeCountBuffer.dailyLikeCount(1L, 0));
+    }
+
+    @Test
+    @DisplayName("공유 중지된 글의 반영 전 증감값은 버려짐")
+    void discardDailyLikes() {
+        // given
+        likeCountBuffer.addDailyLike(1L, 1);
+        likeCountBuffer.addDailyLike(2L, 1);
+
+        // when
+        likeCountBuffer.discardDailyLikes(1L);
+        likeCountBuffer.flush();
+
+        // then
+        verify(boardRepository, times(1)).updateLikeCounts(List.of(2L), 1);
+        verifyNoMoreInteractions(boardRepository);
+        assertEquals(0, likeCountBuffer.dailyLikeCount(1L, 0));
+    }
+}
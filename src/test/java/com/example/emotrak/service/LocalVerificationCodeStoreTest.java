@@ -0,0 +1,72 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.service.VerificationCodeStore.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalVerificationCodeStoreTest {
+    private final AtomicLong now = new AtomicLong();
+    private final LocalVerificationCodeStore store = new LocalVerificationCodeStore(100, 300, 1800, 3, now::get);
+
+    @Test
+    @DisplayName("맞는 코드면 인증 완료, 인증 완료 상태는 한 번만 사용")
+    void verify() {
+        store.save("user@email.com", "123456");
+
+        assertEquals(Result.VERIFIED, store.verify("USER@email.com", "123456"));
+        // 코드는 한 번 확인하면 지워짐
+        assertEquals(Result.EXPIRED, store.verify("user@email.com", "123456"));
+        // 확인만 해서는 꺼내 쓰지 않음
+        assertTrue(store.isVerified("user@email.com"));
+        assertTrue(store.consumeVerified("user@email.com"));
+        assertFalse(store.isVerified("user@email.com"));
+        assertFalse(store.consumeVerified("user@email.com"));
+    }
+
+    @Test
+    @DisplayName("틀린 횟수가 최대치를 넘으면 코드 폐기")
+    void tooManyAttempts() {
+        store.save("user@email.com", "123456");
+
+        assertEquals(Result.MISMATCH, store.verify("user@email.com", "000000"));
+        assertEquals(Result.MISMATCH, store.verify("user@email.com", "111111"));
+        assertEquals(Result.MISMATCH, store.verify("user@email.com", null));
+        assertEquals(Result.TOO_MANY_ATTEMPTS, store.verify("user@email.com", "123456"));
+        assertEquals(Result.EXPIRED, store.verify("user@email.com", "123456"));
+        assertFalse(store.consumeVerified("user@email.com"));
+    }
+
+    @Test
+    @DisplayName("코드와 인증 완료 상태는 각각의 ttl 이 지나면 만료")
+    void expire() {
+        store.save("user1@email.com", "123456");
+        store.save("user2@email.com", "654321");
+        assertEquals(Result.VERIFIED, store.verify("user2@email.com", "654321"));
+
+        now.addAndGet(Duration.ofSeconds(300).toNanos());
+        assertEquals(Result.EXPIRED, store.verify("user1@email.com", "123456"));
+
+        now.addAndGet(Duration.ofSeconds(1500).toNanos());
+        assertFalse(store.consumeVerified("user2@email.com"));
+    }
+
+    @Test
+    @DisplayName("다시 발송하면 이전 코드와 시도 횟수, 인증 완료 상태가 초기화")
+    void resend() {
+        store.save("user@email.com", "123456");
+        store.verify("user@email.com", "000000");
+        store.verify("user@email.com", "000000");
+        store.save("user@email.com", "654321");
+
+        assertEquals(Result.MISMATCH, store.verify("user@email.com", "123456"));
+        assertEquals(Result.VERIFIED, store.verify("user@email.com", "654321"));
+
+        store.save("user@email.com", "111111");
+        assertFalse(store.consumeVerified("user@email.com"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailOutboxTest {
+    private GreenMail greenMail;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutbox mailOutbox;
+
+    @BeforeEach
+    void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (mailOutbox != null) mailOutbox.stop();
+        greenMail.stop();
+    }
+
+    @Test
+    @DisplayName("접수한 메일을 발송 스레드가 smtp 로 발송")
+    void send() throws Exception {
+        mailOutbox = mailOutbox(10);
+        mailOutbox.start();
+
+        mailOutbox.enqueue("user1@email.com", "회원가입 인증 코드: ", "<p>123456</p>");
+        mailOutbox.enqueue("user2@email.com", "회원가입 인증 코드: ", "<p>654321</p>");
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 2));
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            assertEquals("회원가입 인증 코드: ", message.getSubject());
+            assertEquals("admin@emotrak.com", ((InternetAddress) message.getFrom()[0]).getAddress());
+        }
+        MimeMessage first = greenMail.getReceivedMessagesForDomain("email.com")[0];
+        assertTrue(GreenMailUtil.getBody(first).contains("123456") || GreenMailUtil.getBody(first).contains("654321"));
+    }
+
+    @Test
+    @DisplayName("같은 수신자에게는 일정 시간 안에 한 번만 접수")
+    void perRecipientInterval() {
+        mailOutbox = mailOutbox(10);
+
+        mailOutbox.enqueue("user@email.com", "subject", "body");
+        CustomException exception = assertThrows(CustomException.class,
+                () -> mailOutbox.enqueue("USER@email.com", "subject", "body"));
+
+        assertEquals(CustomErrorCode.MAIL_TOO_MANY_REQUESTS, exception.getErrorCode());
+        assertEquals(1, mailOutbox.pending());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 MAIL_BUSY")
+    void busy() {
+        mailOutbox = mailOutbox(1);
+
+        mailOutbox.enqueue("user1@email.com", "subject", "body");
+        CustomException exception = assertThrows(CustomException.class,
+                () -> mailOutbox.enqueue("user2@email.com", "subject", "body"));
+
+        assertEquals(CustomErrorCode.MAIL_BUSY, exception.getErrorCode());
+        assertEquals(1, mailOutbox.pending());
+    }
+
+    @Test
+    @DisplayName("smtp 서버가 내려가 있으면 백오프 후 재시도하고, 다시 올라오면 새 연결로 발송")
+    void retryAfterServerRestart() throws Exception {
+        mailOutbox = mailOutbox(10);
+        mailOutbox.start();
+        mailOutbox.enqueue("user1@email.com", "subject", "first");
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+
+        // 발송 스레드가 열어 둔 연결이 끊기도록 서버를 내렸다가 같은 포트로 다시 올림
+        int port = greenMail.getSmtp().getPort();
+        greenMail.stop();
+        mailOutbox.enqueue("user2@email.com", "subject", "second");
+        Thread.sleep(300);
+        greenMail = new GreenMail(new ServerSetup(port, null, ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        assertEquals("second", GreenMailUtil.getBody(greenMail.getReceivedMessages()[0]).trim());
+        assertTrue(meterRegistry.counter("emotrak.mail", "result", "retry").count() > 0);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 지수적으로 늘어나고 최대값에서 멈춤")
+    void backoff() {
+        mailOutbox = mailOutbox(10);
+
+        assertEquals(50, mailOutbox.backoffMs(0));
+        assertEquals(100, mailOutbox.backoffMs(1));
+        assertEquals(200, mailOutbox.backoffMs(2));
+        assertEquals(200, mailOutbox.backoffMs(10));
+    }
+
+    private MailOutbox mailOutbox(int capacity) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        return new MailOutbox(mailSender, meterRegistry, "admin@emotrak.com", "Emotrak_Admin",
+                capacity, 1, 10, 60, 60000, 20, 50, 200);
+    }
+}
@@ -8,7 +8,6 @@ import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.jwt.TokenProvider;
 import com.example.emotrak.jwt.Validation;
 import com.example.emotrak.repository.UserRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -29,7 +28,8 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -53,124 +53,108 @@ class NaverServiceTest {
     private Validation validation;
     @MockBean
     private RestTemplate rt;
+    @MockBean
+    private OAuthHttpClient oAuthHttpClient;
+    @MockBean
+    private NicknameAllocator nicknameAllocator;
 
     @Nested
     @DisplayName("NaverLogin")
     class naverLogin {
         @Test
         @DisplayName("정상적인 로그인")
-        void NaverLoginTest() throws JsonProcessingException {
+        void NaverLoginTest() {
             // 네이버 OAuth2 인증 응답을 Mocking
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh\"}";
 
             // 사용자 정보에 대한 네이버 API 응답을 Mocking
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"response\":{\"id\":\"1234\",\"name\":\"mock_name\",\"email\":\"mock_email\",\"nickname\":\"mock_nickname\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"response\":{\"id\":\"1234\",\"name\":\"mock_name\",\"email\":\"mock_email\",\"nickname\":\"mock_nickname\"}}";
 
 
             // 인증 코드로 액세스 토큰 요청을 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 액세스 토큰으로 사용자 정보 요청을 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // TokenDto Mocking
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 로그인 메서드 호출
-            naverService.naverLogin("mock_auth_code", "mock_auth_state", new MockHttpServletResponse());
+            naverService.naverLogin("mock_auth_code", "mock_auth_state", new MockHttpServletResponse()).join();
 
             // 액세스 토큰 요청과 사용자 정보 요청이 각각 한 번씩 호출되었음을 검증
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
         }
 
         @Test
         @DisplayName("네이버유저가 존재하는 경우")
-        void ExistingUser() throws JsonProcessingException {
+        void ExistingUser() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"response\":{\"id\":\"1234\", \"nickname\":\"mock_nickname\", \"email\":\"mock@email.com\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"response\":{\"id\":\"1234\", \"nickname\":\"mock_nickname\", \"email\":\"mock@email.com\"}}";
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 네이버 API 호출 : "액세스 토큰"으로 "네이버 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
             User existingUser = new User("encodedPassword", "existing_user_email", "existing_user_nickname", null, "1234", null, UserRoleEnum.USER);
-            when(userRepository.findByNaverId("1234")).thenReturn(Optional.of(existingUser));
+            when(userRepository.findByNaverIdOrEmail(eq("1234"), any())).thenReturn(List.of(existingUser));
 
             // Mock TokenDto
             TokenDto mockTokenDto = new TokenDto("Bearer","mock_access_token", "mock_refresh_token", 123L);
             when(tokenProvider.generateTokenDto(existingUser, existingUser.getRole())).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse());
+            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByNaverId 호출 검증
-            verify(userRepository, times(1)).findByNaverId("1234");
+            // verify userRepository.findByNaverIdOrEmail 호출 검증 (NaverId)
+            verify(userRepository, times(1)).findByNaverIdOrEmail(eq("1234"), any());
 
             // verify tokenProvider.generateTokenDto 호출 검증
             verify(tokenProvider, times(1)).generateTokenDto(existingUser, existingUser.getRole());
@@ -178,40 +162,32 @@ class NaverServiceTest {
 
         @Test
         @DisplayName("중복된 이메일을 가진 사용자가 있는 경우")
-        void ExistingUserWithSameEmail() throws JsonProcessingException {
+        void ExistingUserWithSameEmail() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"response\":{\"id\":\"mock_id\", \"email\":\"mock@email.com\", \"nickname\":\"mock_nickname\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"response\":{\"id\":\"mock_id\", \"email\":\"mock@email.com\", \"nickname\":\"mock_nickname\"}}";
 
             // Mock User
-            User mockUser = new User("encodedPassword", "mock@email.com", "mock_nickname", null, "mock_id", null, UserRoleEnum.USER);
+            User mockUser = new User("encodedPassword", "mock@email.com", "mock_nickname", null, null, null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 네이버 API 호출 : "액세스 토큰"으로 "네이버 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.of(mockUser));
+            when(userRepository.findByNaverIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of(mockUser));
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -221,28 +197,26 @@ class NaverServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse());
+            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByEmail 호출 검증
-            verify(userRepository, times(1)).findByEmail("mock@email.com");
+            // verify userRepository.findByNaverIdOrEmail 호출 검증 (이메일)
+            verify(userRepository, times(1)).findByNaverIdOrEmail(any(), eq("mock@email.com"));
 
-            // verify userRepository.findByNaverId 호출 검증
-            verify(userRepository, times(1)).findByNaverId("mock_id");
+            // verify userRepository.findByNaverIdOrEmail 호출 검증 (NaverId)
+            verify(userRepository, times(1)).findByNaverIdOrEmail(eq("mock_id"), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -253,66 +227,55 @@ class NaverServiceTest {
 
         @Test
         @DisplayName("중복된 이메일을 가진 사용자가 없는 경우")
-        void NoExistingUserWithSameEmail() throws JsonProcessingException {
+        void NoExistingUserWithSameEmail() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"response\":{\"id\":\"1234\", \"email\":\"mock@email.com\", \"nickname\":\"mock_nickname\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"response\":{\"id\":\"1234\", \"email\":\"mock@email.com\", \"nickname\":\"mock_nickname\"}}";
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 네이버 API 호출 : "액세스 토큰"으로 "네이버 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByNaverId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
+            when(userRepository.findByNaverIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
 
             // TokenProvider Mocking
             TokenDto mockTokenDto = new TokenDto("Bearer","mock_access_token", "mock_refresh_token", 123L);
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse());
+            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.findByEmail 호출 검증
-            verify(userRepository, times(1)).findByEmail("mock@email.com");
+            // verify userRepository.findByNaverIdOrEmail 호출 검증 (이메일)
+            verify(userRepository, times(1)).findByNaverIdOrEmail(any(), eq("mock@email.com"));
 
-            // verify userRepository.findByNaverId 호출 검증
-            verify(userRepository, times(1)).findByNaverId("1234");
+            // verify userRepository.findByNaverIdOrEmail 호출 검증 (NaverId)
+            verify(userRepository, times(1)).findByNaverIdOrEmail(eq("1234"), any());
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -323,38 +286,28 @@ class NaverServiceTest {
 
         @Test
         @DisplayName("중복된 닉네임이 존재할 경우")
-        void testHasNickname() throws JsonProcessingException {
+        void testHasNickname() {
             // Mock Responses
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"response\":{\"id\":\"1234\", \"email\":\"mock@email.com\", \"nickname\":\"mocknickname\"}}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
+            String mockUserInfoResponse = "{\"response\":{\"id\":\"1234\", \"email\":\"mock@email.com\", \"nickname\":\"mocknickname\"}}";
 
             // Mock User
             User mockUser = new User(passwordEncoder.encode("randomPassword"), "mock@email.com", "mocknickname", null, "1234", null, UserRoleEnum.USER);
 
             // Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
-
-            when(userRepository.findByNaverId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(true);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
+            when(userRepository.findByNaverIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname_1");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             TokenDto mockTokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
@@ -362,25 +315,23 @@ class NaverServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            naverService.naverLogin("mock_code", "mock_state", new MockHttpServletResponse());
+            naverService.naverLogin("mock_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(1)).getUniqueNameSuffix("mocknickname");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("mocknickname");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -389,47 +340,38 @@ class NaverServiceTest {
             ArgumentCaptor<User> argument = ArgumentCaptor.forClass(User.class);
             verify(userRepository).save(argument.capture());
             // 캡쳐된 User 객체의 닉네임 접미사 검증
-            assertEquals("mocknickname_0", argument.getValue().getNickname());
+            assertEquals("mocknickname_1", argument.getValue().getNickname());
         }
 
         @Test
         @DisplayName("중복된 닉네임이 존재하지 않을 경우")
-        void testNoNickname() throws JsonProcessingException {
+        void testNoNickname() {
             // Access Token을 반환하는 Mock Response 설정
-            ResponseEntity<String> mockTokenResponse = new ResponseEntity<>(
-                    "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}",
-                    HttpStatus.OK
-            );
+            String mockTokenResponse = "{\"access_token\":\"mock_token\", \"refresh_token\":\"mock_refresh_token\"}";
 
             // User Info를 반환하는 Mock Response 설정
-            ResponseEntity<String> mockUserInfoResponse = new ResponseEntity<>(
-                    "{\"response\":{\"id\":\"1234\", \"email\":\"mock@email.com\", \"nickname\":\"mocknickname\"}}",
-                    HttpStatus.OK
-            );
+            String mockUserInfoResponse = "{\"response\":{\"id\":\"1234\", \"email\":\"mock@email.com\", \"nickname\":\"mocknickname\"}}";
 
             // Mock User
             User mockUser = new User("encodedPassword", "mock@email.com", "mocknickname", null, "1234", null, UserRoleEnum.USER);
 
             // "인가 코드"로 "액세스 토큰" 요청에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockTokenResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockTokenResponse));
 
             // 토큰으로 네이버 API 호출 : "액세스 토큰"으로 "네이버 사용자 정보" 가져오기에 대한 Mocking
-            when(rt.exchange(
+            when(oAuthHttpClient.exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
-            )).thenReturn(mockUserInfoResponse);
+                    any(HttpEntity.class)
+            )).thenReturn(CompletableFuture.completedFuture(mockUserInfoResponse));
 
             // UserRepository Mocking
-            when(userRepository.findByNaverId("1234")).thenReturn(Optional.empty());
-            when(userRepository.findByEmail("mock@email.com")).thenReturn(Optional.empty());
-            when(userRepository.existsByNickname("mocknickname")).thenReturn(false);
+            when(userRepository.findByNaverIdOrEmail(any(), eq("mock@email.com"))).thenReturn(List.of());
+            when(nicknameAllocator.allocate("mocknickname")).thenReturn("mocknickname");
             when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
             // Mock TokenDto
@@ -439,25 +381,23 @@ class NaverServiceTest {
             when(tokenProvider.generateTokenDto(any(User.class), any(UserRoleEnum.class))).thenReturn(mockTokenDto);
 
             // 테스트 수행
-            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse());
+            naverService.naverLogin("mock_auth_code", "mock_state", new MockHttpServletResponse()).join();
 
-            // verify restTemplate.exchange 호출 검증
-            verify(rt, times(1)).exchange(
+            // verify oAuthHttpClient.exchangeAsync 호출 검증
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://nid.naver.com/oauth2.0/token"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            verify(rt, times(1)).exchange(
+            verify(oAuthHttpClient, times(1)).exchangeAsync(
                     eq("https://openapi.naver.com/v1/nid/me"),
                     eq(HttpMethod.POST),
-                    any(HttpEntity.class),
-                    eq(String.class)
+                    any(HttpEntity.class)
             );
 
-            // verify userRepository.getUniqueNameSuffix 호출 검증
-            verify(userRepository, times(0)).getUniqueNameSuffix("mocknickname");
+            // verify nicknameAllocator.allocate 호출 검증
+            verify(nicknameAllocator, times(1)).allocate("mocknickname");
 
             // verify userRepository.save 호출 검증
             verify(userRepository, times(1)).save(any(User.class));
@@ -0,0 +1,70 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.NicknameSequenceRepository;
+import com.example.emotrak.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameAllocatorTest {
+    @Mock
+    private NicknameSequenceRepository nicknameSequenceRepository;
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private NicknameAllocator nicknameAllocator;
+
+    @Test
+    @DisplayName("카운터가 있으면 한 행만 증가시키고 users 범위 조회 없음")
+    void increment() {
+        when(nicknameSequenceRepository.increment("비둘기")).thenReturn(1);
+        when(nicknameSequenceRepository.lastAllocated()).thenReturn(4L);
+
+        assertEquals("비둘기_4", nicknameAllocator.allocate("비둘기"));
+
+        verify(userRepository).existsByNickname("비둘기_4");
+        verify(userRepository, never()).findNicknameSuffix(anyString(), anyString());
+        verify(nicknameSequenceRepository, never()).upsert(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("처음 쓰는 닉네임은 users 에서 접미사를 구해 카운터 생성")
+    void seed() {
+        when(nicknameSequenceRepository.increment("비둘기")).thenReturn(0);
+        when(userRepository.findNicknameSuffix("비둘기", "비둘기!_%")).thenReturn(0L);
+        when(nicknameSequenceRepository.lastAllocated()).thenReturn(0L);
+
+        assertEquals("비둘기", nicknameAllocator.allocate("비둘기"));
+
+        verify(nicknameSequenceRepository).upsert("비둘기", 0L);
+    }
+
+    @Test
+    @DisplayName("카운터 밖에서 만들어진 닉네임과 겹치면 실제 최대값 이후로 다시 맞춤")
+    void reseedOnCollision() {
+        when(nicknameSequenceRepository.increment("비둘기")).thenReturn(1);
+        when(nicknameSequenceRepository.lastAllocated()).thenReturn(0L, 3L);
+        when(userRepository.existsByNickname("비둘기")).thenReturn(true);
+        when(userRepository.findNicknameSuffix("비둘기", "비둘기!_%")).thenReturn(3L);
+
+        assertEquals("비둘기_3", nicknameAllocator.allocate("비둘기"));
+
+        verify(nicknameSequenceRepository).upsert("비둘기", 3L);
+        verify(userRepository).existsByNickname("비둘기_3");
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴 이스케이프")
+    void likeEscape() {
+        assertEquals("a!_b!%c!!d", NicknameAllocator.likeEscape("a_b%c!d"));
+        assertEquals("nickname", NicknameAllocator.likeEscape("nickname"));
+    }
+}
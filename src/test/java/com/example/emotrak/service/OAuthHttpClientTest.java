@@ -0,0 +1,101 @@
+package com.example.emotrak.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OAuthHttpClientTest {
+    private HttpServer server;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private SimpleMeterRegistry meterRegistry;
+    private OAuthHttpClient oAuthHttpClient;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth/token", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"access_token\":\"abc\"}");
+        });
+        server.createContext("/v2/user/me", exchange -> respond(exchange, 401, "{\"msg\":\"invalid token\"}"));
+        server.start();
+
+        httpAsyncClient = HttpAsyncClients.createDefault();
+        httpAsyncClient.start();
+        meterRegistry = new SimpleMeterRegistry();
+        oAuthHttpClient = new OAuthHttpClient(httpAsyncClient, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpAsyncClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("폼 요청을 보내고 응답 본문을 비동기로 반환")
+    void postForm() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+        body.add("grant_type", "authorization_code");
+        body.add("code", "코드 1");
+
+        String response = oAuthHttpClient.exchangeAsync(url("/oauth/token"), HttpMethod.POST, new HttpEntity<>(body, headers))
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("{\"access_token\":\"abc\"}", response);
+        assertEquals("grant_type=authorization_code&code=%EC%BD%94%EB%93%9C+1", receivedBody.get());
+        assertEquals(1, meterRegistry.get("emotrak.oauth.http.requests").tag("outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 RestTemplate 과 같은 HttpClientErrorException 으로 완료")
+    void clientError() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", "Bearer expired");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () ->
+                oAuthHttpClient.exchangeAsync(url("/v2/user/me"), HttpMethod.POST, new HttpEntity<>(headers)).get(5, TimeUnit.SECONDS));
+
+        HttpClientErrorException cause = assertInstanceOf(HttpClientErrorException.class, exception.getCause());
+        assertEquals(HttpStatus.UNAUTHORIZED, cause.getStatusCode());
+        assertEquals("{\"msg\":\"invalid token\"}", cause.getResponseBodyAsString());
+        assertEquals(1, meterRegistry.get("emotrak.oauth.http.requests").tag("outcome", "CLIENT_ERROR").timer().count());
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
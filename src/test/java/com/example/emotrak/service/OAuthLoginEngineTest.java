@@ -0,0 +1,195 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.oauth.OAuthTokenResponseDto;
+import com.example.emotrak.dto.user.OauthUserInfoDto;
+import com.example.emotrak.dto.user.TokenDto;
+import com.example.emotrak.entity.User;
+import com.example.emotrak.entity.UserRoleEnum;
+import com.example.emotrak.exception.CustomErrorCode;
+import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.jwt.TokenProvider;
+import com.example.emotrak.jwt.Validation;
+import com.example.emotrak.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OAuthLoginEngineTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private TokenProvider tokenProvider;
+    @Mock
+    private Validation validation;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private UserAvailabilityIndex userAvailabilityIndex;
+    @Mock
+    private NicknameAllocator nicknameAllocator;
+
+    private ExecutorService executor;
+    private OAuthLoginEngine oAuthLoginEngine;
+    private FakeAdapter adapter;
+    private final TokenDto tokenDto = new TokenDto("Bearer", "mock_access_token", "mock_refresh_token", 123L);
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        oAuthLoginEngine = new OAuthLoginEngine(userRepository, passwordEncoder, tokenProvider, validation, transactionTemplate, executor, userAvailabilityIndex, nicknameAllocator);
+        adapter = new FakeAdapter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("이미 연동된 유저는 저장 없이 로그인")
+    void linkedUser() {
+        User linkedUser = new User("encodedPassword", "other@email.com", "linked", null, "1234", null, UserRoleEnum.USER);
+        User sameEmailUser = new User("encodedPassword", "mock@email.com", "same", null, null, null, UserRoleEnum.USER);
+        adapter.candidates = List.of(sameEmailUser, linkedUser);
+        runInTransaction();
+        when(tokenProvider.generateTokenDto(linkedUser, UserRoleEnum.USER)).thenReturn(tokenDto);
+
+        oAuthLoginEngine.login(adapter, "mock_code", "mock_state", new MockHttpServletResponse()).join();
+
+        verify(userRepository, never()).save(any(User.class));
+        assertNull(sameEmailUser.getNaverId());
+        assertSame(linkedUser, adapter.loggedIn);
+        verify(validation).tokenToHeaders(eq(tokenDto), any());
+    }
+
+    @Test
+    @DisplayName("같은 이메일의 유저에 제공자 계정 연동")
+    void linkSameEmailUser() {
+        User sameEmailUser = new User("encodedPassword", "mock@email.com", "same", null, null, null, UserRoleEnum.USER);
+        adapter.candidates = List.of(sameEmailUser);
+        runInTransaction();
+        when(tokenProvider.generateTokenDto(sameEmailUser, UserRoleEnum.USER)).thenReturn(tokenDto);
+
+        oAuthLoginEngine.login(adapter, "mock_code", "mock_state", new MockHttpServletResponse()).join();
+
+        assertEquals("1234", sameEmailUser.getNaverId());
+        verify(userRepository).save(sameEmailUser);
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("신규 가입 시 중복된 닉네임이면 접미사를 붙임")
+    void registerWithNicknameSuffix() {
+        runInTransaction();
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(nicknameAllocator.allocate("mock_nickname")).thenReturn("mock_nickname_3");
+        when(tokenProvider.generateTokenDto(any(User.class), eq(UserRoleEnum.USER))).thenReturn(tokenDto);
+
+        oAuthLoginEngine.login(adapter, "mock_code", "mock_state", new MockHttpServletResponse()).join();
+
+        ArgumentCaptor<User> argument = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(argument.capture());
+        assertEquals("mock_nickname_3", argument.getValue().getNickname());
+        assertEquals("1234", argument.getValue().getNaverId());
+        assertEquals("encodedPassword", argument.getValue().getPassword());
+        verify(userAvailabilityIndex).add("mock@email.com", "mock_nickname_3");
+    }
+
+    @Test
+    @DisplayName("신규 가입 시 닉네임이 비어 있으면 그대로 사용")
+    void registerWithFreeNickname() {
+        runInTransaction();
+        when(nicknameAllocator.allocate("mock_nickname")).thenReturn("mock_nickname");
+        when(tokenProvider.generateTokenDto(any(User.class), eq(UserRoleEnum.USER))).thenReturn(tokenDto);
+
+        oAuthLoginEngine.login(adapter, "mock_code", "mock_state", new MockHttpServletResponse()).join();
+
+        ArgumentCaptor<User> argument = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(argument.capture());
+        assertEquals("mock_nickname", argument.getValue().getNickname());
+    }
+
+    @Test
+    @DisplayName("로그인 스레드풀이 가득 차면 OAUTH_LOGIN_BUSY")
+    void rejectedWhenBusy() {
+        executor.shutdown();
+
+        CompletableFuture<Void> login = oAuthLoginEngine.login(adapter, "mock_code", "mock_state", new MockHttpServletResponse());
+
+        CompletionException exception = assertThrows(CompletionException.class, login::join);
+        CustomException cause = assertInstanceOf(CustomException.class, exception.getCause());
+        assertEquals(CustomErrorCode.OAUTH_LOGIN_BUSY, cause.getErrorCode());
+        verifyNoInteractions(userRepository, nicknameAllocator, tokenProvider, validation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runInTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<TokenDto>>getArgument(0).doInTransaction(null));
+    }
+
+    // 네이버처럼 제공자 id 를 문자열로 저장하는 제공자
+    private static class FakeAdapter implements OAuthProviderAdapter {
+        private List<User> candidates = List.of();
+        private User loggedIn;
+
+        @Override
+        public CompletableFuture<OAuthTokenResponseDto> requestToken(String code, String state) {
+            return CompletableFuture.completedFuture(new OAuthTokenResponseDto("mock_token", "mock_refresh"));
+        }
+
+        @Override
+        public CompletableFuture<OauthUserInfoDto> requestUserInfo(String accessToken) {
+            return CompletableFuture.completedFuture(new OauthUserInfoDto("1234", "mock@email.com", "mock_nickname"));
+        }
+
+        @Override
+        public List<User> findByProviderIdOrEmail(String providerId, String email) {
+            return candidates;
+        }
+
+        @Override
+        public boolean isLinked(User user, String providerId) {
+            return providerId.equals(user.getNaverId());
+        }
+
+        @Override
+        public void link(User user, String providerId) {
+            user.naverIdUpdate(providerId);
+        }
+
+        @Override
+        public User createUser(String encodedPassword, String email, String nickname, String providerId) {
+            return new User(encodedPassword, email, nickname, null, providerId, null, UserRoleEnum.USER);
+        }
+
+        @Override
+        public void afterLogin(User user, OAuthTokenResponseDto tokens) {
+            loggedIn = user;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.emotrak.service;
+
+import com.amazonaws.SdkClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3MultipartUploaderTest {
+    private static final String BUCKET = "test-bucket";
+
+    private InMemoryAmazonS3 amazonS3;
+    private ExecutorService executor;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new InMemoryAmazonS3();
+        executor = Executors.newFixedThreadPool(2);
+        uploader = new S3MultipartUploader(amazonS3, executor, 2, DataSize.ofBytes(4), DataSize.ofBytes(10));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상만 멀티파트로 업로드")
+    void isMultipart() {
+        assertFalse(uploader.isMultipart(9));
+        assertTrue(uploader.isMultipart(10));
+    }
+
+    @Test
+    @DisplayName("파트 단위로 나누어 올리고 순서대로 합침")
+    void uploadInParts() throws IOException {
+        // given
+        byte[] content = content(19);
+
+        // when
+        uploader.upload(BUCKET, "large.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        // then
+        assertArrayEquals(content, amazonS3.get(BUCKET, "large.jpg"));
+        assertEquals(0, amazonS3.openMultipartUploads());
+        assertEquals(0, amazonS3.abortedUploads());
+    }
+
+    @Test
+    @DisplayName("파트 업로드 실패 시 멀티파트 업로드 중단")
+    void abortOnPartFailure() {
+        // given
+        byte[] content = content(20);
+        amazonS3.failOnPart(3);
+
+        // when
+        assertThrows(SdkClientException.class, () ->
+                uploader.upload(BUCKET, "large.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg"));
+
+        // then
+        assertNull(amazonS3.get(BUCKET, "large.jpg"));
+        assertEquals(0, amazonS3.openMultipartUploads());
+        assertEquals(1, amazonS3.abortedUploads());
+    }
+
+    @Test
+    @DisplayName("스트림이 Content-Length 보다 짧으면 중단")
+    void abortOnShortStream() {
+        // given
+        byte[] content = Arrays.copyOf(content(20), 15);
+
+        // when
+        assertThrows(IOException.class, () ->
+                uploader.upload(BUCKET, "large.jpg", new ByteArrayInputStream(content), 20, "image/jpeg"));
+
+        // then
+        assertEquals(0, amazonS3.openMultipartUploads());
+        assertEquals(1, amazonS3.abortedUploads());
+    }
+
+    @Test
+    @DisplayName("실패 후에도 메모리 파트 한도가 반환되어 다음 업로드 가능")
+    void permitsReleasedAfterFailure() throws IOException {
+        // given
+        amazonS3.failOnPart(1);
+        assertThrows(SdkClientException.class, () ->
+                uploader.upload(BUCKET, "first.jpg", new ByteArrayInputStream(content(16)), 16, "image/jpeg"));
+        amazonS3.failOnPart(0);
+        byte[] content = content(16);
+
+        // when
+        uploader.upload(BUCKET, "second.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        // then
+        assertArrayEquals(content, amazonS3.get(BUCKET, "second.jpg"));
+    }
+}
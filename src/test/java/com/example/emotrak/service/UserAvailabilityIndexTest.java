@@ -0,0 +1,84 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityIndexTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UserAvailabilityIndex userAvailabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        userAvailabilityIndex = new UserAvailabilityIndex(userRepository, transactionTemplate, new SimpleMeterRegistry(), 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("필터가 만들어지기 전에는 항상 DB 로 확인")
+    void notReady() {
+        assertTrue(userAvailabilityIndex.mightContainEmail("unknown@email.com"));
+        assertTrue(userAvailabilityIndex.mightContainNickname("unknown"));
+    }
+
+    @Test
+    @DisplayName("가입된 값은 DB 로 확인, 대소문자 구분 없음")
+    void rebuild() {
+        rebuildWith(new Object[]{"User@email.com", "비둘기"}, new Object[]{"other@email.com", "Nick"});
+
+        assertTrue(userAvailabilityIndex.mightContainEmail("user@email.com"));
+        assertTrue(userAvailabilityIndex.mightContainNickname("비둘기"));
+        assertTrue(userAvailabilityIndex.mightContainNickname("NICK"));
+        assertFalse(userAvailabilityIndex.mightContainEmail("unknown@email.com"));
+        assertFalse(userAvailabilityIndex.mightContainNickname("unknown"));
+    }
+
+    @Test
+    @DisplayName("가입/닉네임 변경 후 추가된 값은 바로 반영 (트랜잭션 밖)")
+    void addAfterRebuild() {
+        rebuildWith();
+
+        userAvailabilityIndex.add("new@email.com", "새닉네임");
+        userAvailabilityIndex.addNickname("바뀐닉네임");
+
+        assertTrue(userAvailabilityIndex.mightContainEmail("new@email.com"));
+        assertTrue(userAvailabilityIndex.mightContainNickname("새닉네임"));
+        assertTrue(userAvailabilityIndex.mightContainNickname("바뀐닉네임"));
+    }
+
+    @Test
+    @DisplayName("생성에 실패하면 기존 상태(DB 확인) 유지")
+    void rebuildFailure() {
+        when(userRepository.count()).thenReturn(1L);
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("db down"));
+
+        userAvailabilityIndex.rebuild();
+
+        assertTrue(userAvailabilityIndex.mightContainEmail("unknown@email.com"));
+    }
+
+    private void rebuildWith(Object[]... rows) {
+        when(userRepository.count()).thenReturn((long) rows.length);
+        when(userRepository.streamEmailsAndNicknames()).thenReturn(Stream.of(rows));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Long>>getArgument(0).doInTransaction(null));
+        userAvailabilityIndex.rebuild();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPurgeServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private LikesRepository likesRepository;
+    @Mock
+    private ReportRepository reportRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private EmotionStatRepository emotionStatRepository;
+    @Mock
+    private ImageDeleteQueue imageDeleteQueue;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPurgeService userPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userPurgeService = new UserPurgeService(userRepository, likesRepository, reportRepository,
+                commentRepository, boardRepository, refreshTokenRepository, emotionStatRepository, imageDeleteQueue,
+                new TransactionTemplate(transactionManager), meterRegistry, 10, 500);
+    }
+
+    @Test
+    @DisplayName("탈퇴 유저 데이터를 묶음 단위로 삭제")
+    void purgeByChunk() {
+        // given
+        List<Long> likeIds = List.of(1L, 2L);
+        List<Long> commentIds = List.of(3L);
+        List<Long> reportIds = List.of(4L);
+        List<Long> dailyIds = List.of(5L, 6L);
+        List<String> imgUrls = List.of("https://bucket/a.png");
+        when(likesRepository.findIdsByUserId(eq(7L), any(Pageable.class))).thenReturn(likeIds, Collections.emptyList());
+        when(commentRepository.findIdsByUserId(eq(7L), any(Pageable.class))).thenReturn(commentIds, Collections.emptyList());
+        when(reportRepository.findIdsByUserId(eq(7L), any(Pageable.class))).thenReturn(reportIds, Collections.emptyList());
+        when(boardRepository.findIdsByUserId(eq(7L), any(Pageable.class))).thenReturn(dailyIds, Collections.emptyList());
+        when(boardRepository.findImgUrlsByIds(dailyIds)).thenReturn(imgUrls);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+
+        // when
+        userPurgeService.purge(7L);
+
+        // then
+        verify(boardRepository, times(1)).subtractLikeCountByLikeIds(likeIds);
+        verify(commentRepository, times(1)).subtractLikeCountByLikeIds(likeIds);
+        verify(likesRepository, times(1)).deleteAllByIdInBatch(likeIds);
+        verify(likesRepository, times(1)).deleteByCommentIds(commentIds);
+        verify(reportRepository, times(1)).deleteByCommentIds(commentIds);
+        verify(boardRepository, times(1)).subtractCommentCountByCommentIds(commentIds);
+        verify(commentRepository, times(1)).deleteAllByIdInBatch(commentIds);
+        verify(reportRepository, times(1)).deleteAllByIdInBatch(reportIds);
+        verify(likesRepository, times(1)).deleteByDailyIds(dailyIds);
+        verify(reportRepository, times(1)).deleteByDailyIds(dailyIds);
+        verify(commentRepository, times(1)).deleteByDailyIds(dailyIds);
+        verify(boardRepository, times(1)).deleteAllByIdInBatch(dailyIds);
+        verify(imageDeleteQueue, times(1)).enqueueAll(imgUrls);
+        verify(emotionStatRepository, times(1)).deleteByUserId(7L);
+        verify(userRepository, times(1)).deleteById(7L);
+        assertEquals(2.0, meterRegistry.counter("emotrak.user.purge.rows", "table", "likes").count());
+    }
+
+    @Test
+    @DisplayName("한 유저가 실패해도 다음 유저는 계속 정리")
+    void purgeContinuesAfterFailure() {
+        // given
+        when(userRepository.countByWithdrawnTrue()).thenReturn(2L);
+        when(userRepository.findWithdrawnUserIds(any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(likesRepository.findIdsByUserId(eq(1L), any(Pageable.class))).thenThrow(new IllegalStateException("lock timeout"));
+        when(likesRepository.findIdsByUserId(eq(2L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(commentRepository.findIdsByUserId(eq(2L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(reportRepository.findIdsByUserId(eq(2L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(boardRepository.findIdsByUserId(eq(2L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // when
+        userPurgeService.purgeWithdrawnUsers();
+
+        // then
+        verify(userRepository, never()).deleteById(1L);
+        verify(userRepository, times(1)).deleteById(2L);
+        verify(imageDeleteQueue, never()).enqueueAll(any());
+        assertEquals(1.0, meterRegistry.counter("emotrak.user.purge.users").count());
+        assertEquals(1.0, meterRegistry.get("emotrak.user.purge.pending").gauge().value());
+    }
+}
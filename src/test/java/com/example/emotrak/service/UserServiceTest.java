@@ -1,5 +1,6 @@
 package com.example.emotrak.service;
 
+import com.example.emotrak.exception.CustomErrorCode;
 import com.example.emotrak.exception.CustomException;
 import com.example.emotrak.repository.*;
 import com.example.emotrak.service.UserService;
@@ -10,8 +11,10 @@ import com.example.emotrak.entity.RefreshToken;
 import com.example.emotrak.entity.User;
 import com.example.emotrak.entity.UserRoleEnum;
 import com.example.emotrak.exception.CustomException;
+import com.example.emotrak.jwt.RefreshTokenStore;
 import com.example.emotrak.jwt.TokenProvider;
 import com.example.emotrak.jwt.Validation;
+import com.example.emotrak.security.PrincipalCache;
 import com.example.emotrak.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.util.Assert;
 
 import javax.servlet.http.HttpServletRequest;
@@ -54,13 +59,7 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
-    @Mock
-    private LikesRepository likesRepository;
-    @Mock
-    private ReportRepository reportRepository;
-    @Mock
-    private CommentRepository commentRepository;
+    private RefreshTokenStore refreshTokenStore;
     @Mock
     private BoardRepository boardRepository;
     @Mock
@@ -70,16 +69,26 @@ class UserServiceTest {
     @Mock
     private GoogleService googleService;
     @Mock
-    private FileUploadService fileUploadService;
-    @Mock
     private TokenProvider tokenProvider;
     @Mock
     private Validation validation;
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private BoardFeedCache boardFeedCache;
+    @Mock
+    private UserAvailabilityIndex userAvailabilityIndex;
+    @Mock
+    private VerificationCodeStore verificationCodeStore;
 
     @BeforeEach
     void setUp() {
+        // 입력 검증은 실제 UserValidator 로 (DB 조회/암호화는 mock)
+        // 가용성 필터는 만들어지기 전 상태라 중복 확인은 항상 DB(mock)로
+        UserAvailabilityIndex emptyIndex = new UserAvailabilityIndex(userRepository, null, new SimpleMeterRegistry(), 1000, 0.01);
+        ReflectionTestUtils.setField(userService, "userValidator", new UserValidator(userRepository, passwordEncoder, emptyIndex));
         user = new User("qwer1234!", "user12312@gmail.com", "비둘기5", UserRoleEnum.USER);
         user2 = new User("qwer1234!", "user123567@naver.com", "비둘기야13", UserRoleEnum.USER);
         user2.setId(54L);
@@ -105,12 +114,16 @@ class UserServiceTest {
         @Test
         void signup() {
             //when
-            when(userRepository.existsByEmail(user.getEmail())).thenReturn(false);
-            when(userRepository.existsByNickname(user.getNickname())).thenReturn(false);
+            when(userRepository.findEmailsByEmailOrNickname(user.getEmail(), user.getNickname())).thenReturn(List.of());
+            when(verificationCodeStore.isVerified(user.getEmail())).thenReturn(true);
+            when(verificationCodeStore.consumeVerified(user.getEmail())).thenReturn(true);
 
             //then
             userService.signup(signupRequestDto);
-            verify(userRepository, times(1)).saveAndFlush(Mockito.any(User.class));
+            InOrder inOrder = inOrder(userRepository, verificationCodeStore);
+            inOrder.verify(userRepository, times(1)).saveAndFlush(Mockito.any(User.class));
+            inOrder.verify(verificationCodeStore, times(1)).consumeVerified(user.getEmail());
+            verify(userAvailabilityIndex, times(1)).add(user.getEmail(), user.getNickname());
         }
 
         @DisplayName("로그인")
@@ -158,6 +171,8 @@ class UserServiceTest {
             //then
             userService.nicknameUpdate(nicknameRequestDto,user2);
             verify(userRepository, times(1)).save(Mockito.any(User.class));
+            verify(userAvailabilityIndex, times(1)).addNickname(nicknameRequestDto.getNickname());
+            verify(principalCache, times(1)).evict(user2.getEmail());
         }
         @DisplayName("비밀번호 변경")
         @Test
@@ -171,6 +186,7 @@ class UserServiceTest {
 
             //then
             verify(userRepository, times(1)).save(Mockito.any(User.class));
+            verify(principalCache, times(1)).evict(user2.getEmail());
         }
 
 //        @DisplayName("토큰 재발급")
@@ -247,7 +263,8 @@ class UserServiceTest {
             signupRequestDto.setEmail("user123567@naver.com");
 
             //when
-            Mockito.when(userRepository.existsByEmail(signupRequestDto.getEmail())).thenReturn(true);
+            Mockito.when(userRepository.findEmailsByEmailOrNickname(signupRequestDto.getEmail(), signupRequestDto.getNickname()))
+                    .thenReturn(List.of(signupRequestDto.getEmail()));
             CustomException customException = assertThrows(CustomException.class, () -> {
                 userService.signup(signupRequestDto);
             });
@@ -263,7 +280,8 @@ class UserServiceTest {
             signupRequestDto.setNickname("비둘기야밥먹자");
 
             //when
-            Mockito.when(userRepository.existsByNickname(signupRequestDto.getNickname())).thenReturn(true);
+            Mockito.when(userRepository.findEmailsByEmailOrNickname(signupRequestDto.getEmail(), signupRequestDto.getNickname()))
+                    .thenReturn(List.of(user2.getEmail()));
             CustomException customException = assertThrows(CustomException.class, () -> {
                 userService.signup(signupRequestDto);
             });
@@ -272,6 +290,41 @@ class UserServiceTest {
             assertEquals("중복된 닉네임이 존재합니다.", customException.getErrorCode().getMessage());
         }
 
+        @Test
+        @DisplayName("이메일 인증을 하지 않음")
+        public void emailNotVerified() {
+            //when
+            Mockito.when(userRepository.findEmailsByEmailOrNickname(signupRequestDto.getEmail(), signupRequestDto.getNickname()))
+                    .thenReturn(List.of());
+            Mockito.when(verificationCodeStore.isVerified(signupRequestDto.getEmail())).thenReturn(false);
+            CustomException customException = assertThrows(CustomException.class, () -> {
+                userService.signup(signupRequestDto);
+            });
+
+            // then
+            assertEquals(CustomErrorCode.EMAIL_NOT_VERIFIED, customException.getErrorCode());
+            verify(passwordEncoder, never()).encode(Mockito.anyString());
+            verify(userRepository, never()).saveAndFlush(Mockito.any(User.class));
+            verify(verificationCodeStore, never()).consumeVerified(Mockito.anyString());
+        }
+
+        @Test
+        @DisplayName("동시에 가입한 다른 요청이 인증 완료 상태를 먼저 사용함")
+        public void emailVerificationConsumedConcurrently() {
+            //when
+            Mockito.when(userRepository.findEmailsByEmailOrNickname(signupRequestDto.getEmail(), signupRequestDto.getNickname()))
+                    .thenReturn(List.of());
+            Mockito.when(verificationCodeStore.isVerified(signupRequestDto.getEmail())).thenReturn(true);
+            Mockito.when(verificationCodeStore.consumeVerified(signupRequestDto.getEmail())).thenReturn(false);
+            CustomException customException = assertThrows(CustomException.class, () -> {
+                userService.signup(signupRequestDto);
+            });
+
+            // then : 예외로 트랜잭션이 롤백되어 insert 는 반영되지 않음
+            assertEquals(CustomErrorCode.EMAIL_NOT_VERIFIED, customException.getErrorCode());
+            verify(userAvailabilityIndex, never()).add(Mockito.anyString(), Mockito.anyString());
+        }
+
         @Test
         @DisplayName("이메일 형식 틀림")
         public void emailPatternCheck() {
@@ -315,6 +368,8 @@ class UserServiceTest {
 
             // then
             assertEquals("비밀번호 조건을 확인해주세요.", customException.getErrorCode().getMessage());
+            // 형식이 틀리면 DB 중복 확인과 패스워드 암호화를 하지 않음
+            verifyNoInteractions(userRepository, passwordEncoder);
         }
 
         @DisplayName("로그인 이메일 공백")
@@ -613,31 +668,24 @@ class UserServiceTest {
             @Test
             @DisplayName("일반 회원")
             public void a_DeleteUser() {
+                String email = user.getEmail();
                 when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
                 // when
                 userService.deleteUser(user);
 
-                // then
+                // then : 탈퇴 표시와 공유 해제만 하고, 데이터 삭제는 UserPurgeService 에 맡김
                 verify(userRepository, times(1)).findById(user.getId());
                 verify(kakaoService, times(0)).unlinkKakao(user);
                 verify(naverService, times(0)).unlinkNaver(user);
                 verify(googleService, times(0)).unlinkGoogle(user);
-                verify(likesRepository, times(1)).deleteAllByUser(user.getId());
-                verify(reportRepository, times(1)).deleteAllByUser(user.getId());
-                verify(likesRepository, times(1)).deleteCommentLikeByUser(user.getId());
-                verify(reportRepository, times(1)).deleteCommentLikeByUser(user.getId());
-                verify(commentRepository, times(1)).deleteAllByUser(user.getId());
-                verify(likesRepository, times(1)).deleteByUser(user.getId());
-                verify(likesRepository, times(1)).deleteByUserComment(user.getId());
-                verify(reportRepository, times(1)).deleteByUser(user.getId());
-                verify(reportRepository, times(1)).deleteByUserComment(user.getId());
-                verify(commentRepository, times(1)).deleteByUser(user.getId());
-                verify(boardRepository, times(1)).findImgUrlByUser(user);
-                verify(fileUploadService, times(0)).deleteFiles(anyList());
-                verify(boardRepository, times(1)).deleteAllByUser(user.getId());
-                verify(refreshTokenRepository, times(1)).deleteByUser(user);
-                verify(userRepository, times(1)).delete(user);
+                verify(boardRepository, times(1)).unshareAllByUser(user.getId());
+                verify(boardFeedCache, times(1)).evictAll();
+                verify(refreshTokenStore, times(1)).revoke(user);
+                verify(principalCache, times(1)).evict(email);
+                verify(userRepository, never()).delete(user);
+                assertEquals(true, user.isWithdrawn());
+                assertEquals("withdrawn-" + user.getId(), user.getEmail());
             }
 
             @Test
@@ -658,23 +706,6 @@ class UserServiceTest {
                 verify(naverService, times(1)).unlinkNaver(user);
                 verify(googleService, times(1)).unlinkGoogle(user);
             }
-
-            @Test
-            @DisplayName("파일 등록 회원")
-            public void c_DeleteFileUser() {
-                List<String> imgList = new ArrayList<>();
-                imgList.add("img1");
-                imgList.add("img2");
-
-                when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-                when(boardRepository.findImgUrlByUser(user)).thenReturn(imgList);
-
-                // when
-                userService.deleteUser(user);
-
-                // then
-                verify(fileUploadService, times(1)).deleteFiles(anyList());
-            }
         }
         @Nested
         @DisplayName("실패 케이스")
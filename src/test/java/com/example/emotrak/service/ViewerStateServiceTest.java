@@ -0,0 +1,115 @@
+package com.example.emotrak.service;
+
+import com.example.emotrak.dto.viewer.ViewerFlagDto;
+import com.example.emotrak.dto.viewer.ViewerFlagDtoImpl;
+import com.example.emotrak.repository.LikesRepository;
+import com.example.emotrak.service.ViewerStateService.ViewerState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewerStateServiceTest {
+    @Mock
+    private LikesRepository likesRepository;
+
+    private ViewerStateService viewerStateService;
+
+    @BeforeEach
+    void setUp() {
+        viewerStateService = new ViewerStateService(likesRepository, 100, 30, 2000);
+    }
+
+    @Test
+    @DisplayName("요청한 id 순서대로 좋아요/신고 비트셋 반환")
+    void lookupByIndex() {
+        // given
+        when(likesRepository.findViewerFlags(1L, List.of(10L, 11L), List.of(20L, 21L))).thenReturn(List.of(
+                new ViewerFlagDtoImpl(ViewerFlagDto.DAILY_REPORT, 11L),
+                new ViewerFlagDtoImpl(ViewerFlagDto.COMMENT_LIKE, 20L),
+                new ViewerFlagDtoImpl(ViewerFlagDto.COMMENT_REPORT, 20L)));
+
+        // when
+        ViewerState state = viewerStateService.lookup(1L, List.of(10L, 11L), List.of(20L, 21L));
+
+        // then
+        assertFalse(state.isDailyLiked(0));
+        assertFalse(state.isDailyReported(0));
+        assertTrue(state.isDailyReported(1));
+        assertTrue(state.isCommentLiked(0));
+        assertTrue(state.isCommentReported(0));
+        assertFalse(state.isCommentLiked(1));
+    }
+
+    @Test
+    @DisplayName("이미 조회한 id 는 캐시에서, 처음 보는 id 만 조회")
+    void lookupOnlyUnknownIds() {
+        // given
+        when(likesRepository.findViewerFlags(eq(1L), anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        viewerStateService.lookup(1L, List.of(10L), List.of(20L, 21L));
+
+        // when
+        viewerStateService.lookup(1L, List.of(10L), List.of(20L, 21L));
+        viewerStateService.lookup(1L, List.of(10L), List.of(21L, 22L));
+
+        // then : 두 번째는 조회 없음, 세 번째는 22 만 조회 (게시글 id 는 0 으로 채움)
+        verify(likesRepository, times(2)).findViewerFlags(eq(1L), anyCollection(), anyCollection());
+        verify(likesRepository, times(1)).findViewerFlags(1L, List.of(0L), List.of(22L));
+    }
+
+    @Test
+    @DisplayName("좋아요/신고 후 무효화하면 다시 조회")
+    void evictReloads() {
+        // given
+        when(likesRepository.findViewerFlags(1L, List.of(10L), List.of(0L)))
+                .thenReturn(Collections.emptyList(), List.of(new ViewerFlagDtoImpl(ViewerFlagDto.DAILY_LIKE, 10L)));
+        assertFalse(viewerStateService.lookup(1L, List.of(10L), List.of()).isDailyLiked(0));
+
+        // when
+        viewerStateService.evict(1L);
+
+        // then
+        assertTrue(viewerStateService.lookup(1L, List.of(10L), List.of()).isDailyLiked(0));
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 캐시에 남기지 않고, 캐시에 있던 상태도 고치지 않음")
+    void evictDuringLookup() {
+        // given : 게시글 10 은 캐시에 있음
+        when(likesRepository.findViewerFlags(1L, List.of(10L), List.of(0L)))
+                .thenReturn(Collections.emptyList(), List.of(new ViewerFlagDtoImpl(ViewerFlagDto.DAILY_LIKE, 10L)));
+        viewerStateService.lookup(1L, List.of(10L), List.of());
+        // 게시글 11 을 조회하는 동안 좋아요가 커밋됨
+        when(likesRepository.findViewerFlags(1L, List.of(11L), List.of(0L))).thenAnswer(invocation -> {
+            viewerStateService.evict(1L);
+            return Collections.emptyList();
+        });
+
+        // when
+        viewerStateService.lookup(1L, List.of(10L, 11L), List.of());
+
+        // then : 다음 조회는 캐시 없이 다시 조회
+        assertTrue(viewerStateService.lookup(1L, List.of(10L), List.of()).isDailyLiked(0));
+        verify(likesRepository, times(2)).findViewerFlags(1L, List.of(10L), List.of(0L));
+    }
+
+    @Test
+    @DisplayName("비회원은 조회하지 않음")
+    void anonymousViewer() {
+        ViewerState state = viewerStateService.lookup(null, List.of(10L), List.of(20L));
+
+        assertFalse(state.isDailyLiked(0));
+        assertFalse(state.isCommentReported(0));
+        verifyNoInteractions(likesRepository);
+    }
+}
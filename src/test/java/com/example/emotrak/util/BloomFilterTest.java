@@ -0,0 +1,56 @@
+package com.example.emotrak.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음으로 판단 (false negative 없음)")
+    void noFalseNegative() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@email.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣었을 때 오탐률이 목표치 근처")
+    void falsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("nickname" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) falsePositives++;
+        }
+        // 목표 1%, 해시 편차를 감안해 2% 이하면 통과
+        assertTrue(falsePositives < 2_000, "falsePositives=" + falsePositives);
+    }
+
+    @Test
+    @DisplayName("비트 수와 해시 수 계산")
+    void sizing() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // m = -n ln(p) / (ln 2)^2 ≈ 9585, k = m / n * ln 2 ≈ 7
+        assertEquals(9585, filter.bitSize());
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    @DisplayName("잘못된 인자")
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+    }
+}
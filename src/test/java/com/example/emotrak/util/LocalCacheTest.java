@@ -0,0 +1,84 @@
+package com.example.emotrak.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalCacheTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("ttl 이 지나면 만료")
+    void expireAfterTtl() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofSeconds(60), now::get);
+        cache.put("a", "1");
+
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertEquals("1", cache.getIfPresent("a"));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    void evictLeastRecentlyUsed() {
+        LocalCache<String, String> cache = new LocalCache<>(2, Duration.ofSeconds(60), now::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.getIfPresent("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+        assertEquals("3", cache.getIfPresent("c"));
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 항목만 무효화")
+    void invalidateIf() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofSeconds(60), now::get);
+        cache.put("user@a.com|USER", "1");
+        cache.put("other@a.com|USER", "2");
+
+        cache.invalidateIf(key -> key.startsWith("user@a.com|"));
+
+        assertNull(cache.getIfPresent("user@a.com|USER"));
+        assertEquals("2", cache.getIfPresent("other@a.com|USER"));
+    }
+
+    @Test
+    @DisplayName("유효한 값이 있으면 저장하지 않고 기존 값 반환, 만료되면 새로 저장")
+    void putIfAbsent() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofSeconds(60), now::get);
+
+        assertNull(cache.putIfAbsent("a", "1"));
+        assertEquals("1", cache.putIfAbsent("a", "2"));
+        assertEquals("1", cache.getIfPresent("a"));
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertNull(cache.putIfAbsent("a", "3"));
+        assertEquals("3", cache.getIfPresent("a"));
+    }
+
+    @Test
+    @DisplayName("remove 는 유효한 값을 한 번만 반환, 만료된 값은 null")
+    void remove() {
+        LocalCache<String, String> cache = new LocalCache<>(10, Duration.ofSeconds(60), now::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        assertEquals("1", cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertNull(cache.getIfPresent("a"));
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertNull(cache.remove("b"));
+        assertEquals(0, cache.size());
+    }
+}
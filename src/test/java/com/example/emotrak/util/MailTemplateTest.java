@@ -0,0 +1,25 @@
+package com.example.emotrak.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateTest {
+
+    @Test
+    @DisplayName("자리표시자를 값으로 바꿔 본문 생성")
+    void render() {
+        MailTemplate template = MailTemplate.compile("<td>{{code}}</td>", "{{code}}");
+
+        assertEquals("<td>123456</td>", template.render("123456"));
+        assertEquals("<td>000000</td>", template.render("000000"));
+    }
+
+    @Test
+    @DisplayName("자리표시자가 없거나 여러 개면 생성 실패")
+    void invalidTemplate() {
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("<td></td>", "{{code}}"));
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("{{code}}{{code}}", "{{code}}"));
+    }
+}
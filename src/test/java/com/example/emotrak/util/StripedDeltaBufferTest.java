@@ -0,0 +1,58 @@
+package com.example.emotrak.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedDeltaBufferTest {
+
+    @Test
+    @DisplayName("증감값을 합산하고 drain 하면 비워짐")
+    void addAndDrain() {
+        StripedDeltaBuffer buffer = new StripedDeltaBuffer(4);
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(2L, 1);
+        buffer.add(2L, -1);
+
+        assertEquals(2L, buffer.pending(1L));
+
+        Map<Long, Long> drained = buffer.drain();
+        assertEquals(Map.of(1L, 2L), drained);
+        assertEquals(0L, buffer.pending(1L));
+        assertTrue(buffer.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("동시에 증감해도 drain 합계가 유실되지 않음")
+    void concurrentAddWhileDraining() throws InterruptedException {
+        StripedDeltaBuffer buffer = new StripedDeltaBuffer(4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.add((long) (i % 3), 1);
+                }
+                done.countDown();
+            });
+        }
+
+        long total = 0;
+        while (done.getCount() > 0) {
+            total += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        }
+        total += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(80_000L, total);
+    }
+}